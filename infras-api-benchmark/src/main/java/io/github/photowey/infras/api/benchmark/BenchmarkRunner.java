@@ -0,0 +1,61 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * {@code BenchmarkRunner}
+ * <p>
+ * Runs the {@code infras-api} benchmarks with the {@code -prof gc} profiler always attached,
+ * so every report carries {@code gc.alloc.rate.norm} (bytes allocated per operation).
+ * <p>
+ * Any regular {@code JMH} command line option is accepted, e.g.
+ * <pre>
+ * java -jar infras-api-benchmark/target/infras-api-benchmarks.jar PageResultBenchmark -rf json
+ * </pre>
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public final class BenchmarkRunner {
+
+    public static final String BENCHMARK_PACKAGE = "io.github.photowey.infras.api.benchmark";
+
+    private BenchmarkRunner() {
+        throw new AssertionError("No " + this.getClass().getName() + " instances for you!");
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions cmd = new CommandLineOptions(args);
+
+        OptionsBuilder builder = new OptionsBuilder();
+        builder.parent(cmd).addProfiler(GCProfiler.class);
+        if (cmd.getIncludes().isEmpty()) {
+            builder.include(BENCHMARK_PACKAGE + ".*");
+        }
+
+        Options options = builder.build();
+        new Runner(options).run();
+    }
+}
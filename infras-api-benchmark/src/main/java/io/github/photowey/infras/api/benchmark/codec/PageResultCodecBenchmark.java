@@ -0,0 +1,130 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.benchmark.codec;
+
+import io.github.photowey.infras.api.benchmark.fixture.BenchmarkItem;
+import io.github.photowey.infras.api.core.codec.CompactInput;
+import io.github.photowey.infras.api.core.codec.CompactOutput;
+import io.github.photowey.infras.api.core.codec.ItemCodec;
+import io.github.photowey.infras.api.core.codec.ItemCodecs;
+import io.github.photowey.infras.api.core.codec.PageResultCodec;
+import io.github.photowey.infras.api.core.meta.Meta;
+import io.github.photowey.infras.api.core.model.page.PageResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code PageResultCodecBenchmark}
+ * <p>
+ * The compact codec with a hand-written item codec against default Java serialization
+ * (which now goes through the compact serialization proxy with the dynamic item codec).
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PageResultCodecBenchmark {
+
+    private static final ItemCodec<BenchmarkItem> ITEM_CODEC = new ItemCodec<BenchmarkItem>() {
+        @Override
+        public void write(CompactOutput out, BenchmarkItem item) {
+            ItemCodecs.int64().write(out, item.getId());
+            ItemCodecs.string().write(out, item.getName());
+            ItemCodecs.string().write(out, item.getStatus());
+            ItemCodecs.int64().write(out, item.getAmount());
+            ItemCodecs.int64().write(out, item.getCreatedAt());
+        }
+
+        @Override
+        public BenchmarkItem read(CompactInput in) {
+            return new BenchmarkItem(
+                    ItemCodecs.int64().read(in),
+                    ItemCodecs.string().read(in),
+                    ItemCodecs.string().read(in),
+                    ItemCodecs.int64().read(in),
+                    ItemCodecs.int64().read(in)
+            );
+        }
+    };
+
+    @Param({"10", "100", "1000"})
+    private int size;
+
+    private PageResultCodec<BenchmarkItem> codec;
+
+    private PageResult<BenchmarkItem> page;
+    private byte[] compact;
+    private byte[] serialized;
+
+    @Setup
+    public void setup() throws IOException {
+        this.codec = PageResultCodec.of(ITEM_CODEC);
+        this.page = PageResult.staticOf(BenchmarkItem.populateItems(this.size), Meta.populateMeta(100_000L, 1L, (long) this.size));
+        this.compact = this.codec.encode(this.page);
+        this.serialized = this.serialize();
+    }
+
+    // ----------------------------------------------------------------
+
+    @Benchmark
+    public byte[] encode() {
+        return this.codec.encode(this.page);
+    }
+
+    @Benchmark
+    public PageResult<BenchmarkItem> decode() {
+        return this.codec.decode(this.compact);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(this.page);
+        }
+
+        return bytes.toByteArray();
+    }
+
+    @Benchmark
+    public Object deserialize() throws IOException, ClassNotFoundException {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(this.serialized))) {
+            return in.readObject();
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.benchmark.fixture;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@code BenchmarkItem}
+ * <p>
+ * A typical list-row payload used by the benchmarks.
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public class BenchmarkItem implements Serializable {
+
+    private static final long serialVersionUID = 5319370391427880227L;
+
+    private Long id;
+    private String name;
+    private String status;
+    private Long amount;
+    private Long createdAt;
+
+    public BenchmarkItem() {
+    }
+
+    public BenchmarkItem(Long id, String name, String status, Long amount, Long createdAt) {
+        this.id = id;
+        this.name = name;
+        this.status = status;
+        this.amount = amount;
+        this.createdAt = createdAt;
+    }
+
+    // ----------------------------------------------------------------
+
+    public static List<BenchmarkItem> populateItems(int size) {
+        List<BenchmarkItem> items = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            items.add(new BenchmarkItem((long) i, "item-" + i, (i & 1) == 0 ? "ACTIVE" : "INACTIVE", i * 100L, 1_700_000_000_000L + i));
+        }
+
+        return items;
+    }
+
+    // ----------------------------------------------------------------
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public Long getAmount() {
+        return amount;
+    }
+
+    public void setAmount(Long amount) {
+        this.amount = amount;
+    }
+
+    public Long getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Long createdAt) {
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.benchmark.jackson;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.github.photowey.infras.api.benchmark.fixture.BenchmarkItem;
+import io.github.photowey.infras.api.core.jackson.InfrasApiModule;
+import io.github.photowey.infras.api.core.jackson.PageResultEnvelopeWriter;
+import io.github.photowey.infras.api.core.meta.Meta;
+import io.github.photowey.infras.api.core.model.page.PageResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code PageResultJacksonBenchmark}
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PageResultJacksonBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int size;
+
+    /**
+     * {@code true}: the hand-written envelope (de)serializers of {@link InfrasApiModule}; {@code false}: reflective bean (de)serializers.
+     */
+    @Param({"false", "true"})
+    private boolean module;
+
+    private ObjectWriter writer;
+    private ObjectReader reader;
+    private PageResultEnvelopeWriter envelopeWriter;
+
+    private PageResult<BenchmarkItem> page;
+    private byte[] payload;
+
+    @Setup
+    public void setup() throws JsonProcessingException {
+        ObjectMapper mapper = new ObjectMapper();
+        if (this.module) {
+            mapper.registerModule(new InfrasApiModule());
+        }
+        JavaType type = mapper.getTypeFactory().constructType(new TypeReference<PageResult<BenchmarkItem>>() {});
+
+        this.writer = mapper.writerFor(type);
+        this.reader = mapper.readerFor(type);
+        this.envelopeWriter = PageResultEnvelopeWriter.of(mapper);
+
+        this.page = PageResult.staticOf(BenchmarkItem.populateItems(this.size), Meta.populateMeta(100_000L, 1L, (long) this.size));
+        this.payload = this.writer.writeValueAsBytes(this.page);
+    }
+
+    // ----------------------------------------------------------------
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return this.writer.writeValueAsBytes(this.page);
+    }
+
+    @Benchmark
+    public byte[] serializeEnvelope() {
+        return this.envelopeWriter.writeValueAsBytes(this.page);
+    }
+
+    @Benchmark
+    public PageResult<BenchmarkItem> deserialize() throws IOException {
+        return this.reader.readValue(this.payload);
+    }
+
+    @Benchmark
+    public PageResult<BenchmarkItem> roundTrip() throws IOException {
+        return this.reader.readValue(this.writer.writeValueAsBytes(this.page));
+    }
+}
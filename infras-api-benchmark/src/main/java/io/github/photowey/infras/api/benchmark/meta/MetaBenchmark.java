@@ -0,0 +1,89 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.benchmark.meta;
+
+import io.github.photowey.infras.api.benchmark.fixture.BenchmarkItem;
+import io.github.photowey.infras.api.core.meta.Meta;
+import io.github.photowey.infras.api.core.model.page.PageResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code MetaBenchmark}
+ * <p>
+ * {@code count} values above {@code 127} fall outside the {@code Long} cache on purpose.
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MetaBenchmark {
+
+    @Param({"0", "100", "1000000"})
+    private long count;
+
+    private Long boxedCount;
+    private Long pageNo;
+    private Long pageSize;
+    private PageResult<BenchmarkItem> page;
+
+    @Setup
+    public void setup() {
+        this.boxedCount = this.count;
+        this.pageNo = 3L;
+        this.pageSize = 10L;
+        this.page = PageResult.staticOf(BenchmarkItem.populateItems(10), Meta.populateMeta(this.boxedCount, this.pageNo, this.pageSize));
+    }
+
+    // ----------------------------------------------------------------
+
+    @Benchmark
+    public Meta populateMeta() {
+        return Meta.populateMeta(this.boxedCount, this.pageNo, this.pageSize);
+    }
+
+    @Benchmark
+    public Meta populateMetaPageSize() {
+        return Meta.populateMeta(this.pageSize);
+    }
+
+    @Benchmark
+    public Meta populateDefaultMeta() {
+        return Meta.populateDefaultMeta();
+    }
+
+    @Benchmark
+    public Meta populateMetaFromPage() {
+        return Meta.populateMeta(this.page);
+    }
+}
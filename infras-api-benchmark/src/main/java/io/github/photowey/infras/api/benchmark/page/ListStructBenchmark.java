@@ -0,0 +1,105 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.benchmark.page;
+
+import io.github.photowey.infras.api.benchmark.fixture.BenchmarkItem;
+import io.github.photowey.infras.api.core.meta.Meta;
+import io.github.photowey.infras.api.core.model.page.struct.ListStruct;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code ListStructBenchmark}
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ListStructBenchmark {
+
+    private List<BenchmarkItem> items;
+    private Meta meta;
+    private Map<String, Object> additional;
+
+    @Setup
+    public void setup() {
+        this.items = BenchmarkItem.populateItems(10);
+        this.meta = Meta.populateMeta(10_000L, 3L, 10L);
+        this.additional = new HashMap<>(2);
+        this.additional.put("tenant", "benchmark");
+    }
+
+    // ----------------------------------------------------------------
+
+    @Benchmark
+    public ListStruct<BenchmarkItem> newEmpty() {
+        return new ListStruct<>();
+    }
+
+    @Benchmark
+    public ListStruct<BenchmarkItem> newList() {
+        return new ListStruct<>(this.items);
+    }
+
+    @Benchmark
+    public ListStruct<BenchmarkItem> newListMeta() {
+        return new ListStruct<>(this.items, this.meta);
+    }
+
+    @Benchmark
+    public ListStruct<BenchmarkItem> newListMetaAdditional() {
+        return new ListStruct<>(this.items, this.meta, this.additional);
+    }
+
+    @Benchmark
+    public ListStruct<BenchmarkItem> newPaginationFields() {
+        return new ListStruct<>(3L, 10L, 10_000L, this.items);
+    }
+
+    @Benchmark
+    public ListStruct<BenchmarkItem> createListMetaAdditional() {
+        return ListStruct.create(this.items, this.meta, this.additional);
+    }
+
+    @Benchmark
+    public ListStruct<BenchmarkItem> empty() {
+        return ListStruct.empty();
+    }
+
+    @Benchmark
+    public ListStruct<BenchmarkItem> unmodifiableEmpty() {
+        return ListStruct.unmodifiableEmpty();
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.benchmark.page;
+
+import io.github.photowey.infras.api.benchmark.fixture.BenchmarkItem;
+import io.github.photowey.infras.api.core.meta.Meta;
+import io.github.photowey.infras.api.core.model.page.PageResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * {@code PageResultBenchmark}
+ * <p>
+ * Covers every {@code PageResult.staticOf(...)} overload plus the empty envelopes.
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PageResultBenchmark {
+
+    @Param({"10", "100"})
+    private int size;
+
+    private List<BenchmarkItem> items;
+    private Meta meta;
+    private Map<String, Object> additional;
+    private PageResult<BenchmarkItem> source;
+    private Function<List<BenchmarkItem>, List<BenchmarkItem>> transfer;
+
+    @Setup
+    public void setup() {
+        this.items = BenchmarkItem.populateItems(this.size);
+        this.meta = Meta.populateMeta(10_000L, 3L, (long) this.size);
+        this.additional = new HashMap<>(2);
+        this.additional.put("tenant", "benchmark");
+        this.source = PageResult.staticOf(this.items, this.meta);
+        this.transfer = Function.identity();
+    }
+
+    // ----------------------------------------------------------------
+
+    @Benchmark
+    public PageResult<BenchmarkItem> staticOfList() {
+        return PageResult.staticOf(this.items);
+    }
+
+    @Benchmark
+    public PageResult<BenchmarkItem> staticOfListMeta() {
+        return PageResult.staticOf(this.items, this.meta);
+    }
+
+    @Benchmark
+    public PageResult<BenchmarkItem> staticOfListMetaAdditional() {
+        return PageResult.staticOf(this.items, this.meta, this.additional);
+    }
+
+    @Benchmark
+    public PageResult<BenchmarkItem> staticOfListAdditional() {
+        return PageResult.staticOf(this.items, this.additional);
+    }
+
+    @Benchmark
+    public PageResult<BenchmarkItem> staticOfPageTransfer() {
+        return PageResult.staticOf(this.source, this.transfer);
+    }
+
+    @Benchmark
+    public PageResult<BenchmarkItem> staticOfPageAdditionalTransfer() {
+        return PageResult.staticOf(this.source, this.additional, this.transfer);
+    }
+
+    @Benchmark
+    public PageResult<BenchmarkItem> staticOfListMetaAdditionalTransfer() {
+        return PageResult.staticOf(this.items, this.meta, this.additional, this.transfer);
+    }
+
+    // ----------------------------------------------------------------
+
+    @Benchmark
+    public PageResult<BenchmarkItem> emptyStatic() {
+        return PageResult.emptyStatic();
+    }
+
+    @Benchmark
+    public PageResult<BenchmarkItem> empty() {
+        return PageResult.empty();
+    }
+
+    @Benchmark
+    public PageResult<BenchmarkItem> unmodifiableEmpty() {
+        return PageResult.unmodifiableEmpty();
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.benchmark.pagination;
+
+import io.github.photowey.infras.api.benchmark.fixture.BenchmarkPagination;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code PaginationBenchmark}
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PaginationBenchmark {
+
+    @Param({"1", "100", "50000"})
+    private long pageNo;
+
+    private BenchmarkPagination pagination;
+
+    @Setup
+    public void setup() {
+        this.pagination = new BenchmarkPagination();
+        this.pagination.selectPage(this.pageNo, 20L);
+    }
+
+    // ----------------------------------------------------------------
+
+    @Benchmark
+    public Long getOffset() {
+        return this.pagination.getOffset();
+    }
+
+    @Benchmark
+    public Long getLimit() {
+        return this.pagination.getLimit();
+    }
+
+    @Benchmark
+    public Long getPageNo() {
+        return this.pagination.getPageNo();
+    }
+
+    @Benchmark
+    public long offsetAsLong() {
+        return this.pagination.offsetAsLong();
+    }
+
+    @Benchmark
+    public long limitAsLong() {
+        return this.pagination.limitAsLong();
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.benchmark.validator;
+
+import io.github.photowey.infras.api.common.validator.ValueValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code ValueValidatorBenchmark}
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValueValidatorBenchmark {
+
+    @Param({"null", "long", "string", "blank", "list", "emptyList", "map", "objectArray", "intArray", "iterator"})
+    private String type;
+
+    private Object value;
+
+    @Setup
+    public void setup() {
+        this.value = this.populateValue();
+    }
+
+    private Object populateValue() {
+        switch (this.type) {
+            case "null":
+                return null;
+            case "long":
+                return 100_000L;
+            case "string":
+                return "photowey";
+            case "blank":
+                return "        ";
+            case "list":
+                return new ArrayList<>(Arrays.asList(1, 2, 3));
+            case "emptyList":
+                return new ArrayList<>(0);
+            case "map":
+                HashMap<String, Object> map = new HashMap<>(2);
+                map.put("k", "v");
+                return map;
+            case "objectArray":
+                return new Object[]{1, 2};
+            case "intArray":
+                return new int[]{1, 2};
+            case "iterator":
+                return Arrays.asList(1, 2, 3).iterator();
+            default:
+                throw new IllegalArgumentException("Unsupported value type: " + this.type);
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    @Benchmark
+    public boolean isNullOrEmpty() {
+        return ValueValidator.isNullOrEmpty(this.value);
+    }
+
+    @Benchmark
+    public boolean isNotNullOrEmpty() {
+        return ValueValidator.isNotNullOrEmpty(this.value);
+    }
+}
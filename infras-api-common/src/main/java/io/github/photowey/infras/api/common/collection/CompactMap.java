@@ -0,0 +1,437 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.common.collection;
+
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * {@code CompactMap}
+ * <p>
+ * A small {@link Map} for the handful of entries of {@code additional}: up to {@value #THRESHOLD} entries
+ * are kept in parallel key/value arrays (plus the key hashes) and looked up by a linear scan,
+ * without an entry object per mapping. Beyond that the entries are promoted to a {@link LinkedHashMap}.
+ * <p>
+ * Iteration follows the insertion order, before and after the promotion; re-putting a key keeps its position.
+ * {@code null} keys and values are permitted. Not thread-safe.
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public class CompactMap<K, V> extends AbstractMap<K, V> implements Serializable {
+
+    private static final long serialVersionUID = -6148304385734150027L;
+
+    /**
+     * The largest inline size; a linear scan over this many keys beats hashing.
+     */
+    public static final int THRESHOLD = 8;
+
+    private static final Object[] EMPTY = new Object[0];
+    private static final int[] EMPTY_HASHES = new int[0];
+
+    /**
+     * Derived from the keys, rebuilt on deserialization since {@code hashCode()} may differ between JVMs.
+     */
+    private transient int[] hashes;
+    private Object[] keys;
+    private Object[] values;
+    private int size;
+
+    /**
+     * The promoted storage, {@code null} while inline.
+     */
+    private LinkedHashMap<K, V> promoted;
+
+    private transient int modCount;
+    private transient Set<Entry<K, V>> entrySet;
+
+    public CompactMap() {
+        this.hashes = EMPTY_HASHES;
+        this.keys = EMPTY;
+        this.values = EMPTY;
+    }
+
+    /**
+     * @param initialCapacity the expected entries; above {@value #THRESHOLD} the map starts promoted
+     */
+    public CompactMap(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal compact map capacity: " + initialCapacity);
+        }
+        if (initialCapacity > THRESHOLD) {
+            this.hashes = EMPTY_HASHES;
+            this.keys = EMPTY;
+            this.values = EMPTY;
+            this.promoted = new LinkedHashMap<>((int) (initialCapacity / 0.75F) + 1);
+            return;
+        }
+
+        this.hashes = 0 == initialCapacity ? EMPTY_HASHES : new int[initialCapacity];
+        this.keys = 0 == initialCapacity ? EMPTY : new Object[initialCapacity];
+        this.values = 0 == initialCapacity ? EMPTY : new Object[initialCapacity];
+    }
+
+    public CompactMap(Map<? extends K, ? extends V> source) {
+        this(source.size());
+        this.putAll(source);
+    }
+
+    // ----------------------------------------------------------------
+
+    public boolean determineIsPromoted() {
+        return null != this.promoted;
+    }
+
+    @Override
+    public int size() {
+        return null != this.promoted ? this.promoted.size() : this.size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return 0 == this.size();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        if (null != this.promoted) {
+            return this.promoted.containsKey(key);
+        }
+
+        return this.indexOf(key) >= 0;
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        if (null != this.promoted) {
+            return this.promoted.containsValue(value);
+        }
+        for (int i = 0; i < this.size; i++) {
+            if (Objects.equals(value, this.values[i])) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        if (null != this.promoted) {
+            return this.promoted.get(key);
+        }
+
+        int index = this.indexOf(key);
+        return index >= 0 ? (V) this.values[index] : null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V put(K key, V value) {
+        if (null != this.promoted) {
+            return this.promoted.put(key, value);
+        }
+
+        int hash = hash(key);
+        int index = this.indexOf(key, hash);
+        if (index >= 0) {
+            V previous = (V) this.values[index];
+            this.values[index] = value;
+            return previous;
+        }
+
+        if (this.size == THRESHOLD) {
+            this.promote();
+            return this.promoted.put(key, value);
+        }
+
+        this.ensureCapacity(this.size + 1);
+        this.hashes[this.size] = hash;
+        this.keys[this.size] = key;
+        this.values[this.size] = value;
+        this.size++;
+        this.modCount++;
+
+        return null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V remove(Object key) {
+        if (null != this.promoted) {
+            return this.promoted.remove(key);
+        }
+
+        int index = this.indexOf(key);
+        if (index < 0) {
+            return null;
+        }
+
+        V previous = (V) this.values[index];
+        this.removeAt(index);
+
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        if (null != this.promoted) {
+            this.promoted.clear();
+            return;
+        }
+
+        Arrays.fill(this.keys, 0, this.size, null);
+        Arrays.fill(this.values, 0, this.size, null);
+        this.size = 0;
+        this.modCount++;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        if (null != this.promoted) {
+            this.promoted.forEach(action);
+            return;
+        }
+
+        int expected = this.modCount;
+        for (int i = 0; i < this.size; i++) {
+            action.accept((K) this.keys[i], (V) this.values[i]);
+            if (expected != this.modCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        if (null != this.promoted) {
+            return this.promoted.entrySet();
+        }
+
+        Set<Entry<K, V>> view = this.entrySet;
+        if (null == view) {
+            view = new EntrySet();
+            this.entrySet = view;
+        }
+
+        return view;
+    }
+
+    // ----------------------------------------------------------------
+
+    private int indexOf(Object key) {
+        return this.indexOf(key, hash(key));
+    }
+
+    private int indexOf(Object key, int hash) {
+        for (int i = 0; i < this.size; i++) {
+            if (hash == this.hashes[i] && Objects.equals(key, this.keys[i])) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    private void removeAt(int index) {
+        int tail = this.size - index - 1;
+        if (tail > 0) {
+            System.arraycopy(this.hashes, index + 1, this.hashes, index, tail);
+            System.arraycopy(this.keys, index + 1, this.keys, index, tail);
+            System.arraycopy(this.values, index + 1, this.values, index, tail);
+        }
+
+        this.size--;
+        this.keys[this.size] = null;
+        this.values[this.size] = null;
+        this.modCount++;
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= this.keys.length) {
+            return;
+        }
+
+        int capacity = Math.min(THRESHOLD, Math.max(required, this.keys.length << 1));
+        this.hashes = Arrays.copyOf(this.hashes, capacity);
+        this.keys = Arrays.copyOf(this.keys, capacity);
+        this.values = Arrays.copyOf(this.values, capacity);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void promote() {
+        LinkedHashMap<K, V> target = new LinkedHashMap<>(THRESHOLD << 2);
+        for (int i = 0; i < this.size; i++) {
+            target.put((K) this.keys[i], (V) this.values[i]);
+        }
+
+        this.promoted = target;
+        this.hashes = EMPTY_HASHES;
+        this.keys = EMPTY;
+        this.values = EMPTY;
+        this.size = 0;
+        this.modCount++;
+        this.entrySet = null;
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        if (null == this.keys || null == this.values || this.keys.length != this.values.length
+                || this.size < 0 || this.size > this.keys.length || (null != this.promoted && 0 != this.size)) {
+            throw new InvalidObjectException("Corrupted compact map");
+        }
+
+        this.hashes = 0 == this.keys.length ? EMPTY_HASHES : new int[this.keys.length];
+        for (int i = 0; i < this.size; i++) {
+            this.hashes[i] = hash(this.keys[i]);
+        }
+    }
+
+    private static int hash(Object key) {
+        return null == key ? 0 : key.hashCode();
+    }
+
+    // ----------------------------------------------------------------
+
+    private final class EntrySet extends AbstractSet<Entry<K, V>> {
+
+        @Override
+        public int size() {
+            return CompactMap.this.size();
+        }
+
+        @Override
+        public void clear() {
+            CompactMap.this.clear();
+        }
+
+        @Override
+        public Iterator<Entry<K, V>> iterator() {
+            if (null != CompactMap.this.promoted) {
+                return CompactMap.this.promoted.entrySet().iterator();
+            }
+
+            return new EntryIterator();
+        }
+    }
+
+    private final class EntryIterator implements Iterator<Entry<K, V>> {
+
+        private int next;
+        private int last = -1;
+        private int expected = CompactMap.this.modCount;
+
+        @Override
+        public boolean hasNext() {
+            return this.next < CompactMap.this.size;
+        }
+
+        @Override
+        public Entry<K, V> next() {
+            if (this.expected != CompactMap.this.modCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (this.next >= CompactMap.this.size) {
+                throw new NoSuchElementException();
+            }
+
+            this.last = this.next++;
+            return new InlineEntry(this.last);
+        }
+
+        @Override
+        public void remove() {
+            if (this.last < 0) {
+                throw new IllegalStateException();
+            }
+            if (this.expected != CompactMap.this.modCount) {
+                throw new ConcurrentModificationException();
+            }
+
+            CompactMap.this.removeAt(this.last);
+            this.next = this.last;
+            this.last = -1;
+            this.expected = CompactMap.this.modCount;
+        }
+    }
+
+    /**
+     * A view of one inline slot; {@link #setValue(Object)} writes through.
+     */
+    private final class InlineEntry implements Entry<K, V> {
+
+        private final int index;
+
+        private InlineEntry(int index) {
+            this.index = index;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public K getKey() {
+            return (K) CompactMap.this.keys[this.index];
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public V getValue() {
+            return (V) CompactMap.this.values[this.index];
+        }
+
+        @Override
+        public V setValue(V value) {
+            V previous = this.getValue();
+            CompactMap.this.values[this.index] = value;
+            return previous;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Entry)) {
+                return false;
+            }
+
+            Entry<?, ?> that = (Entry<?, ?>) o;
+            return Objects.equals(this.getKey(), that.getKey()) && Objects.equals(this.getValue(), that.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(this.getKey()) ^ Objects.hashCode(this.getValue());
+        }
+
+        public String toString() {
+            return this.getKey() + "=" + this.getValue();
+        }
+    }
+}
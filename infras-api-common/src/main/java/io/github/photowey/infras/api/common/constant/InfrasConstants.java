@@ -15,8 +15,10 @@
  */
 package io.github.photowey.infras.api.common.constant;
 
+import io.github.photowey.infras.api.common.collection.CompactMap;
+
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
@@ -83,8 +85,25 @@ public interface InfrasConstants {
             return emptyMap(2);
         }
 
+        /**
+         * A {@link CompactMap}: inline arrays for the usual few entries, insertion-ordered.
+         */
         static Map<String, Object> emptyMap(int initialCapacity) {
-            return new HashMap<>(initialCapacity);
+            return new CompactMap<>(initialCapacity);
+        }
+
+        /**
+         * Shared and allocation-free, for values that are only read or replaced.
+         */
+        static <T> List<T> unmodifiableEmptyList() {
+            return Collections.emptyList();
+        }
+
+        /**
+         * Shared and allocation-free, for values that are only read or replaced.
+         */
+        static Map<String, Object> unmodifiableEmptyMap() {
+            return Collections.emptyMap();
         }
     }
 }
@@ -0,0 +1,51 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.common.number;
+
+/**
+ * {@code NullableLongs}
+ * <p>
+ * Stores a nullable {@code Long} in a primitive {@code long} slot,
+ * using {@link #ABSENT} ({@link Long#MIN_VALUE}) as the {@code null} marker.
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public final class NullableLongs {
+
+    public static final long ABSENT = Long.MIN_VALUE;
+
+    private NullableLongs() {
+        throw new AssertionError("No " + this.getClass().getName() + " instances for you!");
+    }
+
+    public static long unbox(Long value) {
+        return null != value ? value : ABSENT;
+    }
+
+    public static Long box(long value) {
+        return ABSENT != value ? Long.valueOf(value) : null;
+    }
+
+    public static boolean isAbsent(long value) {
+        return ABSENT == value;
+    }
+
+    public static long defaultIfAbsent(long value, long defaultValue) {
+        return ABSENT != value ? value : defaultValue;
+    }
+}
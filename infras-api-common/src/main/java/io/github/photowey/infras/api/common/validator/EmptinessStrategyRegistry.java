@@ -0,0 +1,172 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.common.validator;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * {@code EmptinessStrategyRegistry}
+ * <p>
+ * Resolves the {@link EmptinessStrategy} of a type once and caches it per class with a {@link ClassValue},
+ * so {@link ValueValidator#isNullOrEmpty(Object)} is a single lookup plus a monomorphic call.
+ * User-registered types take precedence over the built-in ones.
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public final class EmptinessStrategyRegistry {
+
+    private static final EmptinessStrategy<Object> NEVER_EMPTY = value -> false;
+
+    private static final EmptinessStrategy<CharSequence> CHAR_SEQUENCE = ValueValidator::isBlank;
+    private static final EmptinessStrategy<Collection<?>> COLLECTION = Collection::isEmpty;
+    private static final EmptinessStrategy<Map<?, ?>> MAP = Map::isEmpty;
+    private static final EmptinessStrategy<Iterator<?>> ITERATOR = value -> !value.hasNext();
+    private static final EmptinessStrategy<Enumeration<?>> ENUMERATION = value -> !value.hasMoreElements();
+
+    private static final EmptinessStrategy<Object[]> OBJECT_ARRAY = value -> value.length == 0;
+    private static final EmptinessStrategy<boolean[]> BOOLEAN_ARRAY = value -> value.length == 0;
+    private static final EmptinessStrategy<byte[]> BYTE_ARRAY = value -> value.length == 0;
+    private static final EmptinessStrategy<char[]> CHAR_ARRAY = value -> value.length == 0;
+    private static final EmptinessStrategy<short[]> SHORT_ARRAY = value -> value.length == 0;
+    private static final EmptinessStrategy<int[]> INT_ARRAY = value -> value.length == 0;
+    private static final EmptinessStrategy<long[]> LONG_ARRAY = value -> value.length == 0;
+    private static final EmptinessStrategy<float[]> FLOAT_ARRAY = value -> value.length == 0;
+    private static final EmptinessStrategy<double[]> DOUBLE_ARRAY = value -> value.length == 0;
+
+    private static volatile Map<Class<?>, EmptinessStrategy<Object>> registered = Collections.emptyMap();
+    private static volatile ClassValue<EmptinessStrategy<Object>> strategies = populateStrategies();
+
+    private EmptinessStrategyRegistry() {
+        throw new AssertionError("No " + this.getClass().getName() + " instances for you!");
+    }
+
+    // ----------------------------------------------------------------
+
+    public static EmptinessStrategy<Object> determine(Class<?> type) {
+        return strategies.get(type);
+    }
+
+    /**
+     * Registers a strategy for a type and its subtypes.
+     * Registration is rare: it rebuilds the per-class cache.
+     *
+     * @param type     the type
+     * @param strategy the strategy
+     * @param <T>      the value type
+     */
+    @SuppressWarnings("unchecked")
+    public static synchronized <T> void register(Class<T> type, EmptinessStrategy<? super T> strategy) {
+        if (null == type || null == strategy) {
+            throw new IllegalArgumentException("The type and strategy must not be null");
+        }
+
+        Map<Class<?>, EmptinessStrategy<Object>> target = new LinkedHashMap<>(registered);
+        target.put(type, (EmptinessStrategy<Object>) strategy);
+
+        registered = Collections.unmodifiableMap(target);
+        strategies = populateStrategies();
+    }
+
+    public static synchronized void unregister(Class<?> type) {
+        if (!registered.containsKey(type)) {
+            return;
+        }
+
+        Map<Class<?>, EmptinessStrategy<Object>> target = new LinkedHashMap<>(registered);
+        target.remove(type);
+
+        registered = Collections.unmodifiableMap(target);
+        strategies = populateStrategies();
+    }
+
+    // ----------------------------------------------------------------
+
+    private static ClassValue<EmptinessStrategy<Object>> populateStrategies() {
+        return new ClassValue<EmptinessStrategy<Object>>() {
+            @Override
+            protected EmptinessStrategy<Object> computeValue(Class<?> type) {
+                return resolve(type);
+            }
+        };
+    }
+
+    /**
+     * Mirrors the historical {@code instanceof} chain of {@link ValueValidator#isNullOrEmpty(Object)}.
+     */
+    @SuppressWarnings("unchecked")
+    private static EmptinessStrategy<Object> resolve(Class<?> type) {
+        for (Map.Entry<Class<?>, EmptinessStrategy<Object>> entry : registered.entrySet()) {
+            if (entry.getKey().isAssignableFrom(type)) {
+                return entry.getValue();
+            }
+        }
+
+        EmptinessStrategy<?> strategy;
+        if (CharSequence.class.isAssignableFrom(type)) {
+            strategy = CHAR_SEQUENCE;
+        } else if (Collection.class.isAssignableFrom(type)) {
+            strategy = COLLECTION;
+        } else if (Map.class.isAssignableFrom(type)) {
+            strategy = MAP;
+        } else if (Iterator.class.isAssignableFrom(type)) {
+            strategy = ITERATOR;
+        } else if (Enumeration.class.isAssignableFrom(type)) {
+            strategy = ENUMERATION;
+        } else if (type.isArray()) {
+            strategy = resolveArray(type.getComponentType());
+        } else {
+            strategy = NEVER_EMPTY;
+        }
+
+        return (EmptinessStrategy<Object>) strategy;
+    }
+
+    private static EmptinessStrategy<?> resolveArray(Class<?> componentType) {
+        if (!componentType.isPrimitive()) {
+            return OBJECT_ARRAY;
+        }
+        if (int.class == componentType) {
+            return INT_ARRAY;
+        }
+        if (long.class == componentType) {
+            return LONG_ARRAY;
+        }
+        if (byte.class == componentType) {
+            return BYTE_ARRAY;
+        }
+        if (char.class == componentType) {
+            return CHAR_ARRAY;
+        }
+        if (double.class == componentType) {
+            return DOUBLE_ARRAY;
+        }
+        if (float.class == componentType) {
+            return FLOAT_ARRAY;
+        }
+        if (short.class == componentType) {
+            return SHORT_ARRAY;
+        }
+
+        return BOOLEAN_ARRAY;
+    }
+}
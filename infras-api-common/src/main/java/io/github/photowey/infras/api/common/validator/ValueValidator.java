@@ -51,28 +51,30 @@ public final class ValueValidator {
         return !isBlank(sequence);
     }
 
+    /**
+     * A single entry point on purpose: typed overloads would make {@code isNullOrEmpty(null)} ambiguous
+     * and bypass {@link #registerEmptinessStrategy(Class, EmptinessStrategy)}.
+     * The per-class dispatch is cached by {@link EmptinessStrategyRegistry}.
+     */
     public static boolean isNullOrEmpty(Object value) {
         if (null == value) {
             return true;
         }
-        if (value instanceof CharSequence) {
-            return isBlank((CharSequence) value);
-        }
-        if (isCollectionsType(value)) {
-            return sizeIsEmpty(value);
-        }
 
-        return false;
+        return EmptinessStrategyRegistry.determine(value.getClass()).isEmpty(value);
     }
 
     public static boolean isNotNullOrEmpty(Object value) {
         return !isNullOrEmpty(value);
     }
 
-    private static boolean isCollectionsType(Object value) {
-        return value instanceof Collection || value instanceof Map
-                || value instanceof Enumeration || value instanceof Iterator
-                || value.getClass().isArray();
+    // ----------------------------------------------------------------
+
+    /**
+     * @see EmptinessStrategyRegistry#register(Class, EmptinessStrategy)
+     */
+    public static <T> void registerEmptinessStrategy(Class<T> type, EmptinessStrategy<? super T> strategy) {
+        EmptinessStrategyRegistry.register(type, strategy);
     }
 
     public static <T> T defaultIfNullOrEmpty(final T source, final T defaultValue) {
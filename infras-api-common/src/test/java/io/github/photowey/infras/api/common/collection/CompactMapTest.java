@@ -0,0 +1,179 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.common.collection;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * {@code CompactMapTest}
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public class CompactMapTest {
+
+    // ----------------------------------------------------------------
+
+    @Test
+    public void testPut_keepsTheInsertionOrder() {
+        CompactMap<String, Object> map = new CompactMap<>();
+        map.put("b", 1);
+        map.put("a", 2);
+        map.put("c", 3);
+        map.put("a", 4);
+
+        Assert.assertEquals(Arrays.asList("b", "a", "c"), new ArrayList<>(map.keySet()));
+        Assert.assertEquals(4, map.get("a"));
+        Assert.assertEquals(3, map.size());
+    }
+
+    @Test
+    public void testPut_promotesBeyondTheThreshold() {
+        CompactMap<String, Object> map = new CompactMap<>();
+        Map<String, Object> expected = new LinkedHashMap<>();
+        for (int i = 0; i < CompactMap.THRESHOLD; i++) {
+            map.put("k" + i, i);
+            expected.put("k" + i, i);
+        }
+        Assert.assertFalse(map.determineIsPromoted());
+
+        map.put("last", -1);
+        expected.put("last", -1);
+        Assert.assertTrue(map.determineIsPromoted());
+        Assert.assertEquals(new ArrayList<>(expected.keySet()), new ArrayList<>(map.keySet()));
+        Assert.assertEquals(expected, map);
+    }
+
+    @Test
+    public void testNullKeysAndValues() {
+        CompactMap<String, Object> map = new CompactMap<>();
+        map.put(null, "x");
+        map.put("n", null);
+
+        Assert.assertEquals("x", map.get(null));
+        Assert.assertTrue(map.containsKey("n"));
+        Assert.assertTrue(map.containsValue(null));
+        Assert.assertNull(map.remove("absent"));
+        Assert.assertEquals("x", map.remove(null));
+        Assert.assertFalse(map.containsKey(null));
+    }
+
+    @Test
+    public void testEqualsAndHashCode_matchHashMap() {
+        CompactMap<String, Object> map = new CompactMap<>();
+        Map<String, Object> expected = new HashMap<>();
+        for (String key : Arrays.asList("x", "y", "z")) {
+            map.put(key, key.length());
+            expected.put(key, key.length());
+        }
+
+        Assert.assertEquals(expected, map);
+        Assert.assertEquals(map, expected);
+        Assert.assertEquals(expected.hashCode(), map.hashCode());
+    }
+
+    @Test
+    public void testEntryIterator_removeAndSetValue() {
+        CompactMap<String, Object> map = new CompactMap<>();
+        map.put("a", 1);
+        map.put("b", 2);
+        map.put("c", 3);
+
+        Iterator<Map.Entry<String, Object>> it = map.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<String, Object> entry = it.next();
+            if ("b".equals(entry.getKey())) {
+                it.remove();
+            } else {
+                entry.setValue(10);
+            }
+        }
+
+        Assert.assertEquals(Arrays.asList("a", "c"), new ArrayList<>(map.keySet()));
+        Assert.assertEquals(Arrays.<Object>asList(10, 10), new ArrayList<>(map.values()));
+    }
+
+    @Test(expected = ConcurrentModificationException.class)
+    public void testEntryIterator_failsFast() {
+        CompactMap<String, Object> map = new CompactMap<>();
+        map.put("a", 1);
+        map.put("b", 2);
+
+        for (String key : map.keySet()) {
+            map.put(key + key, 3);
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    @Test
+    public void testSerialization_inline() throws IOException, ClassNotFoundException {
+        CompactMap<String, Object> map = new CompactMap<>();
+        map.put("a", 1);
+        map.put(null, 2);
+
+        CompactMap<String, Object> decoded = roundTrip(map);
+
+        Assert.assertFalse(decoded.determineIsPromoted());
+        Assert.assertEquals(map, decoded);
+        Assert.assertEquals(2, decoded.get(null));
+
+        decoded.put("c", 3);
+        decoded.remove("a");
+        Assert.assertEquals(Arrays.asList(null, "c"), new ArrayList<>(decoded.keySet()));
+    }
+
+    @Test
+    public void testSerialization_promoted() throws IOException, ClassNotFoundException {
+        CompactMap<String, Object> map = new CompactMap<>(CompactMap.THRESHOLD + 1);
+        for (int i = 0; i < CompactMap.THRESHOLD + 2; i++) {
+            map.put("k" + i, i);
+        }
+
+        CompactMap<String, Object> decoded = roundTrip(map);
+
+        Assert.assertTrue(decoded.determineIsPromoted());
+        Assert.assertEquals(new ArrayList<>(map.keySet()), new ArrayList<>(decoded.keySet()));
+    }
+
+    // ----------------------------------------------------------------
+
+    @SuppressWarnings("unchecked")
+    private static <K, V> CompactMap<K, V> roundTrip(CompactMap<K, V> map) throws IOException, ClassNotFoundException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(map);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            return (CompactMap<K, V>) in.readObject();
+        }
+    }
+}
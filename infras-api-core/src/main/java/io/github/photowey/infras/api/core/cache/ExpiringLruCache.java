@@ -0,0 +1,373 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.core.cache;
+
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * {@code ExpiringLruCache}
+ * <p>
+ * A size-bounded cache with a write TTL, least-recently-used eviction approximated by CLOCK (second chance),
+ * and an optional stale-while-revalidate window: past {@code refreshAfterWrite} (but before the TTL)
+ * the stale value is still served while a single background reload replaces it.
+ * <p>
+ * Hits take no lock: entries live in a {@link ConcurrentHashMap} and a hit only marks its entry as referenced.
+ * Every write appends the new entry to the clock queue; while the cache is over its maximum size,
+ * the write pops entries from the head under a lock, giving referenced ones a second chance at the tail and
+ * evicting the first unreferenced one. Each write thus does a constant amortized amount of work, without scans or sorts.
+ * Admission is not frequency-based (no W-TinyLFU): a burst of one-off keys can flush the hot entries.
+ * <p>
+ * A load or refresh only writes its value back if the entry it started from is still current:
+ * an {@link #invalidate(Object) invalidation} or a newer {@link #put(Object, Object) put} in the meantime wins.
+ * <p>
+ * Concurrent misses on one key share a single load. {@code null} keys are not supported and {@code null} values are never cached.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public class ExpiringLruCache<K, V> {
+
+    /**
+     * The clock queue is drained of replaced and invalidated entries once it holds this many times the maximum size.
+     */
+    static final int CLOCK_SLACK_FACTOR = 2;
+
+    private final int maximumSize;
+    private final long expireAfterWriteNanos;
+    private final long refreshAfterWriteNanos;
+    private final Executor refreshExecutor;
+
+    private final ConcurrentMap<K, CacheEntry<K, V>> entries = new ConcurrentHashMap<>();
+    private final ConcurrentMap<K, CompletableFuture<V>> loading = new ConcurrentHashMap<>();
+    private final PageCacheStats stats = new PageCacheStats();
+
+    /**
+     * Every written entry in write order; entries no longer in {@link #entries} are dropped when they reach the head.
+     */
+    private final Queue<CacheEntry<K, V>> clock = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger clockSize = new AtomicInteger();
+    private final Object evictionLock = new Object();
+
+    /**
+     * @param maximumSize       the maximum number of entries
+     * @param expireAfterWrite  the TTL of an entry
+     * @param refreshAfterWrite the age after which a hit triggers a background reload; {@code 0} disables it
+     * @param unit              the unit of the durations
+     * @param refreshExecutor   runs the background reloads; required when {@code refreshAfterWrite > 0}
+     */
+    public ExpiringLruCache(int maximumSize, long expireAfterWrite, long refreshAfterWrite, TimeUnit unit, Executor refreshExecutor) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("Invalid cache maximum size: " + maximumSize);
+        }
+        if (expireAfterWrite <= 0L) {
+            throw new IllegalArgumentException("Invalid cache expireAfterWrite: " + expireAfterWrite);
+        }
+        if (refreshAfterWrite < 0L || (refreshAfterWrite > 0L && refreshAfterWrite >= expireAfterWrite)) {
+            throw new IllegalArgumentException("The cache refreshAfterWrite must be shorter than expireAfterWrite: " + refreshAfterWrite);
+        }
+        if (refreshAfterWrite > 0L && null == refreshExecutor) {
+            throw new IllegalArgumentException("The cache refresh executor must not be null");
+        }
+
+        this.maximumSize = maximumSize;
+        this.expireAfterWriteNanos = unit.toNanos(expireAfterWrite);
+        this.refreshAfterWriteNanos = unit.toNanos(refreshAfterWrite);
+        this.refreshExecutor = refreshExecutor;
+    }
+
+    // ----------------------------------------------------------------
+
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        long now = System.nanoTime();
+        CacheEntry<K, V> entry = this.lookup(key, now);
+        if (null != entry) {
+            this.stats.recordHit();
+            if (this.refreshAfterWriteNanos > 0L && now - entry.writtenAt >= this.refreshAfterWriteNanos) {
+                this.refresh(key, entry, loader);
+            }
+
+            return entry.value;
+        }
+
+        this.stats.recordMiss();
+        return this.load(key, loader);
+    }
+
+    public V getIfPresent(K key) {
+        CacheEntry<K, V> entry = this.lookup(key, System.nanoTime());
+        if (null == entry) {
+            this.stats.recordMiss();
+            return null;
+        }
+
+        this.stats.recordHit();
+        return entry.value;
+    }
+
+    public void put(K key, V value) {
+        if (null == value) {
+            this.invalidate(key);
+            return;
+        }
+
+        CacheEntry<K, V> entry = new CacheEntry<>(key, value, System.nanoTime());
+        this.entries.put(key, entry);
+        this.admit(entry);
+    }
+
+    /**
+     * Also detaches an in-flight load of the key, so it cannot write back a value read before the invalidation.
+     */
+    public void invalidate(K key) {
+        this.loading.remove(key);
+        this.entries.remove(key);
+    }
+
+    public void invalidateIf(Predicate<? super K> predicate) {
+        this.loading.keySet().removeIf(predicate);
+        this.entries.keySet().removeIf(predicate);
+    }
+
+    public void invalidateAll() {
+        this.loading.clear();
+        this.entries.clear();
+    }
+
+    /**
+     * Drops the expired entries now instead of on their next lookup.
+     */
+    public void cleanUp() {
+        long now = System.nanoTime();
+        Iterator<CacheEntry<K, V>> it = this.entries.values().iterator();
+        while (it.hasNext()) {
+            if (this.determineIsExpired(it.next(), now)) {
+                it.remove();
+                this.stats.recordExpiration();
+            }
+        }
+    }
+
+    public int size() {
+        return this.entries.size();
+    }
+
+    public PageCacheStats stats() {
+        return this.stats;
+    }
+
+    public int maximumSize() {
+        return this.maximumSize;
+    }
+
+    // ----------------------------------------------------------------
+
+    private CacheEntry<K, V> lookup(K key, long now) {
+        CacheEntry<K, V> entry = this.entries.get(key);
+        if (null == entry) {
+            return null;
+        }
+        if (this.determineIsExpired(entry, now)) {
+            if (this.entries.remove(key, entry)) {
+                this.stats.recordExpiration();
+            }
+            return null;
+        }
+
+        if (!entry.referenced) {
+            entry.referenced = true;
+        }
+        return entry;
+    }
+
+    private void admit(CacheEntry<K, V> entry) {
+        this.clock.offer(entry);
+        int queued = this.clockSize.incrementAndGet();
+        if (this.entries.size() > this.maximumSize || queued > (long) this.maximumSize * CLOCK_SLACK_FACTOR) {
+            this.evict();
+        }
+    }
+
+    /**
+     * Advances the clock until the cache fits its maximum size and the queue its slack:
+     * stale and expired entries are dropped, referenced ones get a second chance, the first other one is evicted.
+     */
+    private void evict() {
+        synchronized (this.evictionLock) {
+            long now = System.nanoTime();
+            long slack = (long) this.maximumSize * CLOCK_SLACK_FACTOR;
+            while (true) {
+                boolean oversized = this.entries.size() > this.maximumSize;
+                if (!oversized && this.clockSize.get() <= slack) {
+                    return;
+                }
+
+                CacheEntry<K, V> head = this.clock.poll();
+                if (null == head) {
+                    return;
+                }
+                if (this.entries.get(head.key) != head) {
+                    // replaced, invalidated or already evicted
+                    this.clockSize.decrementAndGet();
+                } else if (this.determineIsExpired(head, now)) {
+                    this.clockSize.decrementAndGet();
+                    if (this.entries.remove(head.key, head)) {
+                        this.stats.recordExpiration();
+                    }
+                } else if (!oversized) {
+                    // only draining the stale entries, keep the live ones as they are
+                    this.clock.offer(head);
+                } else if (head.referenced) {
+                    head.referenced = false;
+                    this.clock.offer(head);
+                } else {
+                    this.clockSize.decrementAndGet();
+                    if (this.entries.remove(head.key, head)) {
+                        this.stats.recordEviction();
+                    }
+                }
+            }
+        }
+    }
+
+    private boolean determineIsExpired(CacheEntry<K, V> entry, long now) {
+        return now - entry.writtenAt >= this.expireAfterWriteNanos;
+    }
+
+    private V load(K key, Function<? super K, ? extends V> loader) {
+        CompletableFuture<V> future = new CompletableFuture<>();
+        CompletableFuture<V> inflight = this.loading.putIfAbsent(key, future);
+        if (null != inflight) {
+            return this.join(inflight);
+        }
+
+        CacheEntry<K, V> observed = this.entries.get(key);
+        try {
+            V value = loader.apply(key);
+            this.writeBack(key, observed, value, future);
+            future.complete(value);
+
+            return value;
+        } catch (RuntimeException | Error e) {
+            this.stats.recordLoadFailure();
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            this.loading.remove(key, future);
+        }
+    }
+
+    /**
+     * Writes a loaded value unless the entry moved on from {@code observed} or the load was detached by an invalidation.
+     */
+    private void writeBack(K key, CacheEntry<K, V> observed, V value, CompletableFuture<V> load) {
+        CacheEntry<K, V> fresh = null != value ? new CacheEntry<>(key, value, System.nanoTime()) : null;
+        CacheEntry<K, V> current = this.entries.compute(key, (k, present) ->
+                present == observed && this.loading.get(k) == load ? fresh : present);
+        if (null != fresh && current == fresh) {
+            this.admit(fresh);
+        }
+    }
+
+    private V join(CompletableFuture<V> inflight) {
+        try {
+            return inflight.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+
+            throw e;
+        }
+    }
+
+    private void refresh(K key, CacheEntry<K, V> stale, Function<? super K, ? extends V> loader) {
+        if (!stale.refreshing.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            this.refreshExecutor.execute(() -> {
+                try {
+                    this.replace(key, stale, loader.apply(key));
+                } catch (RuntimeException e) {
+                    // keep serving the stale value, the next hit retries
+                    this.stats.recordLoadFailure();
+                } finally {
+                    stale.refreshing.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            stale.refreshing.set(false);
+        }
+    }
+
+    /**
+     * Replaces {@code stale} only if it is still the current entry: an invalidation or a newer put wins over the refresh.
+     */
+    private void replace(K key, CacheEntry<K, V> stale, V value) {
+        if (null == value) {
+            this.entries.remove(key, stale);
+            return;
+        }
+
+        CacheEntry<K, V> fresh = new CacheEntry<>(key, value, System.nanoTime());
+        if (this.entries.replace(key, stale, fresh)) {
+            this.stats.recordRefresh();
+            this.admit(fresh);
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    private static final class CacheEntry<K, V> {
+
+        private final K key;
+        private final V value;
+        private final long writtenAt;
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+
+        /**
+         * The CLOCK bit: set by hits, cleared when the clock hand passes the entry.
+         */
+        private volatile boolean referenced;
+
+        private CacheEntry(K key, V value, long writtenAt) {
+            this.key = key;
+            this.value = value;
+            this.writtenAt = writtenAt;
+        }
+    }
+}
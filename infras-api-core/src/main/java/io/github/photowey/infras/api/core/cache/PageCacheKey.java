@@ -0,0 +1,97 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.core.cache;
+
+import io.github.photowey.infras.api.core.pagination.AbstractPagination;
+
+import java.io.Serializable;
+
+/**
+ * {@code PageCacheKey}
+ * <p>
+ * Identifies a cached page: the query fingerprint (the query plus its filter values)
+ * and the effective {@code pageNo}/{@code pageSize}.
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public final class PageCacheKey implements Serializable {
+
+    private static final long serialVersionUID = 4262771520163580713L;
+
+    private final String fingerprint;
+    private final long pageNo;
+    private final long pageSize;
+
+    private PageCacheKey(String fingerprint, long pageNo, long pageSize) {
+        this.fingerprint = fingerprint;
+        this.pageNo = pageNo;
+        this.pageSize = pageSize;
+    }
+
+    // ----------------------------------------------------------------
+
+    public static PageCacheKey of(String fingerprint, AbstractPagination pagination) {
+        return of(fingerprint, pagination.pageNoAsLong(), pagination.pageSizeAsLong());
+    }
+
+    public static PageCacheKey of(String fingerprint, long pageNo, long pageSize) {
+        if (null == fingerprint) {
+            throw new IllegalArgumentException("The page cache fingerprint must not be null");
+        }
+
+        return new PageCacheKey(fingerprint, pageNo, pageSize);
+    }
+
+    // ----------------------------------------------------------------
+
+    public String fingerprint() {
+        return this.fingerprint;
+    }
+
+    public long pageNo() {
+        return this.pageNo;
+    }
+
+    public long pageSize() {
+        return this.pageSize;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof PageCacheKey)) {
+            return false;
+        }
+
+        PageCacheKey that = (PageCacheKey) o;
+        return this.pageNo == that.pageNo && this.pageSize == that.pageSize && this.fingerprint.equals(that.fingerprint);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = this.fingerprint.hashCode();
+        hash = 31 * hash + Long.hashCode(this.pageNo);
+        return 31 * hash + Long.hashCode(this.pageSize);
+    }
+
+    public String toString() {
+        return "PageCacheKey(fingerprint=" + this.fingerprint + ", pageNo=" + this.pageNo + ", pageSize=" + this.pageSize + ")";
+    }
+}
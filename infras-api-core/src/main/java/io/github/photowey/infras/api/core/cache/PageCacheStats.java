@@ -0,0 +1,112 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.core.cache;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@code PageCacheStats}
+ * <p>
+ * Running counters of an {@link ExpiringLruCache}, cheap to record from many threads.
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public final class PageCacheStats {
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+    private final LongAdder refreshes = new LongAdder();
+    private final LongAdder loadFailures = new LongAdder();
+
+    // ----------------------------------------------------------------
+
+    void recordHit() {
+        this.hits.increment();
+    }
+
+    void recordMiss() {
+        this.misses.increment();
+    }
+
+    void recordEviction() {
+        this.evictions.increment();
+    }
+
+    void recordExpiration() {
+        this.expirations.increment();
+    }
+
+    void recordRefresh() {
+        this.refreshes.increment();
+    }
+
+    void recordLoadFailure() {
+        this.loadFailures.increment();
+    }
+
+    // ----------------------------------------------------------------
+
+    public long hitCount() {
+        return this.hits.sum();
+    }
+
+    public long missCount() {
+        return this.misses.sum();
+    }
+
+    /**
+     * @return the entries dropped because the cache was full
+     */
+    public long evictionCount() {
+        return this.evictions.sum();
+    }
+
+    /**
+     * @return the entries dropped because their TTL had passed
+     */
+    public long expirationCount() {
+        return this.expirations.sum();
+    }
+
+    /**
+     * @return the stale entries reloaded in the background
+     */
+    public long refreshCount() {
+        return this.refreshes.sum();
+    }
+
+    public long loadFailureCount() {
+        return this.loadFailures.sum();
+    }
+
+    public long requestCount() {
+        return this.hitCount() + this.missCount();
+    }
+
+    public double hitRate() {
+        long requests = this.requestCount();
+        return 0L == requests ? 1.0D : (double) this.hitCount() / requests;
+    }
+
+    public String toString() {
+        return "PageCacheStats(hits=" + this.hitCount() + ", misses=" + this.missCount() + ", evictions=" + this.evictionCount()
+                + ", expirations=" + this.expirationCount() + ", refreshes=" + this.refreshCount() + ", loadFailures=" + this.loadFailureCount() + ")";
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.core.cache;
+
+import io.github.photowey.infras.api.common.constant.InfrasConstants;
+import io.github.photowey.infras.api.core.meta.Meta;
+import io.github.photowey.infras.api.core.model.page.PageResult;
+import io.github.photowey.infras.api.core.pagination.AbstractPagination;
+import io.github.photowey.infras.api.core.pagination.policy.PaginationRejectedException;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * {@code PageResultCache}
+ * <p>
+ * Caches built pages by {@link PageCacheKey}, and their counts by query fingerprint
+ * in a second cache with a longer TTL and stale-while-revalidate refresh,
+ * since the count of a listing changes far more slowly than its page contents.
+ * <p>
+ * Cached pages are unmodifiable and shared between callers.
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public class PageResultCache {
+
+    private final ExpiringLruCache<PageCacheKey, PageResult<?>> pages;
+    private final ExpiringLruCache<String, Long> counts;
+
+    public PageResultCache(ExpiringLruCache<PageCacheKey, PageResult<?>> pages, ExpiringLruCache<String, Long> counts) {
+        this.pages = pages;
+        this.counts = counts;
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * @param pagination  the pagination of the request
+     * @param fingerprint identifies the query and its filter values, e.g. a normalized SQL plus its arguments
+     * @param count       the count query, only called when the count is not cached
+     * @param page        the page query, only called when the page is not cached and may contain rows
+     * @param <T>         the item type
+     * @return the cached or freshly built, unmodifiable page
+     * @throws PaginationRejectedException if the pagination policy rejects the page
+     */
+    @SuppressWarnings("unchecked")
+    public <T> PageResult<T> get(AbstractPagination pagination, String fingerprint, Supplier<Long> count, Supplier<List<T>> page) {
+        pagination.ensureAllowed();
+        pagination.recordRequest();
+        long pageNo = pagination.pageNoAsLong();
+        long pageSize = pagination.pageSizeAsLong();
+        long offset = pagination.offsetAsLong();
+
+        return (PageResult<T>) this.pages.get(PageCacheKey.of(fingerprint, pageNo, pageSize), key -> {
+            long total = this.count(fingerprint, count);
+            Meta meta = Meta.populateMeta(total, pageNo, pageSize);
+            if (total <= InfrasConstants.Pagination.EMPTY || offset >= total) {
+                return PageResult.unmodifiableOf(InfrasConstants.Collection.unmodifiableEmptyList(), meta);
+            }
+
+            return PageResult.unmodifiableOf(page.get(), meta);
+        });
+    }
+
+    public long count(String fingerprint, Supplier<Long> count) {
+        Long total = this.counts.get(fingerprint, key -> count.get());
+        return null != total ? total : InfrasConstants.Pagination.EMPTY;
+    }
+
+    /**
+     * Drops the count and every cached page of a query, e.g. after a write to the listed rows.
+     */
+    public void evict(String fingerprint) {
+        this.counts.invalidate(fingerprint);
+        this.pages.invalidateIf(key -> key.fingerprint().equals(fingerprint));
+    }
+
+    public void evictAll() {
+        this.counts.invalidateAll();
+        this.pages.invalidateAll();
+    }
+
+    public void cleanUp() {
+        this.counts.cleanUp();
+        this.pages.cleanUp();
+    }
+
+    // ----------------------------------------------------------------
+
+    public PageCacheStats pageStats() {
+        return this.pages.stats();
+    }
+
+    public PageCacheStats countStats() {
+        return this.counts.stats();
+    }
+
+    public int pageSize() {
+        return this.pages.size();
+    }
+
+    public int countSize() {
+        return this.counts.size();
+    }
+
+    // ----------------------------------------------------------------
+
+    public static PageResultCacheBuilder builder() {
+        return new PageResultCacheBuilder();
+    }
+
+    // ----------------------------------------------------------------
+
+    public static class PageResultCacheBuilder {
+
+        private int pageMaximumSize = 1024;
+        private long pageExpireAfterWriteNanos = TimeUnit.SECONDS.toNanos(30L);
+
+        private int countMaximumSize = 1024;
+        private long countExpireAfterWriteNanos = TimeUnit.MINUTES.toNanos(10L);
+        private long countRefreshAfterWriteNanos;
+
+        private Executor refreshExecutor;
+
+        PageResultCacheBuilder() {
+        }
+
+        public PageResultCacheBuilder pageMaximumSize(int pageMaximumSize) {
+            this.pageMaximumSize = pageMaximumSize;
+            return this;
+        }
+
+        public PageResultCacheBuilder pageExpireAfterWrite(long duration, TimeUnit unit) {
+            this.pageExpireAfterWriteNanos = unit.toNanos(duration);
+            return this;
+        }
+
+        public PageResultCacheBuilder countMaximumSize(int countMaximumSize) {
+            this.countMaximumSize = countMaximumSize;
+            return this;
+        }
+
+        public PageResultCacheBuilder countExpireAfterWrite(long duration, TimeUnit unit) {
+            this.countExpireAfterWriteNanos = unit.toNanos(duration);
+            return this;
+        }
+
+        /**
+         * Past this age a cached count is still served while it is reloaded on {@link #refreshExecutor(Executor)}.
+         */
+        public PageResultCacheBuilder countRefreshAfterWrite(long duration, TimeUnit unit) {
+            this.countRefreshAfterWriteNanos = unit.toNanos(duration);
+            return this;
+        }
+
+        public PageResultCacheBuilder refreshExecutor(Executor refreshExecutor) {
+            this.refreshExecutor = refreshExecutor;
+            return this;
+        }
+
+        public PageResultCache build() {
+            return new PageResultCache(
+                    new ExpiringLruCache<>(this.pageMaximumSize, this.pageExpireAfterWriteNanos, 0L, TimeUnit.NANOSECONDS, null),
+                    new ExpiringLruCache<>(this.countMaximumSize, this.countExpireAfterWriteNanos, this.countRefreshAfterWriteNanos,
+                            TimeUnit.NANOSECONDS, this.refreshExecutor)
+            );
+        }
+
+        public String toString() {
+            return "PageResultCache.PageResultCacheBuilder(pageMaximumSize=" + this.pageMaximumSize
+                    + ", pageExpireAfterWriteNanos=" + this.pageExpireAfterWriteNanos + ", countMaximumSize=" + this.countMaximumSize
+                    + ", countExpireAfterWriteNanos=" + this.countExpireAfterWriteNanos
+                    + ", countRefreshAfterWriteNanos=" + this.countRefreshAfterWriteNanos + ", refreshExecutor=" + this.refreshExecutor + ")";
+        }
+    }
+}
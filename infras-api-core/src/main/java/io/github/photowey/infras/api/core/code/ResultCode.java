@@ -0,0 +1,137 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.core.code;
+
+import java.io.Serializable;
+
+/**
+ * {@code ResultCode}
+ * <p>
+ * A pre-parsed api result code.
+ * <pre>
+ * 200000000
+ * |- 200 - http.status
+ * |- 000000 - biz.status
+ * </pre>
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public final class ResultCode implements Serializable {
+
+    private static final long serialVersionUID = 2870562283471367409L;
+
+    public static final int HTTP_STATUS_LENGTH = 3;
+    public static final int UNKNOWN_HTTP_STATUS = -1;
+
+    private final String code;
+    private final int httpStatus;
+    private final String bizStatus;
+
+    private ResultCode(String code, int httpStatus, String bizStatus) {
+        this.code = code;
+        this.httpStatus = httpStatus;
+        this.bizStatus = bizStatus;
+    }
+
+    // ----------------------------------------------------------------
+
+    public static ResultCode parse(String code) {
+        if (null == code) {
+            throw new IllegalArgumentException("Unsupported result code: null");
+        }
+
+        return new ResultCode(code, determineHttpStatus(code), determineBizStatus(code));
+    }
+
+    // ----------------------------------------------------------------
+
+    private static int determineHttpStatus(String code) {
+        if (code.length() < HTTP_STATUS_LENGTH) {
+            return UNKNOWN_HTTP_STATUS;
+        }
+
+        int status = 0;
+        for (int i = 0; i < HTTP_STATUS_LENGTH; i++) {
+            char ch = code.charAt(i);
+            if (ch < '0' || ch > '9') {
+                return UNKNOWN_HTTP_STATUS;
+            }
+            status = status * 10 + (ch - '0');
+        }
+
+        return status;
+    }
+
+    private static String determineBizStatus(String code) {
+        return code.length() > HTTP_STATUS_LENGTH ? code.substring(HTTP_STATUS_LENGTH) : "";
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * Reference comparison first: envelopes built from the same snapshot share the code instance,
+     * so the common path never inspects the characters.
+     *
+     * @param candidate the code to test
+     * @return {@code true} if the candidate represents this code
+     */
+    public boolean matches(String candidate) {
+        if (this.code == candidate) {
+            return true;
+        }
+
+        return null != candidate
+                && candidate.length() == this.code.length()
+                && this.code.equalsIgnoreCase(candidate);
+    }
+
+    // ----------------------------------------------------------------
+
+    public String code() {
+        return code;
+    }
+
+    public int httpStatus() {
+        return httpStatus;
+    }
+
+    public String bizStatus() {
+        return bizStatus;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ResultCode)) {
+            return false;
+        }
+
+        return this.code.equals(((ResultCode) o).code);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.code.hashCode();
+    }
+
+    public String toString() {
+        return "ResultCode(code=" + this.code + ", httpStatus=" + this.httpStatus + ", bizStatus=" + this.bizStatus + ")";
+    }
+}
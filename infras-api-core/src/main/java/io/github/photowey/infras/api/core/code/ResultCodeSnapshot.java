@@ -0,0 +1,70 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.core.code;
+
+import java.io.Serializable;
+
+/**
+ * {@code ResultCodeSnapshot}
+ * <p>
+ * An immutable view of the resolved api {@code ok} code and message.
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public final class ResultCodeSnapshot implements Serializable {
+
+    private static final long serialVersionUID = -3316026787380370186L;
+
+    private final ResultCode ok;
+    private final String okMessage;
+
+    ResultCodeSnapshot(ResultCode ok, String okMessage) {
+        this.ok = ok;
+        this.okMessage = okMessage;
+    }
+
+    // ----------------------------------------------------------------
+
+    public static ResultCodeSnapshot of(String okCode, String okMessage) {
+        return new ResultCodeSnapshot(ResultCode.parse(okCode), okMessage);
+    }
+
+    // ----------------------------------------------------------------
+
+    public boolean determineIsOk(String code) {
+        return this.ok.matches(code);
+    }
+
+    // ----------------------------------------------------------------
+
+    public ResultCode ok() {
+        return ok;
+    }
+
+    public String okCode() {
+        return ok.code();
+    }
+
+    public String okMessage() {
+        return okMessage;
+    }
+
+    public String toString() {
+        return "ResultCodeSnapshot(ok=" + this.ok + ", okMessage=" + this.okMessage + ")";
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.core.code;
+
+import io.github.photowey.infras.api.common.constant.InfrasConstants;
+import io.github.photowey.infras.api.common.validator.ValueValidator;
+
+/**
+ * {@code ResultCodes}
+ * <p>
+ * Resolves the api {@code ok} code and message from the system properties once,
+ * and serves the resolved {@link ResultCodeSnapshot} lock-free afterwards.
+ * Call {@link #reload()} after changing
+ * {@link InfrasConstants.Properties#INFRAS_API_OK_CONFIG_KEY} or
+ * {@link InfrasConstants.Properties#INFRAS_API_MESSAGE_CONFIG_KEY} at runtime.
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public final class ResultCodes {
+
+    private static volatile ResultCodeSnapshot snapshot = resolve();
+
+    private ResultCodes() {
+        throw new AssertionError("No " + this.getClass().getName() + " instances for you!");
+    }
+
+    // ----------------------------------------------------------------
+
+    public static ResultCodeSnapshot snapshot() {
+        return snapshot;
+    }
+
+    public static ResultCodeSnapshot reload() {
+        return install(resolve());
+    }
+
+    public static ResultCodeSnapshot reload(String okCode, String okMessage) {
+        return install(ResultCodeSnapshot.of(
+                ValueValidator.isNotBlank(okCode) ? okCode : /*200000000*/InfrasConstants.DEFAULT_API_OK,
+                null != okMessage ? okMessage : /*ok*/InfrasConstants.DEFAULT_API_MESSAGE
+        ));
+    }
+
+    // ----------------------------------------------------------------
+
+    private static ResultCodeSnapshot install(ResultCodeSnapshot target) {
+        snapshot = target;
+        return target;
+    }
+
+    private static ResultCodeSnapshot resolve() {
+        return ResultCodeSnapshot.of(
+                System.getProperty(InfrasConstants.Properties.INFRAS_API_OK_CONFIG_KEY,/*200000000*/InfrasConstants.DEFAULT_API_OK),
+                System.getProperty(InfrasConstants.Properties.INFRAS_API_MESSAGE_CONFIG_KEY,/*ok*/InfrasConstants.DEFAULT_API_MESSAGE)
+        );
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.core.codec;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * {@code CompactInput}
+ * <p>
+ * Reads what {@link CompactOutput} wrote.
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public final class CompactInput {
+
+    private final ByteBuffer buffer;
+
+    public CompactInput(byte[] bytes) {
+        this(ByteBuffer.wrap(bytes));
+    }
+
+    /**
+     * @param buffer read from its position up to its limit; the position is advanced
+     */
+    public CompactInput(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    // ----------------------------------------------------------------
+
+    public int readByte() {
+        try {
+            return this.buffer.get() & 0xFF;
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Truncated compact payload", e);
+        }
+    }
+
+    public boolean readBoolean() {
+        return 0 != this.readByte();
+    }
+
+    public int readVarInt() {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = this.readByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+
+        throw new IllegalArgumentException("Malformed compact varint");
+    }
+
+    public long readVarLong() {
+        long zigzag = 0L;
+        for (int shift = 0; shift < 70; shift += 7) {
+            int b = this.readByte();
+            zigzag |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return (zigzag >>> 1) ^ -(zigzag & 1L);
+            }
+        }
+
+        throw new IllegalArgumentException("Malformed compact varlong");
+    }
+
+    public double readDouble() {
+        long bits = 0L;
+        for (int i = 0; i < 8; i++) {
+            bits = (bits << 8) | this.readByte();
+        }
+
+        return Double.longBitsToDouble(bits);
+    }
+
+    public String readString() {
+        return new String(this.readBytes(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * An element count; callers size their collections by {@code Math.min(size, remaining())},
+     * since the count comes from untrusted bytes.
+     */
+    public int readSize() {
+        int size = this.readVarInt();
+        if (size < 0) {
+            throw new IllegalArgumentException("Invalid compact size: " + size);
+        }
+
+        return size;
+    }
+
+    public byte[] readBytes() {
+        int length = this.readVarInt();
+        if (length < 0 || length > this.buffer.remaining()) {
+            throw new IllegalArgumentException("Truncated compact payload");
+        }
+
+        byte[] bytes = new byte[length];
+        this.buffer.get(bytes);
+        return bytes;
+    }
+
+    public int remaining() {
+        return this.buffer.remaining();
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.core.codec;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * {@code CompactOutput}
+ * <p>
+ * A growable byte sink with {@code varint} (LEB128) and zig-zag encodings,
+ * small numbers such as {@code pageNo}/{@code pageSize} take a single byte.
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public final class CompactOutput {
+
+    private byte[] buffer;
+    private int position;
+
+    public CompactOutput() {
+        this(64);
+    }
+
+    public CompactOutput(int initialCapacity) {
+        this.buffer = new byte[Math.max(initialCapacity, 16)];
+    }
+
+    // ----------------------------------------------------------------
+
+    public CompactOutput writeByte(int value) {
+        this.ensureCapacity(1);
+        this.buffer[this.position++] = (byte) value;
+        return this;
+    }
+
+    public CompactOutput writeBoolean(boolean value) {
+        return this.writeByte(value ? 1 : 0);
+    }
+
+    /**
+     * Unsigned LEB128, for values that are never negative (sizes, lengths, flags).
+     */
+    public CompactOutput writeVarInt(int value) {
+        this.ensureCapacity(5);
+        while ((value & ~0x7F) != 0) {
+            this.buffer[this.position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        this.buffer[this.position++] = (byte) value;
+        return this;
+    }
+
+    /**
+     * Zig-zag LEB128, small magnitudes of either sign stay small.
+     */
+    public CompactOutput writeVarLong(long value) {
+        long zigzag = (value << 1) ^ (value >> 63);
+        this.ensureCapacity(10);
+        while ((zigzag & ~0x7FL) != 0L) {
+            this.buffer[this.position++] = (byte) ((zigzag & 0x7F) | 0x80);
+            zigzag >>>= 7;
+        }
+        this.buffer[this.position++] = (byte) zigzag;
+        return this;
+    }
+
+    public CompactOutput writeDouble(double value) {
+        long bits = Double.doubleToRawLongBits(value);
+        this.ensureCapacity(8);
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            this.buffer[this.position++] = (byte) (bits >>> shift);
+        }
+        return this;
+    }
+
+    /**
+     * Length-prefixed {@code UTF-8}; {@code null} is not supported here, see {@link ItemCodecs#string()}.
+     */
+    public CompactOutput writeString(String value) {
+        return this.writeBytes(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public CompactOutput writeBytes(byte[] bytes) {
+        this.writeVarInt(bytes.length);
+        this.ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, this.buffer, this.position, bytes.length);
+        this.position += bytes.length;
+        return this;
+    }
+
+    // ----------------------------------------------------------------
+
+    public int size() {
+        return this.position;
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(this.buffer, this.position);
+    }
+
+    /**
+     * @return a read-only view over the written bytes, without copying
+     */
+    public ByteBuffer toByteBuffer() {
+        return ByteBuffer.wrap(this.buffer, 0, this.position).asReadOnlyBuffer();
+    }
+
+    private void ensureCapacity(int extra) {
+        int required = this.position + extra;
+        if (required > this.buffer.length) {
+            this.buffer = Arrays.copyOf(this.buffer, Math.max(required, this.buffer.length << 1));
+        }
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.core.codec;
+
+import io.github.photowey.infras.api.core.meta.Meta;
+import io.github.photowey.infras.api.core.model.page.PageResult;
+import io.github.photowey.infras.api.core.model.page.struct.ListStruct;
+
+import java.io.InvalidObjectException;
+import java.io.ObjectStreamException;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * {@code CompactSerializationProxy}
+ * <p>
+ * The serialization proxy written in place of {@link PageResult}, {@link ListStruct} and {@link Meta},
+ * so Java serialization carries the {@link PageResultCodec} form instead of the default field-by-field one.
+ * Items the compact form cannot tag are Java serialized, and every class they use is written into the proxy
+ * as a {@code Class} object: the enclosing {@code ObjectInputStream} resolves and filters those like any other class,
+ * and the items are then decoded by {@link ItemCodecs#serializable(java.util.Collection)} with exactly that allow-list.
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public final class CompactSerializationProxy implements Serializable {
+
+    private static final long serialVersionUID = -2950317284105873124L;
+
+    private static final Class<?>[] NO_CLASSES = new Class<?>[0];
+
+    private final byte[] payload;
+    /**
+     * The classes of the Java serialized items, {@code null} in proxies written without it: then none are allowed.
+     */
+    private final Class<?>[] classes;
+
+    private CompactSerializationProxy(byte[] payload, Set<Class<?>> classes) {
+        this.payload = payload;
+        this.classes = classes.toArray(NO_CLASSES);
+    }
+
+    // ----------------------------------------------------------------
+
+    public static <T> CompactSerializationProxy of(PageResult<T> page) {
+        Set<Class<?>> classes = new LinkedHashSet<>();
+
+        return new CompactSerializationProxy(PageResultCodec.of(ItemCodecs.<T>recording(classes), ItemCodecs.recording(classes)).encode(page), classes);
+    }
+
+    public static <T> CompactSerializationProxy of(ListStruct<T> struct) {
+        Set<Class<?>> classes = new LinkedHashSet<>();
+
+        return new CompactSerializationProxy(PageResultCodec.of(ItemCodecs.<T>recording(classes), ItemCodecs.recording(classes)).encodeStruct(struct), classes);
+    }
+
+    public static CompactSerializationProxy of(Meta meta) {
+        return new CompactSerializationProxy(PageResultCodec.encodeMeta(meta), Collections.emptySet());
+    }
+
+    // ----------------------------------------------------------------
+
+    private Object readResolve() throws ObjectStreamException {
+        try {
+            int kind = this.payload.length > 1 ? this.payload[1] : -1;
+            switch (kind) {
+                case PageResultCodec.KIND_PAGE_RESULT:
+                    return this.codec().decode(this.payload);
+                case PageResultCodec.KIND_LIST_STRUCT:
+                    return this.codec().decodeStruct(this.payload);
+                case PageResultCodec.KIND_META:
+                    return PageResultCodec.decodeMeta(this.payload);
+                default:
+                    throw new InvalidObjectException("Unknown compact payload kind: " + kind);
+            }
+        } catch (IllegalArgumentException e) {
+            InvalidObjectException invalid = new InvalidObjectException(e.getMessage());
+            invalid.initCause(e);
+            throw invalid;
+        }
+    }
+
+    private PageResultCodec<Object> codec() {
+        ItemCodec<Object> codec = ItemCodecs.serializable(null == this.classes ? Collections.emptyList() : Arrays.asList(this.classes));
+
+        return PageResultCodec.of(codec, codec);
+    }
+}
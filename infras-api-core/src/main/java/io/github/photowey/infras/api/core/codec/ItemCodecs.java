@@ -0,0 +1,352 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.core.codec;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * {@code ItemCodecs}
+ * <p>
+ * The built-in {@link ItemCodec}s; all of them accept {@code null} items.
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public final class ItemCodecs {
+
+    private static final int TAG_NULL = 0;
+    private static final int TAG_STRING = 1;
+    private static final int TAG_LONG = 2;
+    private static final int TAG_INTEGER = 3;
+    private static final int TAG_BOOLEAN = 4;
+    private static final int TAG_DOUBLE = 5;
+    private static final int TAG_LIST = 6;
+    private static final int TAG_MAP = 7;
+    private static final int TAG_SERIALIZABLE = 8;
+
+    private static final ItemCodec<String> STRING = nullable(CompactOutput::writeString, CompactInput::readString);
+    private static final ItemCodec<Long> INT64 = nullable(CompactOutput::writeVarLong, CompactInput::readVarLong);
+    private static final ItemCodec<Integer> INT32 = nullable((out, item) -> out.writeVarLong(item), in -> (int) in.readVarLong());
+    /**
+     * Always deserializable by {@link #serializable(Collection)}: value types without gadget behavior.
+     */
+    private static final Set<String> SAFE_CLASS_NAMES = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+            String.class.getName(), Number.class.getName(), Enum.class.getName(),
+            Long.class.getName(), Integer.class.getName(), Short.class.getName(), Byte.class.getName(),
+            Double.class.getName(), Float.class.getName(), Boolean.class.getName(), Character.class.getName(),
+            BigDecimal.class.getName(), BigInteger.class.getName()
+    )));
+
+    private static final ItemCodec<Object> DYNAMIC = new DynamicItemCodec(null, null);
+
+    private ItemCodecs() {
+        throw new AssertionError("No " + this.getClass().getName() + " instances for you!");
+    }
+
+    // ----------------------------------------------------------------
+
+    public static ItemCodec<String> string() {
+        return STRING;
+    }
+
+    public static ItemCodec<Long> int64() {
+        return INT64;
+    }
+
+    public static ItemCodec<Integer> int32() {
+        return INT32;
+    }
+
+    /**
+     * Self-describing: strings, boxed numbers, booleans, lists and maps get a compact tagged form.
+     * Lists and maps are read back as {@code ArrayList}/{@code LinkedHashMap}.
+     * Any other item is rejected; Java serialization is opt-in through {@link #serializable(Class[])}.
+     *
+     * @param <T> the item type
+     * @return the dynamic codec
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> ItemCodec<T> dynamic() {
+        return (ItemCodec<T>) DYNAMIC;
+    }
+
+    /**
+     * @see #serializable(Collection)
+     */
+    public static <T> ItemCodec<T> serializable(Class<?>... allowed) {
+        return serializable(Arrays.asList(allowed));
+    }
+
+    /**
+     * {@link #dynamic()} plus a Java serialization fallback for any other {@link Serializable} item.
+     * On read, only the {@code allowed} classes, their superclasses, arrays of them and boxed primitives,
+     * {@code String}, {@code BigDecimal} and {@code BigInteger} are resolved, so bytes from a shared cache
+     * cannot instantiate arbitrary classes. Allow the classes of nested fields too.
+     *
+     * @param allowed the item classes
+     * @param <T>     the item type
+     * @return the codec
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> ItemCodec<T> serializable(Collection<Class<?>> allowed) {
+        Set<String> names = new HashSet<>(SAFE_CLASS_NAMES);
+        for (Class<?> type : allowed) {
+            for (Class<?> next = type; null != next && Object.class != next; next = next.getSuperclass()) {
+                names.add(next.getName());
+            }
+        }
+
+        return (ItemCodec<T>) new DynamicItemCodec(names::contains, null);
+    }
+
+    /**
+     * Writes like {@link #serializable(Collection)} and adds every class the nested Java serialization writes
+     * to {@code written}, so {@link CompactSerializationProxy} can carry them as its allow-list.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> ItemCodec<T> recording(Set<Class<?>> written) {
+        return (ItemCodec<T>) new DynamicItemCodec(name -> false, written);
+    }
+
+    // ----------------------------------------------------------------
+
+    private static <T> ItemCodec<T> nullable(Writer<T> writer, Reader<T> reader) {
+        return new ItemCodec<T>() {
+            @Override
+            public void write(CompactOutput out, T item) {
+                out.writeBoolean(null != item);
+                if (null != item) {
+                    writer.write(out, item);
+                }
+            }
+
+            @Override
+            public T read(CompactInput in) {
+                return in.readBoolean() ? reader.read(in) : null;
+            }
+        };
+    }
+
+    @FunctionalInterface
+    private interface Writer<T> {
+        void write(CompactOutput out, T item);
+    }
+
+    @FunctionalInterface
+    private interface Reader<T> {
+        T read(CompactInput in);
+    }
+
+    // ----------------------------------------------------------------
+
+    private static final class DynamicItemCodec implements ItemCodec<Object> {
+
+        /**
+         * The class names Java serialization may resolve, {@code null} if the fallback is disabled.
+         */
+        private final Predicate<String> allowed;
+        /**
+         * Collects the classes written by {@link #serialize(Object)}, {@code null} if not recording.
+         */
+        private final Set<Class<?>> written;
+
+        private DynamicItemCodec(Predicate<String> allowed, Set<Class<?>> written) {
+            this.allowed = allowed;
+            this.written = written;
+        }
+
+        @Override
+        public void write(CompactOutput out, Object item) {
+            if (null == item) {
+                out.writeByte(TAG_NULL);
+            } else if (item instanceof String) {
+                out.writeByte(TAG_STRING).writeString((String) item);
+            } else if (item instanceof Long) {
+                out.writeByte(TAG_LONG).writeVarLong((Long) item);
+            } else if (item instanceof Integer) {
+                out.writeByte(TAG_INTEGER).writeVarLong((Integer) item);
+            } else if (item instanceof Boolean) {
+                out.writeByte(TAG_BOOLEAN).writeBoolean((Boolean) item);
+            } else if (item instanceof Double) {
+                out.writeByte(TAG_DOUBLE).writeDouble((Double) item);
+            } else if (item instanceof List) {
+                List<?> list = (List<?>) item;
+                out.writeByte(TAG_LIST).writeVarInt(list.size());
+                for (Object element : list) {
+                    this.write(out, element);
+                }
+            } else if (item instanceof Map) {
+                Map<?, ?> map = (Map<?, ?>) item;
+                out.writeByte(TAG_MAP).writeVarInt(map.size());
+                for (Map.Entry<?, ?> entry : map.entrySet()) {
+                    this.write(out, entry.getKey());
+                    this.write(out, entry.getValue());
+                }
+            } else if (null != this.allowed && item instanceof Serializable) {
+                out.writeByte(TAG_SERIALIZABLE).writeBytes(this.serialize(item));
+            } else {
+                throw new IllegalArgumentException("Unsupported compact item type: " + item.getClass().getName() + ", use ItemCodecs.serializable(...)");
+            }
+        }
+
+        @Override
+        public Object read(CompactInput in) {
+            int tag = in.readByte();
+            switch (tag) {
+                case TAG_NULL:
+                    return null;
+                case TAG_STRING:
+                    return in.readString();
+                case TAG_LONG:
+                    return in.readVarLong();
+                case TAG_INTEGER:
+                    return (int) in.readVarLong();
+                case TAG_BOOLEAN:
+                    return in.readBoolean();
+                case TAG_DOUBLE:
+                    return in.readDouble();
+                case TAG_LIST: {
+                    int size = in.readSize();
+                    List<Object> list = new ArrayList<>(Math.min(size, in.remaining()));
+                    for (int i = 0; i < size; i++) {
+                        list.add(this.read(in));
+                    }
+                    return list;
+                }
+                case TAG_MAP: {
+                    int size = in.readSize();
+                    Map<Object, Object> map = new LinkedHashMap<>();
+                    for (int i = 0; i < size; i++) {
+                        map.put(this.read(in), this.read(in));
+                    }
+                    return map;
+                }
+                case TAG_SERIALIZABLE:
+                    if (null == this.allowed) {
+                        throw new IllegalArgumentException("Java serialized compact item rejected, decode it with ItemCodecs.serializable(...)");
+                    }
+                    return this.deserialize(in.readBytes());
+                default:
+                    throw new IllegalArgumentException("Unknown compact item tag: " + tag);
+            }
+        }
+
+        private byte[] serialize(Object item) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+            try (ObjectOutputStream out = new RecordingObjectOutputStream(bytes, this.written)) {
+                out.writeObject(item);
+            } catch (IOException e) {
+                throw new IllegalArgumentException("Serialize compact item failed: " + item.getClass().getName(), e);
+            }
+
+            return bytes.toByteArray();
+        }
+
+        private Object deserialize(byte[] bytes) {
+            try (ObjectInputStream in = new AllowListObjectInputStream(new ByteArrayInputStream(bytes), this.allowed)) {
+                return in.readObject();
+            } catch (IOException | ClassNotFoundException e) {
+                throw new IllegalArgumentException("Deserialize compact item failed", e);
+            }
+        }
+    }
+
+    /**
+     * Records the class of every descriptor it writes; arrays by their element class.
+     */
+    private static final class RecordingObjectOutputStream extends ObjectOutputStream {
+
+        private final Set<Class<?>> written;
+
+        private RecordingObjectOutputStream(ByteArrayOutputStream out, Set<Class<?>> written) throws IOException {
+            super(out);
+            this.written = written;
+        }
+
+        @Override
+        protected void annotateClass(Class<?> type) {
+            if (null == this.written) {
+                return;
+            }
+
+            Class<?> element = type;
+            while (element.isArray()) {
+                element = element.getComponentType();
+            }
+            if (!element.isPrimitive()) {
+                this.written.add(element);
+            }
+        }
+    }
+
+    /**
+     * Resolves only allowed classes; arrays are checked by their element class, dynamic proxies are rejected.
+     */
+    private static final class AllowListObjectInputStream extends ObjectInputStream {
+
+        private final Predicate<String> allowed;
+
+        private AllowListObjectInputStream(ByteArrayInputStream in, Predicate<String> allowed) throws IOException {
+            super(in);
+            this.allowed = allowed;
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+            String name = desc.getName();
+            String element = name;
+            while (element.startsWith("[")) {
+                element = element.substring(1);
+            }
+            if (element.startsWith("L") && element.endsWith(";")) {
+                element = element.substring(1, element.length() - 1);
+            } else if (element.length() == 1 && name.startsWith("[")) {
+                return super.resolveClass(desc);
+            }
+
+            if (!this.allowed.test(element)) {
+                throw new InvalidClassException(name, "Class not allowed in a compact item");
+            }
+
+            return super.resolveClass(desc);
+        }
+
+        @Override
+        protected Class<?> resolveProxyClass(String[] interfaces) throws IOException {
+            throw new InvalidClassException(Arrays.toString(interfaces), "Proxy class not allowed in a compact item");
+        }
+    }
+}
@@ -0,0 +1,438 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.core.codec;
+
+import io.github.photowey.infras.api.common.constant.InfrasConstants;
+import io.github.photowey.infras.api.core.meta.Meta;
+import io.github.photowey.infras.api.core.meta.count.CountMode;
+import io.github.photowey.infras.api.core.model.ResultSupport;
+import io.github.photowey.infras.api.core.model.page.PageResult;
+import io.github.photowey.infras.api.core.model.page.struct.ListStruct;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@code PageResultCodec}
+ * <p>
+ * A versioned, compact binary form of {@link PageResult}, {@link ListStruct} and {@link Meta},
+ * meant for distributed caches.
+ * <pre>
+ * [version:1][kind:1][body]
+ * PageResult: [code][message][flags:varint][ListStruct body]?
+ * ListStruct: [flags:varint][pageNo][pageSize][count][nextCursor][prevCursor][countMode][hasNext][countCapped][list][additional]
+ * Meta:       [flags:varint][pageNo][pageSize][count][pages][nextCursor][prevCursor][countMode][hasNext][countCapped]
+ * </pre>
+ * Numbers are zig-zag varints, absent fields are skipped per presence bit,
+ * and the default ok code/message are interned to a single byte.
+ * Items go through the pluggable {@link ItemCodec}, {@code additional} values through {@link ItemCodecs#dynamic()} unless another codec is given.
+ *
+ * @param <T> the item type
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public final class PageResultCodec<T> {
+
+    public static final int VERSION = 1;
+
+    static final int KIND_PAGE_RESULT = 1;
+    static final int KIND_LIST_STRUCT = 2;
+    static final int KIND_META = 3;
+
+    private static final int STRING_NULL = 0;
+    private static final int STRING_DEFAULT_API_OK = 1;
+    private static final int STRING_DEFAULT_API_MESSAGE = 2;
+    private static final int STRING_INLINE = 3;
+
+    private static final int PAGE_UNMODIFIABLE = 1;
+    private static final int PAGE_DATA = 1 << 1;
+
+    private static final int PAGE_NO = 1;
+    private static final int PAGE_SIZE = 1 << 1;
+    private static final int COUNT = 1 << 2;
+    private static final int PAGES = 1 << 3;
+    private static final int NEXT_CURSOR = 1 << 4;
+    private static final int PREV_CURSOR = 1 << 5;
+    private static final int COUNT_MODE = 1 << 6;
+    private static final int HAS_NEXT = 1 << 7;
+    private static final int COUNT_CAPPED = 1 << 8;
+    private static final int LIST = 1 << 9;
+    private static final int ADDITIONAL = 1 << 10;
+    private static final int UNMODIFIABLE = 1 << 11;
+
+    private static final CountMode[] COUNT_MODES = CountMode.values();
+
+    private static final PageResultCodec<Object> DYNAMIC = new PageResultCodec<>(ItemCodecs.dynamic(), ItemCodecs.dynamic());
+
+    private final ItemCodec<T> itemCodec;
+    private final ItemCodec<Object> additionalCodec;
+
+    private PageResultCodec(ItemCodec<T> itemCodec, ItemCodec<Object> additionalCodec) {
+        this.itemCodec = itemCodec;
+        this.additionalCodec = additionalCodec;
+    }
+
+    // ----------------------------------------------------------------
+
+    public static <T> PageResultCodec<T> of(ItemCodec<T> itemCodec) {
+        return of(itemCodec, ItemCodecs.dynamic());
+    }
+
+    /**
+     * @param additionalCodec the codec of the {@code additional} values, e.g. {@link ItemCodecs#serializable(Class[])}
+     */
+    public static <T> PageResultCodec<T> of(ItemCodec<T> itemCodec, ItemCodec<Object> additionalCodec) {
+        if (null == itemCodec || null == additionalCodec) {
+            throw new IllegalArgumentException("The item codec must not be null");
+        }
+
+        return new PageResultCodec<>(itemCodec, additionalCodec);
+    }
+
+    /**
+     * Items and {@code additional} values through {@link ItemCodecs#dynamic()}, without Java serialization.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PageResultCodec<T> dynamic() {
+        return (PageResultCodec<T>) DYNAMIC;
+    }
+
+    // ----------------------------------------------------------------
+
+    public byte[] encode(PageResult<T> page) {
+        return this.write(page).toByteArray();
+    }
+
+    public ByteBuffer encodeToBuffer(PageResult<T> page) {
+        return this.write(page).toByteBuffer();
+    }
+
+    public PageResult<T> decode(byte[] bytes) {
+        return this.decode(ByteBuffer.wrap(bytes));
+    }
+
+    public PageResult<T> decode(ByteBuffer buffer) {
+        CompactInput in = new CompactInput(buffer);
+        readHeader(in, KIND_PAGE_RESULT);
+        return this.readPageResult(in);
+    }
+
+    public byte[] encodeStruct(ListStruct<T> struct) {
+        CompactOutput out = new CompactOutput(this.determineCapacity(struct));
+        writeHeader(out, KIND_LIST_STRUCT);
+        this.writeStruct(out, struct);
+        return out.toByteArray();
+    }
+
+    public ListStruct<T> decodeStruct(byte[] bytes) {
+        CompactInput in = new CompactInput(bytes);
+        readHeader(in, KIND_LIST_STRUCT);
+        return this.readStruct(in);
+    }
+
+    public static byte[] encodeMeta(Meta meta) {
+        CompactOutput out = new CompactOutput(32);
+        writeHeader(out, KIND_META);
+        writeMeta(out, meta);
+        return out.toByteArray();
+    }
+
+    public static Meta decodeMeta(byte[] bytes) {
+        CompactInput in = new CompactInput(bytes);
+        readHeader(in, KIND_META);
+        return readMeta(in);
+    }
+
+    // ----------------------------------------------------------------
+
+    private CompactOutput write(PageResult<T> page) {
+        CompactOutput out = new CompactOutput(this.determineCapacity(page.getData()));
+        writeHeader(out, KIND_PAGE_RESULT);
+
+        writeInterned(out, page.getCode());
+        writeInterned(out, page.getMessage());
+
+        ListStruct<T> struct = page.getData();
+        int flags = (page.determineIsUnmodifiable() ? PAGE_UNMODIFIABLE : 0) | (null != struct ? PAGE_DATA : 0);
+        out.writeVarInt(flags);
+        if (null != struct) {
+            this.writeStruct(out, struct);
+        }
+
+        return out;
+    }
+
+    private PageResult<T> readPageResult(CompactInput in) {
+        String code = readInterned(in);
+        String message = readInterned(in);
+        int flags = in.readVarInt();
+        ListStruct<T> struct = (flags & PAGE_DATA) != 0 ? this.readStruct(in) : null;
+
+        if ((flags & PAGE_UNMODIFIABLE) != 0 && null != struct) {
+            return PageResult.unmodifiableOf(code, message, struct.getList(), struct.toMeta(), struct.additionalView());
+        }
+
+        PageResult<T> page = PageResult.create(code, message);
+        page.setData(struct);
+        return page;
+    }
+
+    private void writeStruct(CompactOutput out, ListStruct<T> struct) {
+        Long pageNo = struct.getPageNo();
+        Long pageSize = struct.getPageSize();
+        Long count = struct.getCount();
+        List<T> list = struct.getList();
+        Map<String, Object> additional = struct.additionalView();
+
+        int flags = 0;
+        flags |= null != pageNo ? PAGE_NO : 0;
+        flags |= null != pageSize ? PAGE_SIZE : 0;
+        flags |= null != count ? COUNT : 0;
+        flags |= null != struct.getNextCursor() ? NEXT_CURSOR : 0;
+        flags |= null != struct.getPrevCursor() ? PREV_CURSOR : 0;
+        flags |= null != struct.getCountMode() ? COUNT_MODE : 0;
+        flags |= null != struct.getHasNext() ? HAS_NEXT : 0;
+        flags |= null != struct.getCountCapped() ? COUNT_CAPPED : 0;
+        flags |= null != list ? LIST : 0;
+        flags |= null != additional && !additional.isEmpty() ? ADDITIONAL : 0;
+        flags |= struct.determineIsUnmodifiable() ? UNMODIFIABLE : 0;
+        out.writeVarInt(flags);
+
+        if (null != pageNo) {
+            out.writeVarLong(pageNo);
+        }
+        if (null != pageSize) {
+            out.writeVarLong(pageSize);
+        }
+        if (null != count) {
+            out.writeVarLong(count);
+        }
+        writeCommon(out, flags, struct.getNextCursor(), struct.getPrevCursor(), struct.getCountMode(), struct.getHasNext(), struct.getCountCapped());
+
+        if (null != list) {
+            out.writeVarInt(list.size());
+            for (T item : list) {
+                this.itemCodec.write(out, item);
+            }
+        }
+        if ((flags & ADDITIONAL) != 0) {
+            out.writeVarInt(additional.size());
+            for (Map.Entry<String, Object> entry : additional.entrySet()) {
+                out.writeString(entry.getKey());
+                this.additionalCodec.write(out, entry.getValue());
+            }
+        }
+    }
+
+    private ListStruct<T> readStruct(CompactInput in) {
+        int flags = in.readVarInt();
+        Long pageNo = (flags & PAGE_NO) != 0 ? in.readVarLong() : null;
+        Long pageSize = (flags & PAGE_SIZE) != 0 ? in.readVarLong() : null;
+        Long count = (flags & COUNT) != 0 ? in.readVarLong() : null;
+        String nextCursor = (flags & NEXT_CURSOR) != 0 ? in.readString() : null;
+        String prevCursor = (flags & PREV_CURSOR) != 0 ? in.readString() : null;
+        CountMode countMode = (flags & COUNT_MODE) != 0 ? readCountMode(in) : null;
+        Boolean hasNext = (flags & HAS_NEXT) != 0 ? in.readBoolean() : null;
+        Boolean countCapped = (flags & COUNT_CAPPED) != 0 ? in.readBoolean() : null;
+
+        List<T> list = null;
+        if ((flags & LIST) != 0) {
+            int size = in.readSize();
+            list = new ArrayList<>(Math.min(size, in.remaining()));
+            for (int i = 0; i < size; i++) {
+                list.add(this.itemCodec.read(in));
+            }
+        }
+
+        Map<String, Object> additional = InfrasConstants.Collection.unmodifiableEmptyMap();
+        if ((flags & ADDITIONAL) != 0) {
+            int size = in.readSize();
+            additional = InfrasConstants.Collection.emptyMap(Math.min(size, in.remaining()));
+            for (int i = 0; i < size; i++) {
+                additional.put(in.readString(), this.additionalCodec.read(in));
+            }
+        }
+
+        if ((flags & UNMODIFIABLE) != 0) {
+            Meta meta = new Meta(pageNo, pageSize, count, null, nextCursor, prevCursor, countMode, hasNext, countCapped);
+            return ListStruct.unmodifiableOf(null != list ? list : InfrasConstants.Collection.unmodifiableEmptyList(), meta, additional);
+        }
+
+        ListStruct<T> struct = new ListStruct<>(list);
+        struct.setPageNo(pageNo);
+        struct.setPageSize(pageSize);
+        struct.setCount(count);
+        struct.setNextCursor(nextCursor);
+        struct.setPrevCursor(prevCursor);
+        struct.setCountMode(countMode);
+        struct.setHasNext(hasNext);
+        struct.setCountCapped(countCapped);
+        struct.setAdditional(additional);
+
+        return struct;
+    }
+
+    // ----------------------------------------------------------------
+
+    private static void writeMeta(CompactOutput out, Meta meta) {
+        int flags = 0;
+        flags |= null != meta.getPageNo() ? PAGE_NO : 0;
+        flags |= null != meta.getPageSize() ? PAGE_SIZE : 0;
+        flags |= null != meta.getCount() ? COUNT : 0;
+        flags |= null != meta.getPages() ? PAGES : 0;
+        flags |= null != meta.getNextCursor() ? NEXT_CURSOR : 0;
+        flags |= null != meta.getPrevCursor() ? PREV_CURSOR : 0;
+        flags |= null != meta.getCountMode() ? COUNT_MODE : 0;
+        flags |= null != meta.getHasNext() ? HAS_NEXT : 0;
+        flags |= null != meta.getCountCapped() ? COUNT_CAPPED : 0;
+        flags |= meta.determineIsUnmodifiable() ? UNMODIFIABLE : 0;
+        out.writeVarInt(flags);
+
+        if ((flags & PAGE_NO) != 0) {
+            out.writeVarLong(meta.pageNoAsLong());
+        }
+        if ((flags & PAGE_SIZE) != 0) {
+            out.writeVarLong(meta.pageSizeAsLong());
+        }
+        if ((flags & COUNT) != 0) {
+            out.writeVarLong(meta.countAsLong());
+        }
+        if ((flags & PAGES) != 0) {
+            out.writeVarLong(meta.pagesAsLong());
+        }
+        writeCommon(out, flags, meta.getNextCursor(), meta.getPrevCursor(), meta.getCountMode(), meta.getHasNext(), meta.getCountCapped());
+    }
+
+    private static Meta readMeta(CompactInput in) {
+        int flags = in.readVarInt();
+        Long pageNo = (flags & PAGE_NO) != 0 ? in.readVarLong() : null;
+        Long pageSize = (flags & PAGE_SIZE) != 0 ? in.readVarLong() : null;
+        Long count = (flags & COUNT) != 0 ? in.readVarLong() : null;
+        Long pages = (flags & PAGES) != 0 ? in.readVarLong() : null;
+        String nextCursor = (flags & NEXT_CURSOR) != 0 ? in.readString() : null;
+        String prevCursor = (flags & PREV_CURSOR) != 0 ? in.readString() : null;
+        CountMode countMode = (flags & COUNT_MODE) != 0 ? readCountMode(in) : null;
+        Boolean hasNext = (flags & HAS_NEXT) != 0 ? in.readBoolean() : null;
+        Boolean countCapped = (flags & COUNT_CAPPED) != 0 ? in.readBoolean() : null;
+
+        if ((flags & UNMODIFIABLE) != 0) {
+            // the shared default is the only unmodifiable meta
+            return Meta.unmodifiableDefault();
+        }
+
+        return new Meta(pageNo, pageSize, count, pages, nextCursor, prevCursor, countMode, hasNext, countCapped);
+    }
+
+    private static void writeCommon(CompactOutput out, int flags, String nextCursor, String prevCursor,
+                                    CountMode countMode, Boolean hasNext, Boolean countCapped) {
+        if ((flags & NEXT_CURSOR) != 0) {
+            out.writeString(nextCursor);
+        }
+        if ((flags & PREV_CURSOR) != 0) {
+            out.writeString(prevCursor);
+        }
+        if ((flags & COUNT_MODE) != 0) {
+            out.writeByte(countMode.ordinal());
+        }
+        if ((flags & HAS_NEXT) != 0) {
+            out.writeBoolean(hasNext);
+        }
+        if ((flags & COUNT_CAPPED) != 0) {
+            out.writeBoolean(countCapped);
+        }
+    }
+
+    private static CountMode readCountMode(CompactInput in) {
+        int ordinal = in.readByte();
+        if (ordinal >= COUNT_MODES.length) {
+            throw new IllegalArgumentException("Unknown compact count mode: " + ordinal);
+        }
+
+        return COUNT_MODES[ordinal];
+    }
+
+    // ----------------------------------------------------------------
+
+    private static void writeInterned(CompactOutput out, String value) {
+        if (null == value) {
+            out.writeByte(STRING_NULL);
+        } else if (InfrasConstants.DEFAULT_API_OK.equals(value)) {
+            out.writeByte(STRING_DEFAULT_API_OK);
+        } else if (InfrasConstants.DEFAULT_API_MESSAGE.equals(value)) {
+            out.writeByte(STRING_DEFAULT_API_MESSAGE);
+        } else {
+            out.writeByte(STRING_INLINE).writeString(value);
+        }
+    }
+
+    /**
+     * Values equal to the current ok code/message come back as those very instances,
+     * so the identity fast path of the code checks still applies.
+     */
+    private static String readInterned(CompactInput in) {
+        int tag = in.readByte();
+        switch (tag) {
+            case STRING_NULL:
+                return null;
+            case STRING_DEFAULT_API_OK:
+                return intern(InfrasConstants.DEFAULT_API_OK);
+            case STRING_DEFAULT_API_MESSAGE:
+                return intern(InfrasConstants.DEFAULT_API_MESSAGE);
+            case STRING_INLINE:
+                return intern(in.readString());
+            default:
+                throw new IllegalArgumentException("Unknown compact string tag: " + tag);
+        }
+    }
+
+    private static String intern(String value) {
+        String okCode = ResultSupport.determineApiOkCode();
+        if (okCode.equals(value)) {
+            return okCode;
+        }
+        String okMessage = ResultSupport.determineApiOkMessage();
+        if (okMessage.equals(value)) {
+            return okMessage;
+        }
+
+        return value;
+    }
+
+    // ----------------------------------------------------------------
+
+    private static void writeHeader(CompactOutput out, int kind) {
+        out.writeByte(VERSION).writeByte(kind);
+    }
+
+    private static void readHeader(CompactInput in, int kind) {
+        int version = in.readByte();
+        if (VERSION != version) {
+            throw new IllegalArgumentException("Unsupported compact payload version: " + version);
+        }
+        int actual = in.readByte();
+        if (kind != actual) {
+            throw new IllegalArgumentException("Unexpected compact payload kind: " + actual + ", expected: " + kind);
+        }
+    }
+
+    private int determineCapacity(ListStruct<T> struct) {
+        List<T> list = null != struct ? struct.getList() : null;
+        return 32 + (null != list ? list.size() * 16 : 0);
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.core.jackson;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * {@code FieldSet}
+ * <p>
+ * A sparse fieldset: the item properties a request wants in the {@code list} of a {@code ListStruct}.
+ * Only the item properties are filtered, the envelope fields are always written.
+ * <p>
+ * Pass it per call with {@code mapper.writer().withAttribute(FieldSet.ATTRIBUTE, fields)}
+ * or with a {@link FieldSetFilterProvider}.
+ * It is honoured by the {@link InfrasApiModule} serializers; the reflective fallback writes every property.
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public final class FieldSet {
+
+    public static final String ATTRIBUTE = FieldSet.class.getName();
+    public static final int MAX_FIELDS = 64;
+
+    private static final String SEPARATOR = ",";
+
+    private final Set<String> names;
+    private final int hash;
+
+    private FieldSet(Set<String> names) {
+        this.names = Collections.unmodifiableSet(names);
+        this.hash = names.hashCode();
+    }
+
+    // ----------------------------------------------------------------
+
+    public static FieldSet of(String... names) {
+        return of(Arrays.asList(names));
+    }
+
+    /**
+     * @throws IllegalArgumentException if no field or more than {@link #MAX_FIELDS} fields are named
+     */
+    public static FieldSet of(Collection<String> names) {
+        Set<String> fields = new LinkedHashSet<>();
+        for (String name : names) {
+            if (null != name && !name.trim().isEmpty()) {
+                fields.add(name.trim());
+            }
+        }
+        if (fields.isEmpty()) {
+            throw new IllegalArgumentException("A field set must name at least one field");
+        }
+        if (fields.size() > MAX_FIELDS) {
+            throw new IllegalArgumentException("Too many fields: " + fields.size() + ", max: " + MAX_FIELDS);
+        }
+
+        return new FieldSet(fields);
+    }
+
+    /**
+     * Parses a comma separated list, e.g. {@code id,name,price}.
+     *
+     * @return the field set, {@code null} (every field) for a blank value
+     */
+    public static FieldSet parse(String value) {
+        if (null == value || value.trim().isEmpty()) {
+            return null;
+        }
+
+        List<String> names = new ArrayList<>(Arrays.asList(value.split(SEPARATOR)));
+        names.removeIf(name -> name.trim().isEmpty());
+        if (names.isEmpty()) {
+            return null;
+        }
+
+        return of(names);
+    }
+
+    // ----------------------------------------------------------------
+
+    public Set<String> names() {
+        return names;
+    }
+
+    public boolean contains(String name) {
+        return this.names.contains(name);
+    }
+
+    public int size() {
+        return this.names.size();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof FieldSet)) {
+            return false;
+        }
+
+        FieldSet that = (FieldSet) o;
+        return this.hash == that.hash && this.names.equals(that.names);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    public String toString() {
+        return "FieldSet(names=" + this.names + ")";
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.core.jackson;
+
+import com.fasterxml.jackson.databind.ser.BeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.PropertyFilter;
+
+/**
+ * {@code FieldSetFilterProvider}
+ * <p>
+ * Carries a {@link FieldSet} through the {@link FilterProvider} slot of an {@code ObjectWriter},
+ * e.g. {@code MappingJacksonValue#setFilters(...)} in Spring MVC.
+ * {@code @JsonFilter} lookups are delegated to the wrapped provider, if any.
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public class FieldSetFilterProvider extends FilterProvider {
+
+    private final FieldSet fields;
+    private final FilterProvider delegate;
+
+    public FieldSetFilterProvider(FieldSet fields) {
+        this(fields, null);
+    }
+
+    public FieldSetFilterProvider(FieldSet fields, FilterProvider delegate) {
+        if (null == fields) {
+            throw new IllegalArgumentException("The field set must not be null");
+        }
+
+        this.fields = fields;
+        this.delegate = delegate;
+    }
+
+    // ----------------------------------------------------------------
+
+    public FieldSet fields() {
+        return fields;
+    }
+
+    public FilterProvider delegate() {
+        return delegate;
+    }
+
+    // ----------------------------------------------------------------
+
+    @Override
+    @Deprecated
+    public BeanPropertyFilter findFilter(Object filterId) {
+        return null != this.delegate ? this.delegate.findFilter(filterId) : null;
+    }
+
+    @Override
+    public PropertyFilter findPropertyFilter(Object filterId, Object valueToFilter) {
+        return null != this.delegate ? this.delegate.findPropertyFilter(filterId, valueToFilter) : null;
+    }
+}
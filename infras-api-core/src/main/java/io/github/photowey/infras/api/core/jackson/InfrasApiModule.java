@@ -0,0 +1,162 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.core.jackson;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.Version;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.cfg.MapperConfig;
+import com.fasterxml.jackson.databind.deser.Deserializers;
+import com.fasterxml.jackson.databind.ser.Serializers;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import io.github.photowey.infras.api.common.collection.CompactMap;
+import io.github.photowey.infras.api.core.meta.Meta;
+import io.github.photowey.infras.api.core.model.page.PageResult;
+import io.github.photowey.infras.api.core.model.page.struct.ListStruct;
+
+import java.util.List;
+
+/**
+ * {@code InfrasApiModule}
+ * <p>
+ * Registers the hand-written serializers and deserializers of {@link PageResult}, {@link ListStruct} and {@link Meta},
+ * which write the same JSON as the reflective bean serializers with pre-encoded field names and no per-field reflection.
+ * The one addition is the {@code code} and {@code message} of a {@link PageResult}, which are not bean properties
+ * and are left out by the reflective serializer.
+ * <p>
+ * Only the exact envelope classes are handled; subclasses keep the reflective handling.
+ * When the mapper is configured in a way that changes the reflective shape
+ * (naming strategy, mix-ins, global inclusion, enum or property-order features, default typing)
+ * the module steps aside and the reflective (de)serializers are used, so {@code data} never depends on the module.
+ * <p>
+ * Also registered through {@code META-INF/services}, so {@code ObjectMapper#findAndRegisterModules()} picks it up.
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public class InfrasApiModule extends Module {
+
+    public static final String MODULE_NAME = "InfrasApiModule";
+
+    @Override
+    public String getModuleName() {
+        return MODULE_NAME;
+    }
+
+    @Override
+    public Version version() {
+        return Version.unknownVersion();
+    }
+
+    @Override
+    public Object getTypeId() {
+        return InfrasApiModule.class.getName();
+    }
+
+    @Override
+    public void setupModule(SetupContext context) {
+        context.addSerializers(new EnvelopeSerializers());
+        context.addDeserializers(new EnvelopeDeserializers());
+    }
+
+    // ----------------------------------------------------------------
+
+    private static boolean determineIsEnvelope(Class<?> raw) {
+        return PageResult.class == raw || ListStruct.class == raw || Meta.class == raw;
+    }
+
+    private static boolean determineIsCustomized(MapperConfig<?> config, JavaType type) {
+        return null != config.getPropertyNamingStrategy()
+            || null != config.findMixInClassFor(type.getRawClass())
+            || null != config.getDefaultTyper(type)
+            || config.isEnabled(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY);
+    }
+
+    private static boolean determineIsCustomized(SerializationConfig config, JavaType type) {
+        if (determineIsCustomized((MapperConfig<?>) config, type)) {
+            return true;
+        }
+
+        JsonInclude.Include inclusion = config.getDefaultPropertyInclusion(type.getRawClass()).getValueInclusion();
+        return (JsonInclude.Include.ALWAYS != inclusion && JsonInclude.Include.USE_DEFAULTS != inclusion)
+            || config.isEnabled(SerializationFeature.WRITE_ENUMS_USING_TO_STRING)
+            || config.isEnabled(SerializationFeature.WRITE_ENUMS_USING_INDEX);
+    }
+
+    private static boolean determineIsCustomized(DeserializationConfig config, JavaType type) {
+        return determineIsCustomized((MapperConfig<?>) config, type)
+            || config.isEnabled(MapperFeature.ACCEPT_CASE_INSENSITIVE_PROPERTIES);
+    }
+
+    // ----------------------------------------------------------------
+
+    private static class EnvelopeSerializers extends Serializers.Base {
+
+        @Override
+        public JsonSerializer<?> findSerializer(SerializationConfig config, JavaType type, BeanDescription beanDesc) {
+            Class<?> raw = type.getRawClass();
+            if (!determineIsEnvelope(raw) || determineIsCustomized(config, type)) {
+                return null;
+            }
+
+            if (PageResult.class == raw) {
+                return new PageResultSerializer();
+            }
+            if (ListStruct.class == raw) {
+                return new ListStructSerializer();
+            }
+
+            return new MetaSerializer();
+        }
+    }
+
+    private static class EnvelopeDeserializers extends Deserializers.Base {
+
+        @Override
+        public JsonDeserializer<?> findBeanDeserializer(JavaType type, DeserializationConfig config, BeanDescription beanDesc) {
+            Class<?> raw = type.getRawClass();
+            if (!determineIsEnvelope(raw) || determineIsCustomized(config, type)) {
+                return null;
+            }
+
+            if (Meta.class == raw) {
+                return new MetaDeserializer();
+            }
+
+            TypeFactory factory = config.getTypeFactory();
+            JavaType itemType = type.containedTypeOrUnknown(0);
+            JavaType structType = factory.constructParametricType(ListStruct.class, itemType);
+            if (PageResult.class == raw) {
+                return new PageResultDeserializer(type, structType);
+            }
+
+            return new ListStructDeserializer(
+                structType,
+                factory.constructCollectionType(List.class, itemType),
+                factory.constructMapType(CompactMap.class, String.class, Object.class)
+            );
+        }
+    }
+}
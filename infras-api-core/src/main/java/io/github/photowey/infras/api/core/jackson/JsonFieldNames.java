@@ -0,0 +1,53 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.core.jackson;
+
+import com.fasterxml.jackson.core.io.SerializedString;
+
+/**
+ * {@code JsonFieldNames}
+ * <p>
+ * Pre-encoded envelope field names, quoted and escaped once instead of on every write.
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+final class JsonFieldNames {
+
+    static final SerializedString CODE = new SerializedString("code");
+    static final SerializedString MESSAGE = new SerializedString("message");
+    static final SerializedString DATA = new SerializedString("data");
+
+    static final SerializedString PAGE_NO = new SerializedString("pageNo");
+    static final SerializedString PAGE_SIZE = new SerializedString("pageSize");
+    static final SerializedString COUNT = new SerializedString("count");
+    static final SerializedString PAGES = new SerializedString("pages");
+    static final SerializedString LIST = new SerializedString("list");
+    static final SerializedString ADDITIONAL = new SerializedString("additional");
+    static final SerializedString NEXT_CURSOR = new SerializedString("nextCursor");
+    static final SerializedString PREV_CURSOR = new SerializedString("prevCursor");
+    static final SerializedString COUNT_MODE = new SerializedString("countMode");
+    static final SerializedString HAS_NEXT = new SerializedString("hasNext");
+    static final SerializedString COUNT_CAPPED = new SerializedString("countCapped");
+
+    static final SerializedString META = new SerializedString("meta");
+    static final SerializedString ITEM = new SerializedString("item");
+
+    private JsonFieldNames() {
+        throw new AssertionError("No " + this.getClass().getName() + " instances for you!");
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.core.jackson;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import io.github.photowey.infras.api.core.meta.count.CountMode;
+
+import java.io.IOException;
+
+/**
+ * {@code JsonReads}
+ * <p>
+ * The scalar readers shared by the envelope deserializers: the common token is read directly,
+ * anything else (coercion from strings, empty values...) goes to the standard deserializer
+ * so the configured coercion rules still apply.
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+final class JsonReads {
+
+    private JsonReads() {
+        throw new AssertionError("No " + this.getClass().getName() + " instances for you!");
+    }
+
+    // ----------------------------------------------------------------
+
+    static Long readLong(JsonParser p, DeserializationContext ctxt) throws IOException {
+        JsonToken token = p.currentToken();
+        if (JsonToken.VALUE_NUMBER_INT == token) {
+            return p.getLongValue();
+        }
+        if (JsonToken.VALUE_NULL == token) {
+            return null;
+        }
+
+        return (Long) ctxt.findRootValueDeserializer(ctxt.constructType(Long.class)).deserialize(p, ctxt);
+    }
+
+    static String readString(JsonParser p, DeserializationContext ctxt) throws IOException {
+        JsonToken token = p.currentToken();
+        if (JsonToken.VALUE_STRING == token) {
+            return p.getText();
+        }
+        if (JsonToken.VALUE_NULL == token) {
+            return null;
+        }
+
+        return (String) ctxt.findRootValueDeserializer(ctxt.constructType(String.class)).deserialize(p, ctxt);
+    }
+
+    static Boolean readBoolean(JsonParser p, DeserializationContext ctxt) throws IOException {
+        JsonToken token = p.currentToken();
+        if (JsonToken.VALUE_TRUE == token) {
+            return Boolean.TRUE;
+        }
+        if (JsonToken.VALUE_FALSE == token) {
+            return Boolean.FALSE;
+        }
+        if (JsonToken.VALUE_NULL == token) {
+            return null;
+        }
+
+        return (Boolean) ctxt.findRootValueDeserializer(ctxt.constructType(Boolean.class)).deserialize(p, ctxt);
+    }
+
+    static CountMode readCountMode(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (JsonToken.VALUE_NULL == p.currentToken()) {
+            return null;
+        }
+
+        return (CountMode) ctxt.findRootValueDeserializer(ctxt.constructType(CountMode.class)).deserialize(p, ctxt);
+    }
+
+    /**
+     * Moves from {@code START_OBJECT} to the first field, rejecting any other start token.
+     */
+    static JsonToken startObject(JsonParser p, DeserializationContext ctxt, Class<?> type) throws IOException {
+        JsonToken token = p.currentToken();
+        if (JsonToken.START_OBJECT == token) {
+            return p.nextToken();
+        }
+        if (JsonToken.FIELD_NAME == token || JsonToken.END_OBJECT == token) {
+            return token;
+        }
+
+        ctxt.handleUnexpectedToken(type, p);
+        return null;
+    }
+}
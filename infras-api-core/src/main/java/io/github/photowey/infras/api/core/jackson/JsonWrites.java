@@ -0,0 +1,166 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.core.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import io.github.photowey.infras.api.core.meta.count.CountMode;
+import io.github.photowey.infras.api.core.model.page.struct.ListStruct;
+
+import java.io.IOException;
+import java.util.Iterator;
+
+/**
+ * {@code JsonWrites}
+ * <p>
+ * The field writers shared by the envelope serializers.
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+final class JsonWrites {
+
+    private JsonWrites() {
+        throw new AssertionError("No " + this.getClass().getName() + " instances for you!");
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * Writes the {@link ListStruct} fields, in the order of its reflective shape, with the given items.
+     *
+     * @return the number of items written, {@code -1} for a {@code null} list
+     */
+    static long writeStruct(ListStruct<?> struct, Iterator<?> items, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        writeLongField(JsonFieldNames.PAGE_NO, struct.getPageNo(), gen);
+        writeLongField(JsonFieldNames.PAGE_SIZE, struct.getPageSize(), gen);
+        writeLongField(JsonFieldNames.COUNT, struct.getCount(), gen);
+
+        long size = -1;
+        gen.writeFieldName(JsonFieldNames.LIST);
+        if (null != items) {
+            size = writeItems(items, resolveFields(provider), gen, provider);
+        } else {
+            gen.writeNull();
+        }
+
+        writeOptionalFields(struct.getNextCursor(), struct.getPrevCursor(), struct.getCountMode(), struct.getHasNext(), struct.getCountCapped(), gen);
+
+        gen.writeFieldName(JsonFieldNames.ADDITIONAL);
+        provider.defaultSerializeValue(struct.additionalView(), gen);
+
+        return size;
+    }
+
+    /**
+     * The {@code NON_NULL} fields of {@code Meta} and {@code ListStruct}.
+     */
+    static void writeOptionalFields(String nextCursor, String prevCursor, CountMode countMode, Boolean hasNext, Boolean countCapped,
+                                    JsonGenerator gen) throws IOException {
+        if (null != nextCursor) {
+            gen.writeFieldName(JsonFieldNames.NEXT_CURSOR);
+            gen.writeString(nextCursor);
+        }
+        if (null != prevCursor) {
+            gen.writeFieldName(JsonFieldNames.PREV_CURSOR);
+            gen.writeString(prevCursor);
+        }
+        if (null != countMode) {
+            gen.writeFieldName(JsonFieldNames.COUNT_MODE);
+            gen.writeString(countMode.name());
+        }
+        if (null != hasNext) {
+            gen.writeFieldName(JsonFieldNames.HAS_NEXT);
+            gen.writeBoolean(hasNext);
+        }
+        if (null != countCapped) {
+            gen.writeFieldName(JsonFieldNames.COUNT_CAPPED);
+            gen.writeBoolean(countCapped);
+        }
+    }
+
+    static void writeLongField(SerializedString name, Long value, JsonGenerator gen) throws IOException {
+        gen.writeFieldName(name);
+        if (null != value) {
+            gen.writeNumber(value.longValue());
+        } else {
+            gen.writeNull();
+        }
+    }
+
+    static void writeStringField(SerializedString name, String value, JsonGenerator gen) throws IOException {
+        gen.writeFieldName(name);
+        if (null != value) {
+            gen.writeString(value);
+        } else {
+            gen.writeNull();
+        }
+    }
+
+    /**
+     * @return the per-call {@link FieldSet}, {@code null} for every field
+     */
+    static FieldSet resolveFields(SerializerProvider provider) {
+        Object fields = provider.getAttribute(FieldSet.ATTRIBUTE);
+        if (fields instanceof FieldSet) {
+            return (FieldSet) fields;
+        }
+
+        FilterProvider filters = provider.getFilterProvider();
+        return filters instanceof FieldSetFilterProvider ? ((FieldSetFilterProvider) filters).fields() : null;
+    }
+
+    /**
+     * Looks the item serializer (and the sparse writer) up once per run of same-class items.
+     *
+     * @return the number of items written
+     */
+    static long writeItems(Iterator<?> it, FieldSet fields, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartArray();
+
+        long size = 0;
+        Class<?> lastType = null;
+        JsonSerializer<Object> last = null;
+        SparseItemWriters.ItemWriter sparse = null;
+        while (it.hasNext()) {
+            Object item = it.next();
+            size++;
+            if (null == item) {
+                provider.defaultSerializeNull(gen);
+                continue;
+            }
+
+            Class<?> type = item.getClass();
+            if (type != lastType) {
+                last = provider.findValueSerializer(type, null);
+                sparse = null != fields ? SparseItemWriters.find(type, last, fields, provider) : null;
+                lastType = type;
+            }
+            if (null != sparse) {
+                sparse.write(item, gen, provider);
+            } else {
+                last.serialize(item, gen, provider);
+            }
+        }
+
+        gen.writeEndArray();
+        return size;
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.core.jackson;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.deser.ResolvableDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import io.github.photowey.infras.api.core.model.page.struct.ListStruct;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@code ListStructDeserializer}
+ * <p>
+ * Reads a {@code list} array item by item; other {@code list} shapes
+ * (e.g. a single value under {@code ACCEPT_SINGLE_VALUE_AS_ARRAY}) go to the standard collection deserializer.
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public class ListStructDeserializer extends StdDeserializer<ListStruct<?>> implements ResolvableDeserializer {
+
+    private static final long serialVersionUID = 6081513412938406049L;
+
+    private final JavaType listType;
+    private final JavaType additionalType;
+
+    private transient JsonDeserializer<Object> itemDeserializer;
+    private transient JsonDeserializer<Object> listDeserializer;
+    private transient JsonDeserializer<Object> additionalDeserializer;
+
+    /**
+     * @param valueType      {@code ListStruct<T>}
+     * @param listType       {@code List<T>}
+     * @param additionalType {@code Map<String, Object>}
+     */
+    public ListStructDeserializer(JavaType valueType, JavaType listType, JavaType additionalType) {
+        super(valueType);
+        this.listType = listType;
+        this.additionalType = additionalType;
+    }
+
+    @Override
+    public void resolve(DeserializationContext ctxt) throws JsonMappingException {
+        this.itemDeserializer = ctxt.findRootValueDeserializer(this.listType.getContentType());
+        this.listDeserializer = ctxt.findRootValueDeserializer(this.listType);
+        this.additionalDeserializer = ctxt.findRootValueDeserializer(this.additionalType);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public ListStruct<?> deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        ListStruct<Object> struct = new ListStruct<>();
+
+        for (JsonToken token = JsonReads.startObject(p, ctxt, ListStruct.class); JsonToken.FIELD_NAME == token; token = p.nextToken()) {
+            String name = p.currentName();
+            JsonToken value = p.nextToken();
+            switch (name) {
+                case "pageNo":
+                    struct.setPageNo(JsonReads.readLong(p, ctxt));
+                    break;
+                case "pageSize":
+                    struct.setPageSize(JsonReads.readLong(p, ctxt));
+                    break;
+                case "count":
+                    struct.setCount(JsonReads.readLong(p, ctxt));
+                    break;
+                case "list":
+                    struct.setList(this.readList(value, p, ctxt));
+                    break;
+                case "additional":
+                    struct.setAdditional(JsonToken.VALUE_NULL == value ? null : (Map<String, Object>) this.additionalDeserializer.deserialize(p, ctxt));
+                    break;
+                case "nextCursor":
+                    struct.setNextCursor(JsonReads.readString(p, ctxt));
+                    break;
+                case "prevCursor":
+                    struct.setPrevCursor(JsonReads.readString(p, ctxt));
+                    break;
+                case "countMode":
+                    struct.setCountMode(JsonReads.readCountMode(p, ctxt));
+                    break;
+                case "hasNext":
+                    struct.setHasNext(JsonReads.readBoolean(p, ctxt));
+                    break;
+                case "countCapped":
+                    struct.setCountCapped(JsonReads.readBoolean(p, ctxt));
+                    break;
+                default:
+                    ctxt.handleUnknownProperty(p, this, ListStruct.class, name);
+                    break;
+            }
+        }
+
+        return struct;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object> readList(JsonToken value, JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (JsonToken.VALUE_NULL == value) {
+            return null;
+        }
+        if (JsonToken.START_ARRAY != value) {
+            return (List<Object>) this.listDeserializer.deserialize(p, ctxt);
+        }
+
+        List<Object> list = new ArrayList<>();
+        for (JsonToken token = p.nextToken(); JsonToken.END_ARRAY != token; token = p.nextToken()) {
+            list.add(JsonToken.VALUE_NULL == token ? this.itemDeserializer.getNullValue(ctxt) : this.itemDeserializer.deserialize(p, ctxt));
+        }
+
+        return list;
+    }
+}
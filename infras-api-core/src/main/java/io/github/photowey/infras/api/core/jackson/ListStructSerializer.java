@@ -0,0 +1,50 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.core.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.github.photowey.infras.api.core.model.page.struct.ListStruct;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * {@code ListStructSerializer}
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public class ListStructSerializer extends StdSerializer<ListStruct<?>> {
+
+    private static final long serialVersionUID = -7712148104947440905L;
+
+    public ListStructSerializer() {
+        super(ListStruct.class, false);
+    }
+
+    @Override
+    public void serialize(ListStruct<?> struct, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(struct);
+
+        List<?> list = struct.getList();
+        JsonWrites.writeStruct(struct, null != list ? list.iterator() : null, gen, provider);
+
+        gen.writeEndObject();
+    }
+}
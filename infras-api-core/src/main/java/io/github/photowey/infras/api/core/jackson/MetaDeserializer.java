@@ -0,0 +1,84 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.core.jackson;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import io.github.photowey.infras.api.core.meta.Meta;
+
+import java.io.IOException;
+
+/**
+ * {@code MetaDeserializer}
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public class MetaDeserializer extends StdDeserializer<Meta> {
+
+    private static final long serialVersionUID = 5436640398893049155L;
+
+    public MetaDeserializer() {
+        super(Meta.class);
+    }
+
+    @Override
+    public Meta deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        Meta meta = new Meta();
+
+        for (JsonToken token = JsonReads.startObject(p, ctxt, Meta.class); JsonToken.FIELD_NAME == token; token = p.nextToken()) {
+            String name = p.currentName();
+            p.nextToken();
+            switch (name) {
+                case "pageNo":
+                    meta.setPageNo(JsonReads.readLong(p, ctxt));
+                    break;
+                case "pageSize":
+                    meta.setPageSize(JsonReads.readLong(p, ctxt));
+                    break;
+                case "count":
+                    meta.setCount(JsonReads.readLong(p, ctxt));
+                    break;
+                case "pages":
+                    meta.setPages(JsonReads.readLong(p, ctxt));
+                    break;
+                case "nextCursor":
+                    meta.setNextCursor(JsonReads.readString(p, ctxt));
+                    break;
+                case "prevCursor":
+                    meta.setPrevCursor(JsonReads.readString(p, ctxt));
+                    break;
+                case "countMode":
+                    meta.setCountMode(JsonReads.readCountMode(p, ctxt));
+                    break;
+                case "hasNext":
+                    meta.setHasNext(JsonReads.readBoolean(p, ctxt));
+                    break;
+                case "countCapped":
+                    meta.setCountCapped(JsonReads.readBoolean(p, ctxt));
+                    break;
+                default:
+                    ctxt.handleUnknownProperty(p, this, Meta.class, name);
+                    break;
+            }
+        }
+
+        return meta;
+    }
+}
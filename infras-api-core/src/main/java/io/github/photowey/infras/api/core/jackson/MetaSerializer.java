@@ -0,0 +1,52 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.core.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.github.photowey.infras.api.core.meta.Meta;
+
+import java.io.IOException;
+
+/**
+ * {@code MetaSerializer}
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public class MetaSerializer extends StdSerializer<Meta> {
+
+    private static final long serialVersionUID = 2139871265703011542L;
+
+    public MetaSerializer() {
+        super(Meta.class);
+    }
+
+    @Override
+    public void serialize(Meta meta, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(meta);
+
+        JsonWrites.writeLongField(JsonFieldNames.PAGE_NO, meta.getPageNo(), gen);
+        JsonWrites.writeLongField(JsonFieldNames.PAGE_SIZE, meta.getPageSize(), gen);
+        JsonWrites.writeLongField(JsonFieldNames.COUNT, meta.getCount(), gen);
+        JsonWrites.writeLongField(JsonFieldNames.PAGES, meta.getPages(), gen);
+        JsonWrites.writeOptionalFields(meta.getNextCursor(), meta.getPrevCursor(), meta.getCountMode(), meta.getHasNext(), meta.getCountCapped(), gen);
+
+        gen.writeEndObject();
+    }
+}
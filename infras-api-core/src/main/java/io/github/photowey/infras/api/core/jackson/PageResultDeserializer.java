@@ -0,0 +1,86 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.core.jackson;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.deser.ResolvableDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import io.github.photowey.infras.api.core.model.page.PageResult;
+import io.github.photowey.infras.api.core.model.page.struct.ListStruct;
+
+import java.io.IOException;
+
+/**
+ * {@code PageResultDeserializer}
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public class PageResultDeserializer extends StdDeserializer<PageResult<?>> implements ResolvableDeserializer {
+
+    private static final long serialVersionUID = -1195420307432616713L;
+
+    private final JavaType structType;
+
+    private transient JsonDeserializer<Object> structDeserializer;
+
+    /**
+     * @param valueType  {@code PageResult<T>}
+     * @param structType {@code ListStruct<T>}
+     */
+    public PageResultDeserializer(JavaType valueType, JavaType structType) {
+        super(valueType);
+        this.structType = structType;
+    }
+
+    @Override
+    public void resolve(DeserializationContext ctxt) throws JsonMappingException {
+        this.structDeserializer = ctxt.findRootValueDeserializer(this.structType);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public PageResult<?> deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        PageResult<Object> page = PageResult.create();
+
+        for (JsonToken token = JsonReads.startObject(p, ctxt, PageResult.class); JsonToken.FIELD_NAME == token; token = p.nextToken()) {
+            String name = p.currentName();
+            JsonToken value = p.nextToken();
+            switch (name) {
+                case "code":
+                    page.setCode(JsonReads.readString(p, ctxt));
+                    break;
+                case "message":
+                    page.setMessage(JsonReads.readString(p, ctxt));
+                    break;
+                case "data":
+                    page.setData(JsonToken.VALUE_NULL == value ? null : (ListStruct<Object>) this.structDeserializer.deserialize(p, ctxt));
+                    break;
+                default:
+                    ctxt.handleUnknownProperty(p, this, PageResult.class, name);
+                    break;
+            }
+        }
+
+        return page;
+    }
+}
@@ -0,0 +1,554 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.core.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.github.photowey.infras.api.common.constant.InfrasConstants;
+import io.github.photowey.infras.api.core.code.ResultCodeSnapshot;
+import io.github.photowey.infras.api.core.code.ResultCodes;
+import io.github.photowey.infras.api.core.meta.Meta;
+import io.github.photowey.infras.api.core.meta.count.CountMode;
+import io.github.photowey.infras.api.core.metrics.PaginationMetrics;
+import io.github.photowey.infras.api.core.model.page.PageResult;
+import io.github.photowey.infras.api.core.model.page.struct.ListStruct;
+import io.github.photowey.infras.api.core.model.page.struct.StreamingListStruct;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * {@code PageResultEnvelopeWriter}
+ * <p>
+ * Writes a {@link PageResult} as compact UTF-8 JSON, with the same shape as {@link InfrasApiModule}.
+ * The constant parts are pre-encoded once into byte templates:
+ * <ul>
+ *     <li>the {@code {"code":"200000000","message":"ok","data":} prefix of the resolved ok code and message</li>
+ *     <li>the whole default empty page</li>
+ *     <li>the field names of {@code data}</li>
+ * </ul>
+ * Only the {@code meta} numbers, the optional fields, {@code list} and {@code additional} are encoded per call;
+ * the items and the {@code additional} values go through the given {@link ObjectMapper}.
+ * <p>
+ * The templates follow {@link ResultCodes#snapshot()} and are rebuilt after a {@link ResultCodes#reload()}.
+ * The output is always compact, whatever the indentation of the mapper.
+ * The written bytes are reported to {@link PaginationMetrics}.
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public final class PageResultEnvelopeWriter {
+
+    private static final byte[] CODE = ascii("{\"code\":");
+    private static final byte[] MESSAGE = ascii(",\"message\":");
+    private static final byte[] DATA = ascii(",\"data\":");
+    private static final byte[] PAGE_NO = ascii("{\"pageNo\":");
+    private static final byte[] PAGE_SIZE = ascii(",\"pageSize\":");
+    private static final byte[] COUNT = ascii(",\"count\":");
+    private static final byte[] LIST = ascii(",\"list\":");
+    private static final byte[] NEXT_CURSOR = ascii(",\"nextCursor\":");
+    private static final byte[] PREV_CURSOR = ascii(",\"prevCursor\":");
+    private static final byte[] COUNT_MODE = ascii(",\"countMode\":");
+    private static final byte[] HAS_NEXT = ascii(",\"hasNext\":");
+    private static final byte[] COUNT_CAPPED = ascii(",\"countCapped\":");
+    private static final byte[] ADDITIONAL = ascii(",\"additional\":");
+
+    private static final byte[] NULL = ascii("null");
+    private static final byte[] TRUE = ascii("true");
+    private static final byte[] FALSE = ascii("false");
+    private static final byte[] EMPTY_ARRAY = ascii("[]");
+    private static final byte[] EMPTY_OBJECT = ascii("{}");
+    private static final byte[] END_DATA = ascii("}}");
+    private static final byte[] END_NULL_DATA = ascii("null}");
+
+    private static final byte[] MIN_LONG = ascii(String.valueOf(Long.MIN_VALUE));
+
+    private final ObjectWriter writer;
+
+    private volatile Templates templates;
+
+    private PageResultEnvelopeWriter(ObjectWriter writer) {
+        this.writer = writer;
+    }
+
+    // ----------------------------------------------------------------
+
+    public static PageResultEnvelopeWriter of(ObjectMapper mapper) {
+        if (null == mapper) {
+            throw new IllegalArgumentException("The object mapper must not be null");
+        }
+
+        return new PageResultEnvelopeWriter(mapper.writer().without(SerializationFeature.INDENT_OUTPUT));
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * Writes the page to the stream; the stream is neither flushed nor closed.
+     * <p>
+     * The envelope goes out in a few bulk writes, the items through a buffered {@link JsonGenerator}.
+     */
+    public void write(PageResult<?> page, OutputStream out) throws IOException {
+        if (!PaginationMetrics.determineIsEnabled()) {
+            this.doWrite(page, out);
+            return;
+        }
+
+        CountingOutputStream counting = new CountingOutputStream(out);
+        this.doWrite(page, counting);
+        recordSerializedBytes(counting.count());
+    }
+
+    /**
+     * Writes the page into the buffer, from its current position.
+     *
+     * @throws java.nio.BufferOverflowException if the page does not fit into the remaining buffer
+     */
+    public void write(PageResult<?> page, ByteBuffer buffer) {
+        int position = buffer.position();
+        try {
+            this.doWrite(page, new ByteBufferOutputStream(buffer));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        recordSerializedBytes(buffer.position() - position);
+    }
+
+    public byte[] writeValueAsBytes(PageResult<?> page) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(512);
+        try {
+            this.doWrite(page, out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        recordSerializedBytes(out.size());
+        return out.toByteArray();
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * The ok envelope of the page up to the opening bracket of {@code list}, for writers that emit the items
+     * one by one, e.g. a reactive encoder: {@code writeHead}, then {@code writeItem} per item, then {@code writeTail}.
+     */
+    public byte[] writeHead(Meta meta) {
+        Scratch scratch = new Scratch();
+        scratch.write(this.templates().okPrefix);
+        scratch.write(PAGE_NO);
+        writeLong(meta.getPageNo(), scratch);
+        scratch.write(PAGE_SIZE);
+        writeLong(meta.getPageSize(), scratch);
+        scratch.write(COUNT);
+        writeLong(meta.getCount(), scratch);
+        scratch.write(LIST);
+        scratch.write('[');
+
+        return scratch.toByteArray();
+    }
+
+    /**
+     * @param item  the item
+     * @param first whether the item is the first one of {@code list}, i.e. needs no leading comma
+     */
+    public byte[] writeItem(Object item, boolean first) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(64);
+        try {
+            if (!first) {
+                out.write(',');
+            }
+            this.writeValue(item, out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return out.toByteArray();
+    }
+
+    /**
+     * The rest of the envelope after the last item: the closing bracket of {@code list},
+     * the optional fields of the meta and {@code additional}.
+     */
+    public byte[] writeTail(Meta meta, Map<String, Object> additional) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(64);
+        Scratch scratch = new Scratch();
+        scratch.write(']');
+        writeOptionalFields(meta.getNextCursor(), meta.getPrevCursor(), meta.getCountMode(), meta.getHasNext(), meta.getCountCapped(), scratch);
+        scratch.write(ADDITIONAL);
+        try {
+            if (null == additional) {
+                scratch.write(NULL);
+            } else if (additional.isEmpty()) {
+                scratch.write(EMPTY_OBJECT);
+            } else {
+                scratch.writeTo(out);
+                this.writeValue(additional, out);
+            }
+
+            scratch.write(END_DATA);
+            scratch.writeTo(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return out.toByteArray();
+    }
+
+    // ----------------------------------------------------------------
+
+    private void doWrite(PageResult<?> page, OutputStream out) throws IOException {
+        Templates current = this.templates();
+        ListStruct<?> struct = page.getData();
+
+        if (current.determineIsOk(page) && determineIsDefaultEmpty(struct)) {
+            out.write(current.emptyPage);
+            return;
+        }
+
+        Scratch scratch = new Scratch();
+        if (current.determineIsOk(page)) {
+            scratch.write(current.okPrefix);
+        } else {
+            writePrefix(page.getCode(), page.getMessage(), scratch);
+        }
+
+        if (null == struct) {
+            scratch.write(END_NULL_DATA);
+            scratch.writeTo(out);
+            return;
+        }
+
+        this.writeStruct(struct, scratch, out);
+    }
+
+    private void writeStruct(ListStruct<?> struct, Scratch scratch, OutputStream out) throws IOException {
+        scratch.write(PAGE_NO);
+        writeLong(struct.getPageNo(), scratch);
+        scratch.write(PAGE_SIZE);
+        writeLong(struct.getPageSize(), scratch);
+        scratch.write(COUNT);
+        writeLong(struct.getCount(), scratch);
+        scratch.write(LIST);
+
+        if (struct instanceof StreamingListStruct) {
+            StreamingListStruct<?> streaming = (StreamingListStruct<?>) struct;
+            boolean materialized = streaming.determineIsMaterialized();
+            try {
+                scratch.writeTo(out);
+                CountingIterator<?> items = new CountingIterator<>(streaming.iterator());
+                this.writeValue(items, out);
+                if (!materialized) {
+                    PaginationMetrics.recorder().recordListSize(items.count);
+                }
+            } finally {
+                streaming.close();
+            }
+        } else {
+            List<?> list = struct.getList();
+            if (null == list) {
+                scratch.write(NULL);
+            } else if (list.isEmpty()) {
+                scratch.write(EMPTY_ARRAY);
+            } else {
+                scratch.writeTo(out);
+                this.writeValue(list, out);
+            }
+        }
+
+        writeOptionalFields(struct.getNextCursor(), struct.getPrevCursor(), struct.getCountMode(), struct.getHasNext(), struct.getCountCapped(), scratch);
+        scratch.write(ADDITIONAL);
+
+        Map<String, Object> additional = struct.additionalView();
+        if (null == additional) {
+            scratch.write(NULL);
+        } else if (additional.isEmpty()) {
+            scratch.write(EMPTY_OBJECT);
+        } else {
+            scratch.writeTo(out);
+            this.writeValue(additional, out);
+        }
+
+        scratch.write(END_DATA);
+        scratch.writeTo(out);
+    }
+
+    private void writeValue(Object value, OutputStream out) throws IOException {
+        try (JsonGenerator gen = this.writer.getFactory().createGenerator(out)) {
+            gen.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            gen.disable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+            this.writer.writeValue(gen, value);
+        }
+    }
+
+    private Templates templates() {
+        ResultCodeSnapshot snapshot = ResultCodes.snapshot();
+        Templates current = this.templates;
+        if (null == current || current.snapshot != snapshot) {
+            current = new Templates(snapshot);
+            this.templates = current;
+        }
+
+        return current;
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * Reports the written bytes of every write path, skipped while no recorder is installed.
+     */
+    private static void recordSerializedBytes(long bytes) {
+        if (PaginationMetrics.determineIsEnabled()) {
+            PaginationMetrics.recorder().recordSerializedBytes(bytes);
+        }
+    }
+
+    private static boolean determineIsDefaultEmpty(ListStruct<?> struct) {
+        if (null == struct || ListStruct.class != struct.getClass()) {
+            return false;
+        }
+
+        List<?> list = struct.getList();
+        Map<String, Object> additional = struct.additionalView();
+
+        return null != list && list.isEmpty()
+                && null != additional && additional.isEmpty()
+                && determineIsEqual(struct.getPageNo(), InfrasConstants.Pagination.DEFAULT_PAGE_NO)
+                && determineIsEqual(struct.getPageSize(), InfrasConstants.Pagination.DEFAULT_PAGE_SIZE)
+                && determineIsEqual(struct.getCount(), InfrasConstants.Pagination.EMPTY)
+                && null == struct.getNextCursor()
+                && null == struct.getPrevCursor()
+                && null == struct.getCountMode()
+                && null == struct.getHasNext()
+                && null == struct.getCountCapped();
+    }
+
+    private static boolean determineIsEqual(Long value, long expected) {
+        return null != value && value == expected;
+    }
+
+    private static void writePrefix(String code, String message, Scratch scratch) {
+        scratch.write(CODE);
+        writeString(code, scratch);
+        scratch.write(MESSAGE);
+        writeString(message, scratch);
+        scratch.write(DATA);
+    }
+
+    private static void writeOptionalFields(String nextCursor, String prevCursor, CountMode countMode, Boolean hasNext, Boolean countCapped, Scratch scratch) {
+        if (null != nextCursor) {
+            scratch.write(NEXT_CURSOR);
+            writeString(nextCursor, scratch);
+        }
+        if (null != prevCursor) {
+            scratch.write(PREV_CURSOR);
+            writeString(prevCursor, scratch);
+        }
+        if (null != countMode) {
+            scratch.write(COUNT_MODE);
+            writeString(countMode.name(), scratch);
+        }
+        if (null != hasNext) {
+            scratch.write(HAS_NEXT);
+            scratch.write(hasNext ? TRUE : FALSE);
+        }
+        if (null != countCapped) {
+            scratch.write(COUNT_CAPPED);
+            scratch.write(countCapped ? TRUE : FALSE);
+        }
+    }
+
+    private static void writeString(String value, Scratch scratch) {
+        if (null == value) {
+            scratch.write(NULL);
+            return;
+        }
+
+        scratch.write('"');
+        scratch.write(JsonStringEncoder.getInstance().quoteAsUTF8(value));
+        scratch.write('"');
+    }
+
+    private static void writeLong(Long value, Scratch scratch) {
+        if (null == value) {
+            scratch.write(NULL);
+            return;
+        }
+
+        long v = value;
+        if (Long.MIN_VALUE == v) {
+            scratch.write(MIN_LONG);
+            return;
+        }
+        if (v < 0) {
+            scratch.write('-');
+            v = -v;
+        }
+
+        int digits = 1;
+        for (long bound = 10; digits < 19 && v >= bound; bound *= 10) {
+            digits++;
+        }
+
+        byte[] buf = scratch.reserve(digits);
+        int end = scratch.size + digits;
+        for (int i = end - 1; i >= scratch.size; i--) {
+            buf[i] = (byte) ('0' + (v % 10));
+            v /= 10;
+        }
+        scratch.size = end;
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * The pre-encoded envelope of one resolved ok code and message.
+     */
+    private static final class Templates {
+
+        private final ResultCodeSnapshot snapshot;
+        private final String okCode;
+        private final String okMessage;
+
+        private final byte[] okPrefix;
+        private final byte[] emptyPage;
+
+        Templates(ResultCodeSnapshot snapshot) {
+            this.snapshot = snapshot;
+            this.okCode = snapshot.okCode();
+            this.okMessage = snapshot.okMessage();
+
+            Scratch prefix = new Scratch();
+            writePrefix(this.okCode, this.okMessage, prefix);
+            this.okPrefix = prefix.toByteArray();
+
+            Scratch empty = new Scratch();
+            empty.write(this.okPrefix);
+            empty.write(PAGE_NO);
+            writeLong(InfrasConstants.Pagination.DEFAULT_PAGE_NO, empty);
+            empty.write(PAGE_SIZE);
+            writeLong(InfrasConstants.Pagination.DEFAULT_PAGE_SIZE, empty);
+            empty.write(COUNT);
+            writeLong(InfrasConstants.Pagination.EMPTY, empty);
+            empty.write(LIST);
+            empty.write(EMPTY_ARRAY);
+            empty.write(ADDITIONAL);
+            empty.write(EMPTY_OBJECT);
+            empty.write(END_DATA);
+            this.emptyPage = empty.toByteArray();
+        }
+
+        boolean determineIsOk(PageResult<?> page) {
+            return Objects.equals(this.okCode, page.getCode()) && Objects.equals(this.okMessage, page.getMessage());
+        }
+    }
+
+    /**
+     * Collects the envelope bytes between two item payloads, so they reach the stream in one write.
+     */
+    private static final class Scratch {
+
+        private byte[] buf = new byte[128];
+        private int size;
+
+        byte[] reserve(int length) {
+            int required = this.size + length;
+            if (required > this.buf.length) {
+                this.buf = Arrays.copyOf(this.buf, Math.max(this.buf.length << 1, required));
+            }
+
+            return this.buf;
+        }
+
+        void write(int b) {
+            this.reserve(1)[this.size++] = (byte) b;
+        }
+
+        void write(byte[] bytes) {
+            System.arraycopy(bytes, 0, this.reserve(bytes.length), this.size, bytes.length);
+            this.size += bytes.length;
+        }
+
+        void writeTo(OutputStream out) throws IOException {
+            if (this.size > 0) {
+                out.write(this.buf, 0, this.size);
+                this.size = 0;
+            }
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(this.buf, this.size);
+        }
+    }
+
+    private static final class CountingIterator<T> implements Iterator<T> {
+
+        private final Iterator<T> delegate;
+        private long count;
+
+        CountingIterator(Iterator<T> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.delegate.hasNext();
+        }
+
+        @Override
+        public T next() {
+            T next = this.delegate.next();
+            this.count++;
+            return next;
+        }
+    }
+
+    private static final class ByteBufferOutputStream extends OutputStream {
+
+        private final ByteBuffer buffer;
+
+        ByteBufferOutputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public void write(int b) {
+            this.buffer.put((byte) b);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) {
+            this.buffer.put(bytes, offset, length);
+        }
+    }
+}
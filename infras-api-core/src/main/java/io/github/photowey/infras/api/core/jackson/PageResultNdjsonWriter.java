@@ -0,0 +1,194 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.core.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.github.photowey.infras.api.core.metrics.PaginationMetrics;
+import io.github.photowey.infras.api.core.model.page.PageResult;
+import io.github.photowey.infras.api.core.model.page.struct.ListStruct;
+import io.github.photowey.infras.api.core.model.page.struct.StreamingListStruct;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * {@code PageResultNdjsonWriter}
+ * <p>
+ * Writes a {@link PageResult} as newline-delimited JSON ({@value #MEDIA_TYPE}):
+ * one header line with {@code code}, {@code message}, {@code meta} and {@code additional},
+ * then one line per item of {@code list}:
+ * <pre>
+ * {"code":"200000000","message":"ok","meta":{"pageNo":1,"pageSize":10,"count":2,"pages":1},"additional":{}}
+ * {"id":1}
+ * {"id":2}
+ * </pre>
+ * The stream is flushed after the header and every {@code flushInterval} items, so the reader can process
+ * the page row by row while it is still being written; with a {@link StreamingListStruct}
+ * neither side ever holds the whole page. A page without {@code data} writes the header with a {@code null} meta only.
+ * <p>
+ * The written bytes are reported to {@link PaginationMetrics}.
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public final class PageResultNdjsonWriter {
+
+    public static final String MEDIA_TYPE = "application/x-ndjson";
+    public static final int DEFAULT_FLUSH_INTERVAL = 64;
+
+    private static final char LINE_SEPARATOR = '\n';
+
+    private final ObjectWriter writer;
+    private final int flushInterval;
+
+    private PageResultNdjsonWriter(ObjectWriter writer, int flushInterval) {
+        this.writer = writer;
+        this.flushInterval = flushInterval;
+    }
+
+    // ----------------------------------------------------------------
+
+    public static PageResultNdjsonWriter of(ObjectMapper mapper) {
+        return of(mapper, DEFAULT_FLUSH_INTERVAL);
+    }
+
+    /**
+     * @param mapper        the mapper of the header values and the items
+     * @param flushInterval the items written between two flushes, {@code 1} flushes every line
+     */
+    public static PageResultNdjsonWriter of(ObjectMapper mapper, int flushInterval) {
+        if (null == mapper) {
+            throw new IllegalArgumentException("The object mapper must not be null");
+        }
+        if (flushInterval < 1) {
+            throw new IllegalArgumentException("Invalid ndjson flush interval: " + flushInterval);
+        }
+
+        ObjectWriter writer = mapper.writer()
+                .without(SerializationFeature.INDENT_OUTPUT)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        return new PageResultNdjsonWriter(writer, flushInterval);
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * Writes the page to the stream; the stream is flushed but not closed.
+     */
+    public void write(PageResult<?> page, OutputStream out) throws IOException {
+        if (!PaginationMetrics.determineIsEnabled()) {
+            this.doWrite(page, out);
+            return;
+        }
+
+        CountingOutputStream counting = new CountingOutputStream(out);
+        this.doWrite(page, counting);
+        PaginationMetrics.recorder().recordSerializedBytes(counting.count());
+    }
+
+    public byte[] writeValueAsBytes(PageResult<?> page) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(512);
+        try {
+            this.write(page, out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return out.toByteArray();
+    }
+
+    public int flushInterval() {
+        return this.flushInterval;
+    }
+
+    // ----------------------------------------------------------------
+
+    private void doWrite(PageResult<?> page, OutputStream out) throws IOException {
+        try (JsonGenerator gen = this.writer.getFactory().createGenerator(out)) {
+            gen.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            // The lines are separated explicitly, not by the default root value separator.
+            gen.setRootValueSeparator(null);
+
+            ListStruct<?> struct = page.getData();
+            this.writeHeader(page, struct, gen);
+            gen.flush();
+
+            if (null == struct) {
+                return;
+            }
+
+            if (struct instanceof StreamingListStruct) {
+                StreamingListStruct<?> streaming = (StreamingListStruct<?>) struct;
+                boolean materialized = streaming.determineIsMaterialized();
+                try {
+                    long size = this.writeItems(streaming.iterator(), gen);
+                    if (!materialized) {
+                        PaginationMetrics.recorder().recordListSize(size);
+                    }
+                } finally {
+                    streaming.close();
+                }
+            } else {
+                List<?> list = struct.getList();
+                if (null != list) {
+                    this.writeItems(list.iterator(), gen);
+                }
+            }
+
+            gen.flush();
+        }
+    }
+
+    private void writeHeader(PageResult<?> page, ListStruct<?> struct, JsonGenerator gen) throws IOException {
+        gen.writeStartObject();
+        gen.writeFieldName(JsonFieldNames.CODE);
+        gen.writeString(page.getCode());
+        gen.writeFieldName(JsonFieldNames.MESSAGE);
+        gen.writeString(page.getMessage());
+        gen.writeFieldName(JsonFieldNames.META);
+        if (null == struct) {
+            gen.writeNull();
+        } else {
+            this.writer.writeValue(gen, struct.toMeta());
+            gen.writeFieldName(JsonFieldNames.ADDITIONAL);
+            this.writer.writeValue(gen, struct.additionalView());
+        }
+        gen.writeEndObject();
+        gen.writeRaw(LINE_SEPARATOR);
+    }
+
+    private long writeItems(Iterator<?> items, JsonGenerator gen) throws IOException {
+        long size = 0L;
+        while (items.hasNext()) {
+            this.writer.writeValue(gen, items.next());
+            gen.writeRaw(LINE_SEPARATOR);
+            if (0L == ++size % this.flushInterval) {
+                gen.flush();
+            }
+        }
+
+        return size;
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.core.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.github.photowey.infras.api.core.model.page.PageResult;
+import io.github.photowey.infras.api.core.model.page.struct.ListStruct;
+
+import java.io.IOException;
+
+/**
+ * {@code PageResultSerializer}
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public class PageResultSerializer extends StdSerializer<PageResult<?>> {
+
+    private static final long serialVersionUID = 3270713446339536187L;
+
+    public PageResultSerializer() {
+        super(PageResult.class, false);
+    }
+
+    @Override
+    public void serialize(PageResult<?> page, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(page);
+
+        JsonWrites.writeStringField(JsonFieldNames.CODE, page.getCode(), gen);
+        JsonWrites.writeStringField(JsonFieldNames.MESSAGE, page.getMessage(), gen);
+
+        gen.writeFieldName(JsonFieldNames.DATA);
+        ListStruct<?> struct = page.getData();
+        if (null != struct) {
+            // StreamingListStruct and other subclasses keep their own serializers
+            JsonSerializer<Object> serializer = provider.findValueSerializer(struct.getClass());
+            serializer.serialize(struct, gen, provider);
+        } else {
+            gen.writeNull();
+        }
+
+        gen.writeEndObject();
+    }
+}
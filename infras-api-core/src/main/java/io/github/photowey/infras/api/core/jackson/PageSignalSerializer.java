@@ -0,0 +1,59 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.core.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.github.photowey.infras.api.core.reactive.PageSignal;
+
+import java.io.IOException;
+
+/**
+ * {@code PageSignalSerializer}
+ * <p>
+ * Writes a {@link PageSignal} as {@code {"meta":{...},"additional":{...}}} or {@code {"item":...}},
+ * e.g. one line per signal of a {@code application/x-ndjson} stream.
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public class PageSignalSerializer extends StdSerializer<PageSignal<?>> {
+
+    private static final long serialVersionUID = 6315802745271930158L;
+
+    public PageSignalSerializer() {
+        super(PageSignal.class, false);
+    }
+
+    @Override
+    public void serialize(PageSignal<?> signal, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(signal);
+
+        if (signal.determineIsMeta()) {
+            gen.writeFieldName(JsonFieldNames.META);
+            provider.defaultSerializeValue(signal.meta(), gen);
+            gen.writeFieldName(JsonFieldNames.ADDITIONAL);
+            provider.defaultSerializeValue(signal.additional(), gen);
+        } else {
+            gen.writeFieldName(JsonFieldNames.ITEM);
+            provider.defaultSerializeValue(signal.item(), gen);
+        }
+
+        gen.writeEndObject();
+    }
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.core.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.AnnotationIntrospector;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.ser.std.BeanSerializerBase;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * {@code SparseItemWriters}
+ * <p>
+ * Writes list items restricted to a {@link FieldSet}.
+ * For a bean the selected {@link BeanPropertyWriter}s are compiled once per (item serializer, field set) and cached,
+ * so a filtered item costs the same as a full one minus the skipped properties.
+ * Maps are filtered by their {@code String} keys; any other value is written in full.
+ * So are beans whose serializer writes more than its property writers: a {@code @JsonTypeInfo} type id,
+ * a {@code @JsonFilter} property filter or a {@code @JsonAnyGetter}.
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+final class SparseItemWriters {
+
+    /**
+     * Field sets come from requests, so the cache is bounded: it starts over once full.
+     */
+    static final int MAX_CACHED = 1024;
+
+    private static final ConcurrentMap<Key, ItemWriter> CACHE = new ConcurrentHashMap<>();
+
+    /**
+     * Cached for the types written in full, never invoked.
+     */
+    private static final ItemWriter FULL = (item, gen, provider) -> {
+        throw new IllegalStateException("The full item writer is a marker");
+    };
+
+    private SparseItemWriters() {
+        throw new AssertionError("No " + this.getClass().getName() + " instances for you!");
+    }
+
+    // ----------------------------------------------------------------
+
+    interface ItemWriter {
+        void write(Object item, JsonGenerator gen, SerializerProvider provider) throws IOException;
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * @return the writer of items of {@code type}, or {@code null} to write them in full
+     */
+    static ItemWriter find(Class<?> type, JsonSerializer<Object> serializer, FieldSet fields, SerializerProvider provider) throws JsonMappingException {
+        if (Map.class.isAssignableFrom(type)) {
+            return new MapWriter(fields);
+        }
+        // A {@code @JsonView} or object identity changes what the bean serializer writes, keep it.
+        if (!(serializer instanceof BeanSerializerBase) || null != provider.getActiveView() || serializer.usesObjectId()) {
+            return null;
+        }
+
+        Key key = new Key(serializer, fields);
+        ItemWriter writer = CACHE.get(key);
+        if (null == writer) {
+            if (CACHE.size() >= MAX_CACHED) {
+                CACHE.clear();
+            }
+            writer = determineIsRestrictable(type, provider) ? compile((BeanSerializerBase) serializer, fields) : FULL;
+            CACHE.putIfAbsent(key, writer);
+        }
+
+        return FULL != writer ? writer : null;
+    }
+
+    /**
+     * A type id, a property filter and an any-getter are written by the bean serializer outside its property writers,
+     * so a compiled writer would drop them.
+     */
+    private static boolean determineIsRestrictable(Class<?> type, SerializerProvider provider) throws JsonMappingException {
+        JavaType javaType = provider.constructType(type);
+        if (null != provider.findTypeSerializer(javaType)) {
+            return false;
+        }
+
+        BeanDescription description = provider.getConfig().introspect(javaType);
+        if (null != description.findAnyGetter()) {
+            return false;
+        }
+
+        AnnotationIntrospector introspector = provider.getAnnotationIntrospector();
+        return null == introspector || null == introspector.findFilterId(description.getClassInfo());
+    }
+
+    private static ItemWriter compile(BeanSerializerBase serializer, FieldSet fields) {
+        List<BeanPropertyWriter> selected = new ArrayList<>(fields.size());
+        Iterator<PropertyWriter> it = serializer.properties();
+        while (it.hasNext()) {
+            PropertyWriter property = it.next();
+            if (property instanceof BeanPropertyWriter && fields.contains(property.getName())) {
+                selected.add((BeanPropertyWriter) property);
+            }
+        }
+
+        return new BeanWriter(selected.toArray(new BeanPropertyWriter[0]));
+    }
+
+    // ----------------------------------------------------------------
+
+    private static final class Key {
+
+        private final JsonSerializer<?> serializer;
+        private final FieldSet fields;
+
+        private Key(JsonSerializer<?> serializer, FieldSet fields) {
+            this.serializer = serializer;
+            this.fields = fields;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+
+            Key that = (Key) o;
+            return this.serializer == that.serializer && this.fields.equals(that.fields);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(this.serializer) + this.fields.hashCode();
+        }
+    }
+
+    /**
+     * Writes the selected properties in the order of the bean serializer.
+     */
+    private static final class BeanWriter implements ItemWriter {
+
+        private final BeanPropertyWriter[] properties;
+
+        private BeanWriter(BeanPropertyWriter[] properties) {
+            this.properties = properties;
+        }
+
+        @Override
+        public void write(Object item, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(item);
+            try {
+                for (BeanPropertyWriter property : this.properties) {
+                    property.serializeAsField(item, gen, provider);
+                }
+            } catch (IOException | RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new IllegalStateException("Write the sparse item failed", e);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    /**
+     * Writes the selected keys in the order of the map.
+     */
+    private static final class MapWriter implements ItemWriter {
+
+        private final FieldSet fields;
+
+        private MapWriter(FieldSet fields) {
+            this.fields = fields;
+        }
+
+        @Override
+        public void write(Object item, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            Map<?, ?> map = (Map<?, ?>) item;
+            gen.writeStartObject(item);
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                Object key = entry.getKey();
+                if (key instanceof String && this.fields.contains((String) key)) {
+                    gen.writeFieldName((String) key);
+                    provider.defaultSerializeValue(entry.getValue(), gen);
+                }
+            }
+            gen.writeEndObject();
+        }
+    }
+}
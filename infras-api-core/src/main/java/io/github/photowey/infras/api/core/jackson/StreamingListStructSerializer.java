@@ -0,0 +1,60 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.core.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.github.photowey.infras.api.core.metrics.PaginationMetrics;
+import io.github.photowey.infras.api.core.model.page.struct.StreamingListStruct;
+
+import java.io.IOException;
+
+/**
+ * {@code StreamingListStructSerializer}
+ * <p>
+ * Writes a {@link StreamingListStruct} with the same shape as a regular {@code ListStruct},
+ * pulling each item from the lazy source only when it is about to be written.
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public class StreamingListStructSerializer extends StdSerializer<StreamingListStruct<?>> {
+
+    private static final long serialVersionUID = -4181726329043391813L;
+
+    public StreamingListStructSerializer() {
+        super(StreamingListStruct.class, false);
+    }
+
+    @Override
+    public void serialize(StreamingListStruct<?> struct, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        try {
+            boolean materialized = struct.determineIsMaterialized();
+
+            gen.writeStartObject(struct);
+            long size = JsonWrites.writeStruct(struct, struct.iterator(), gen, provider);
+            gen.writeEndObject();
+
+            if (!materialized) {
+                PaginationMetrics.recorder().recordListSize(size);
+            }
+        } finally {
+            struct.close();
+        }
+    }
+}
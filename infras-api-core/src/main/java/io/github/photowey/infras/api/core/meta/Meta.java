@@ -15,7 +15,12 @@
  */
 package io.github.photowey.infras.api.core.meta;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.github.photowey.infras.api.common.constant.InfrasConstants;
+import io.github.photowey.infras.api.common.number.NullableLongs;
+import io.github.photowey.infras.api.core.codec.CompactSerializationProxy;
+import io.github.photowey.infras.api.core.meta.count.CountMode;
+import io.github.photowey.infras.api.core.meta.count.CountStrategy;
 import io.github.photowey.infras.api.core.model.page.PageResult;
 
 import java.io.Serializable;
@@ -31,10 +36,39 @@ public class Meta implements Serializable {
 
     private static final long serialVersionUID = -553396062548580887L;
 
-    private Long pageNo;
-    private Long pageSize;
-    private Long count;
-    private Long pages;
+    private static final Meta UNMODIFIABLE_DEFAULT = new Meta(
+            InfrasConstants.Pagination.DEFAULT_PAGE_NO,
+            InfrasConstants.Pagination.DEFAULT_PAGE_SIZE,
+            InfrasConstants.Pagination.EMPTY,
+            InfrasConstants.Pagination.EMPTY,
+            true
+    );
+
+    /**
+     * Primitive storage, {@link NullableLongs#ABSENT} stands for {@code null};
+     * the boxed accessors keep their {@code null} semantics, so the JSON shape is unchanged.
+     */
+    private long pageNo = NullableLongs.ABSENT;
+    private long pageSize = NullableLongs.ABSENT;
+    private long count = NullableLongs.ABSENT;
+    private long pages = NullableLongs.ABSENT;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String prevCursor;
+
+    /**
+     * {@code null} means {@link CountMode#EXACT}.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private CountMode countMode;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean hasNext;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean countCapped;
+
+    private final boolean unmodifiable;
 
     // ----------------------------------------------------------------
 
@@ -46,6 +80,15 @@ public class Meta implements Serializable {
         return populateMeta(InfrasConstants.Pagination.DEFAULT_PAGE_SIZE);
     }
 
+    /**
+     * A shared, unmodifiable {@link #populateDefaultMeta()}, for paths that only read it.
+     *
+     * @return the shared default meta
+     */
+    public static Meta unmodifiableDefault() {
+        return UNMODIFIABLE_DEFAULT;
+    }
+
     public static Meta populateMeta(Long pageSize) {
         return populateMeta(InfrasConstants.Pagination.EMPTY, InfrasConstants.Pagination.DEFAULT_PAGE_NO, pageSize);
     }
@@ -59,10 +102,42 @@ public class Meta implements Serializable {
                 .build();
     }
 
+    public static Meta populateMeta(Long count, Long pageNo, Long pageSize, CountStrategy strategy, long fetched) {
+        return strategy.populateMeta(count, pageNo, pageSize, fetched);
+    }
+
+    /**
+     * Keyset pagination carries no page number and no count, only the continuation tokens:
+     * {@code count} and {@code pages} are left absent and the count mode is {@link CountMode#NONE},
+     * so clients do not read the page as an empty result.
+     */
+    public static Meta populateCursorMeta(Long pageSize, String nextCursor, String prevCursor) {
+        return builder()
+                .pageNo(InfrasConstants.Pagination.DEFAULT_PAGE_NO)
+                .pageSize(pageSize)
+                .countMode(CountMode.NONE)
+                .nextCursor(nextCursor)
+                .prevCursor(prevCursor)
+                .build();
+    }
+
     // ----------------------------------------------------------------
 
-    private static long determinePages(Long count, Long pageSize) {
-        if (pageSize == 0L) {
+    /**
+     * Under {@link CountMode#NONE} the count only covers the rows seen so far,
+     * so a confirmed next page adds one more page.
+     */
+    public static long determinePages(Long count, Long pageSize, CountMode countMode, Boolean hasNext) {
+        long pages = determinePages(count, pageSize);
+        if (CountMode.NONE == countMode && Boolean.TRUE.equals(hasNext)) {
+            ++pages;
+        }
+
+        return pages;
+    }
+
+    public static long determinePages(Long count, Long pageSize) {
+        if (null == count || null == pageSize || pageSize == 0L) {
             return 0L;
         } else {
             long pages = count / pageSize;
@@ -77,84 +152,247 @@ public class Meta implements Serializable {
     // ----------------------------------------------------------------
 
     public Long pageNo() {
-        return this.pageNo;
+        return NullableLongs.box(this.pageNo);
     }
 
     public Long pageSize() {
-        return this.pageSize;
+        return NullableLongs.box(this.pageSize);
     }
 
     public Long count() {
-        return this.count;
+        return NullableLongs.box(this.count);
     }
 
     public Long pages() {
-        return this.pages;
+        return NullableLongs.box(this.pages);
+    }
+
+    public String nextCursor() {
+        return this.nextCursor;
+    }
+
+    public String prevCursor() {
+        return this.prevCursor;
+    }
+
+    public CountMode countMode() {
+        return this.countMode;
+    }
+
+    public Boolean hasNext() {
+        return this.hasNext;
+    }
+
+    public Boolean countCapped() {
+        return this.countCapped;
     }
 
     public void pageNo(Long pageNo) {
-        this.pageNo = pageNo;
+        this.ensureModifiable();
+        this.pageNo = NullableLongs.unbox(pageNo);
     }
 
     public void pageSize(Long pageSize) {
-        this.pageSize = pageSize;
+        this.ensureModifiable();
+        this.pageSize = NullableLongs.unbox(pageSize);
     }
 
     public void count(Long count) {
-        this.count = count;
+        this.ensureModifiable();
+        this.count = NullableLongs.unbox(count);
     }
 
     public void pages(Long pages) {
-        this.pages = pages;
+        this.ensureModifiable();
+        this.pages = NullableLongs.unbox(pages);
+    }
+
+    public void nextCursor(String nextCursor) {
+        this.ensureModifiable();
+        this.nextCursor = nextCursor;
+    }
+
+    public void prevCursor(String prevCursor) {
+        this.ensureModifiable();
+        this.prevCursor = prevCursor;
+    }
+
+    public void countMode(CountMode countMode) {
+        this.ensureModifiable();
+        this.countMode = countMode;
+    }
+
+    public void hasNext(Boolean hasNext) {
+        this.ensureModifiable();
+        this.hasNext = hasNext;
+    }
+
+    public void countCapped(Boolean countCapped) {
+        this.ensureModifiable();
+        this.countCapped = countCapped;
     }
 
     // ----------------------------------------------------------------
 
     public Long getPageNo() {
-        return this.pageNo;
+        return NullableLongs.box(this.pageNo);
     }
 
     public Long getPageSize() {
-        return this.pageSize;
+        return NullableLongs.box(this.pageSize);
     }
 
     public Long getCount() {
-        return this.count;
+        return NullableLongs.box(this.count);
     }
 
     public Long getPages() {
-        return this.pages;
+        return NullableLongs.box(this.pages);
     }
 
     public void setPageNo(Long pageNo) {
-        this.pageNo = pageNo;
+        this.ensureModifiable();
+        this.pageNo = NullableLongs.unbox(pageNo);
     }
 
     public void setPageSize(Long pageSize) {
-        this.pageSize = pageSize;
+        this.ensureModifiable();
+        this.pageSize = NullableLongs.unbox(pageSize);
     }
 
     public void setCount(Long count) {
-        this.count = count;
+        this.ensureModifiable();
+        this.count = NullableLongs.unbox(count);
     }
 
     public void setPages(Long pages) {
-        this.pages = pages;
+        this.ensureModifiable();
+        this.pages = NullableLongs.unbox(pages);
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * @return the page number, or {@code 1} when absent; never boxes
+     */
+    public long pageNoAsLong() {
+        return NullableLongs.defaultIfAbsent(this.pageNo, InfrasConstants.Pagination.DEFAULT_PAGE_NO);
+    }
+
+    public long pageSizeAsLong() {
+        return NullableLongs.defaultIfAbsent(this.pageSize, InfrasConstants.Pagination.DEFAULT_PAGE_SIZE);
+    }
+
+    public long countAsLong() {
+        return NullableLongs.defaultIfAbsent(this.count, InfrasConstants.Pagination.EMPTY);
+    }
+
+    public long pagesAsLong() {
+        return NullableLongs.defaultIfAbsent(this.pages, InfrasConstants.Pagination.EMPTY);
+    }
+
+    // ----------------------------------------------------------------
+
+    public String getNextCursor() {
+        return this.nextCursor;
+    }
+
+    public String getPrevCursor() {
+        return this.prevCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.ensureModifiable();
+        this.nextCursor = nextCursor;
+    }
+
+    public void setPrevCursor(String prevCursor) {
+        this.ensureModifiable();
+        this.prevCursor = prevCursor;
+    }
+
+    public CountMode getCountMode() {
+        return this.countMode;
+    }
+
+    public Boolean getHasNext() {
+        return this.hasNext;
+    }
+
+    public Boolean getCountCapped() {
+        return this.countCapped;
+    }
+
+    public void setCountMode(CountMode countMode) {
+        this.ensureModifiable();
+        this.countMode = countMode;
+    }
+
+    public void setHasNext(Boolean hasNext) {
+        this.ensureModifiable();
+        this.hasNext = hasNext;
+    }
+
+    public void setCountCapped(Boolean countCapped) {
+        this.ensureModifiable();
+        this.countCapped = countCapped;
     }
 
     public String toString() {
         Long pageNo = this.getPageNo();
-        return "Meta(pageNo=" + pageNo + ", pageSize=" + this.getPageSize() + ", count=" + this.getCount() + ", pages=" + this.getPages() + ")";
+        return "Meta(pageNo=" + pageNo + ", pageSize=" + this.getPageSize() + ", count=" + this.getCount() + ", pages=" + this.getPages()
+                + ", nextCursor=" + this.getNextCursor() + ", prevCursor=" + this.getPrevCursor()
+                + ", countMode=" + this.getCountMode() + ", hasNext=" + this.getHasNext() + ", countCapped=" + this.getCountCapped() + ")";
+    }
+
+    public boolean determineIsUnmodifiable() {
+        return this.unmodifiable;
+    }
+
+    private void ensureModifiable() {
+        if (this.unmodifiable) {
+            throw new UnsupportedOperationException("The meta is unmodifiable");
+        }
+    }
+
+    /**
+     * Java serialization writes the compact form, see {@link CompactSerializationProxy}.
+     * Private, so it only applies to this exact class: subclasses keep the default serialization of their type and fields.
+     */
+    private Object writeReplace() {
+        return CompactSerializationProxy.of(this);
     }
 
+    // ----------------------------------------------------------------
+
     public Meta() {
+        this.unmodifiable = false;
     }
 
     public Meta(Long pageNo, Long pageSize, Long count, Long pages) {
-        this.pageNo = pageNo;
-        this.pageSize = pageSize;
-        this.count = count;
-        this.pages = pages;
+        this(pageNo, pageSize, count, pages, false);
+    }
+
+    private Meta(Long pageNo, Long pageSize, Long count, Long pages, boolean unmodifiable) {
+        this.pageNo = NullableLongs.unbox(pageNo);
+        this.pageSize = NullableLongs.unbox(pageSize);
+        this.count = NullableLongs.unbox(count);
+        this.pages = NullableLongs.unbox(pages);
+        this.unmodifiable = unmodifiable;
+    }
+
+    public Meta(Long pageNo, Long pageSize, Long count, Long pages, String nextCursor, String prevCursor) {
+        this(pageNo, pageSize, count, pages);
+        this.nextCursor = nextCursor;
+        this.prevCursor = prevCursor;
+    }
+
+    public Meta(Long pageNo, Long pageSize, Long count, Long pages, String nextCursor, String prevCursor,
+                CountMode countMode, Boolean hasNext, Boolean countCapped) {
+        this(pageNo, pageSize, count, pages, nextCursor, prevCursor);
+        this.countMode = countMode;
+        this.hasNext = hasNext;
+        this.countCapped = countCapped;
     }
 
     // ----------------------------------------------------------------
@@ -171,6 +409,11 @@ public class Meta implements Serializable {
         private Long pageSize;
         private Long count;
         private Long pages;
+        private String nextCursor;
+        private String prevCursor;
+        private CountMode countMode;
+        private Boolean hasNext;
+        private Boolean countCapped;
 
         MetaBuilder() {
         }
@@ -195,12 +438,40 @@ public class Meta implements Serializable {
             return this;
         }
 
+        public MetaBuilder nextCursor(String nextCursor) {
+            this.nextCursor = nextCursor;
+            return this;
+        }
+
+        public MetaBuilder prevCursor(String prevCursor) {
+            this.prevCursor = prevCursor;
+            return this;
+        }
+
+        public MetaBuilder countMode(CountMode countMode) {
+            this.countMode = countMode;
+            return this;
+        }
+
+        public MetaBuilder hasNext(Boolean hasNext) {
+            this.hasNext = hasNext;
+            return this;
+        }
+
+        public MetaBuilder countCapped(Boolean countCapped) {
+            this.countCapped = countCapped;
+            return this;
+        }
+
         public Meta build() {
-            return new Meta(this.pageNo, this.pageSize, this.count, this.pages);
+            return new Meta(this.pageNo, this.pageSize, this.count, this.pages, this.nextCursor, this.prevCursor,
+                    this.countMode, this.hasNext, this.countCapped);
         }
 
         public String toString() {
-            return "Meta.MetaBuilder(pageNo=" + this.pageNo + ", pageSize=" + this.pageSize + ", count=" + this.count + ", pages=" + this.pages + ")";
+            return "Meta.MetaBuilder(pageNo=" + this.pageNo + ", pageSize=" + this.pageSize + ", count=" + this.count + ", pages=" + this.pages
+                    + ", nextCursor=" + this.nextCursor + ", prevCursor=" + this.prevCursor
+                    + ", countMode=" + this.countMode + ", hasNext=" + this.hasNext + ", countCapped=" + this.countCapped + ")";
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,74 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.core.meta.count;
+
+import io.github.photowey.infras.api.core.meta.Meta;
+
+/**
+ * {@code CappedCountStrategy}
+ * <p>
+ * The count query should stop after {@link #determineCountLimit()} rows,
+ * e.g. {@code SELECT COUNT(*) FROM (SELECT 1 FROM t WHERE ... LIMIT ?) c}.
+ * A result above the cap is reported as {@code cap} with {@code countCapped = true} ("10000+").
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public class CappedCountStrategy implements CountStrategy {
+
+    private final long cap;
+
+    public CappedCountStrategy(long cap) {
+        if (cap <= 0) {
+            throw new IllegalArgumentException("The count cap must be positive: " + cap);
+        }
+        this.cap = cap;
+    }
+
+    @Override
+    public CountMode mode() {
+        return CountMode.CAPPED;
+    }
+
+    public long cap() {
+        return cap;
+    }
+
+    /**
+     * @return the {@code LIMIT} of the count query, one beyond the cap to detect overflow
+     */
+    public long determineCountLimit() {
+        return this.cap + 1;
+    }
+
+    @Override
+    public Meta populateMeta(Long count, Long pageNo, Long pageSize, long fetched) {
+        boolean capped = null != count && count > this.cap;
+        long effective = capped ? this.cap : (null != count ? count : 0L);
+        long pages = Meta.determinePages(effective, pageSize);
+
+        return Meta.builder()
+                .pageNo(pageNo)
+                .pageSize(pageSize)
+                .count(effective)
+                .pages(pages)
+                .countMode(this.mode())
+                .countCapped(capped)
+                .hasNext(capped || pageNo < pages)
+                .build();
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.core.meta.count;
+
+/**
+ * {@code CountMode}
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public enum CountMode {
+
+    /**
+     * {@code COUNT(*)} per request, {@code count} and {@code pages} are exact.
+     */
+    EXACT,
+
+    /**
+     * No count query, {@code pageSize + 1} rows are fetched to probe {@code hasNext}.
+     */
+    NONE,
+
+    /**
+     * The count query stops at a cap, {@code countCapped} tells whether more rows exist.
+     */
+    CAPPED,
+
+    /**
+     * {@code count} comes from an estimate (e.g. table statistics).
+     */
+    ESTIMATED,
+    ;
+}
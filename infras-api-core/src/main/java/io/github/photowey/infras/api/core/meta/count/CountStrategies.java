@@ -0,0 +1,50 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.core.meta.count;
+
+/**
+ * {@code CountStrategies}
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public final class CountStrategies {
+
+    private static final CountStrategy EXACT = new ExactCountStrategy();
+    private static final CountStrategy NONE = new NoneCountStrategy();
+    private static final CountStrategy ESTIMATED = new EstimatedCountStrategy();
+
+    private CountStrategies() {
+        throw new AssertionError("No " + this.getClass().getName() + " instances for you!");
+    }
+
+    public static CountStrategy exact() {
+        return EXACT;
+    }
+
+    public static CountStrategy none() {
+        return NONE;
+    }
+
+    public static CountStrategy capped(long cap) {
+        return new CappedCountStrategy(cap);
+    }
+
+    public static CountStrategy estimated() {
+        return ESTIMATED;
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.core.meta.count;
+
+import io.github.photowey.infras.api.core.meta.Meta;
+
+/**
+ * {@code CountStrategy}
+ * <p>
+ * Decides whether a page request needs a count query, how many rows the page query fetches,
+ * and how {@link Meta} is populated from the outcome.
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public interface CountStrategy {
+
+    CountMode mode();
+
+    /**
+     * @return {@code false} if the count query can be skipped entirely
+     */
+    default boolean determineIsCountRequired() {
+        return true;
+    }
+
+    /**
+     * @param pageSize the requested page size
+     * @return the number of rows the page query should fetch
+     */
+    default long determineFetchSize(long pageSize) {
+        return pageSize;
+    }
+
+    /**
+     * @param count    the count query result, ignored when {@link #determineIsCountRequired()} is {@code false}
+     * @param pageNo   the requested page number
+     * @param pageSize the requested page size
+     * @param fetched  the number of rows the page query returned
+     * @return the populated meta
+     */
+    Meta populateMeta(Long count, Long pageNo, Long pageSize, long fetched);
+}
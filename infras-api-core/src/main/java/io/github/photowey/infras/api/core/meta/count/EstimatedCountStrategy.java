@@ -0,0 +1,51 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.core.meta.count;
+
+import io.github.photowey.infras.api.core.meta.Meta;
+
+/**
+ * {@code EstimatedCountStrategy}
+ * <p>
+ * {@code count} is an estimate (e.g. from {@code EXPLAIN} or table statistics);
+ * {@code pages} follows the estimate, {@code hasNext} also trusts a full page.
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public class EstimatedCountStrategy implements CountStrategy {
+
+    @Override
+    public CountMode mode() {
+        return CountMode.ESTIMATED;
+    }
+
+    @Override
+    public Meta populateMeta(Long count, Long pageNo, Long pageSize, long fetched) {
+        long estimated = null != count ? count : 0L;
+        long pages = Meta.determinePages(estimated, pageSize);
+
+        return Meta.builder()
+                .pageNo(pageNo)
+                .pageSize(pageSize)
+                .count(estimated)
+                .pages(pages)
+                .countMode(this.mode())
+                .hasNext(pageNo < pages || fetched >= pageSize)
+                .build();
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.core.meta.count;
+
+import io.github.photowey.infras.api.common.constant.InfrasConstants;
+import io.github.photowey.infras.api.core.meta.Meta;
+
+/**
+ * {@code NoneCountStrategy}
+ * <p>
+ * Skips the count query. The page query fetches one probe row beyond {@code pageSize};
+ * {@code count} and {@code pages} then only describe the rows known to exist so far.
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public class NoneCountStrategy implements CountStrategy {
+
+    @Override
+    public CountMode mode() {
+        return CountMode.NONE;
+    }
+
+    @Override
+    public boolean determineIsCountRequired() {
+        return false;
+    }
+
+    @Override
+    public long determineFetchSize(long pageSize) {
+        return pageSize + /*1L*/InfrasConstants.Pagination.ONE_PAGE_SIZE;
+    }
+
+    @Override
+    public Meta populateMeta(Long count, Long pageNo, Long pageSize, long fetched) {
+        boolean hasNext = fetched > pageSize;
+        long known = fetched > 0
+                ? (pageNo - InfrasConstants.Pagination.THRESHOLD_PAGE_NO) * pageSize + Math.min(fetched, pageSize)
+                : InfrasConstants.Pagination.EMPTY;
+        long pages = Meta.determinePages(known, pageSize, this.mode(), hasNext);
+
+        return Meta.builder()
+                .pageNo(pageNo)
+                .pageSize(pageSize)
+                .count(known)
+                .pages(pages)
+                .countMode(this.mode())
+                .hasNext(hasNext)
+                .build();
+    }
+}
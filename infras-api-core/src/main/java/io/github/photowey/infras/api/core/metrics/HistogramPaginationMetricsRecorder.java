@@ -0,0 +1,110 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.core.metrics;
+
+import io.github.photowey.infras.api.common.constant.InfrasConstants;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@code HistogramPaginationMetricsRecorder}
+ * <p>
+ * The built-in {@link PaginationMetricsRecorder}, recording into lock-free {@link LongHistogram}s:
+ * <ul>
+ *     <li>{@link #pageSize()}: the requested page sizes, before clamping</li>
+ *     <li>{@link #pageNo()} and {@link #offset()}: how deep clients page</li>
+ *     <li>{@link #listSize()}: the number of items per page</li>
+ *     <li>{@link #serializedBytes()}: the written page sizes in bytes</li>
+ * </ul>
+ * plus a counter of the requests asking for more than {@code THRESHOLD_PAGE_SIZE} items.
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public class HistogramPaginationMetricsRecorder implements PaginationMetricsRecorder {
+
+    private final LongHistogram pageNo = new LongHistogram();
+    private final LongHistogram pageSize = new LongHistogram();
+    private final LongHistogram offset = new LongHistogram();
+    private final LongHistogram listSize = new LongHistogram();
+    private final LongHistogram serializedBytes = new LongHistogram();
+
+    private final LongAdder oversizedRequests = new LongAdder();
+
+    // ----------------------------------------------------------------
+
+    @Override
+    public void recordRequest(long pageNo, long pageSize, long offset) {
+        this.pageNo.record(pageNo);
+        this.pageSize.record(pageSize);
+        this.offset.record(offset);
+        if (pageSize > /*100L*/InfrasConstants.Pagination.THRESHOLD_PAGE_SIZE) {
+            this.oversizedRequests.increment();
+        }
+    }
+
+    @Override
+    public void recordListSize(long size) {
+        this.listSize.record(size);
+    }
+
+    @Override
+    public void recordSerializedBytes(long bytes) {
+        this.serializedBytes.record(bytes);
+    }
+
+    // ----------------------------------------------------------------
+
+    public LongHistogram pageNo() {
+        return pageNo;
+    }
+
+    public LongHistogram pageSize() {
+        return pageSize;
+    }
+
+    public LongHistogram offset() {
+        return offset;
+    }
+
+    public LongHistogram listSize() {
+        return listSize;
+    }
+
+    public LongHistogram serializedBytes() {
+        return serializedBytes;
+    }
+
+    public long oversizedRequests() {
+        return this.oversizedRequests.sum();
+    }
+
+    public void reset() {
+        this.pageNo.reset();
+        this.pageSize.reset();
+        this.offset.reset();
+        this.listSize.reset();
+        this.serializedBytes.reset();
+        this.oversizedRequests.reset();
+    }
+
+    public String toString() {
+        return "HistogramPaginationMetricsRecorder(pageSize=" + this.pageSize + ", offset=" + this.offset
+                + ", listSize=" + this.listSize + ", serializedBytes=" + this.serializedBytes
+                + ", oversizedRequests=" + this.oversizedRequests() + ")";
+    }
+}
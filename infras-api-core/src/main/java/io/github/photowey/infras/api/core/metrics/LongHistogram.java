@@ -0,0 +1,154 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.core.metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@code LongHistogram}
+ * <p>
+ * A lock-free histogram of non-negative values with power-of-two buckets:
+ * bucket {@code 0} holds {@code 0}, bucket {@code i} holds {@code [2^(i-1), 2^i)}.
+ * Every bucket is a striped {@link LongAdder}, so concurrent recording never contends on a single cell.
+ * Negative values are recorded as {@code 0}.
+ * <p>
+ * Percentiles are resolved to the upper bound of their bucket, i.e. within a factor of two.
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public final class LongHistogram {
+
+    public static final int BUCKETS = Long.SIZE;
+
+    private final LongAdder[] buckets = new LongAdder[BUCKETS];
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0L);
+
+    public LongHistogram() {
+        for (int i = 0; i < BUCKETS; i++) {
+            this.buckets[i] = new LongAdder();
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    public void record(long value) {
+        long v = Math.max(value, 0L);
+        this.buckets[bucketOf(v)].increment();
+        this.count.increment();
+        this.sum.add(v);
+        this.max.accumulate(v);
+    }
+
+    public long count() {
+        return this.count.sum();
+    }
+
+    public long sum() {
+        return this.sum.sum();
+    }
+
+    public long max() {
+        return this.max.get();
+    }
+
+    public double mean() {
+        long n = this.count();
+        return 0 == n ? 0D : (double) this.sum() / n;
+    }
+
+    /**
+     * @param quantile in {@code [0, 1]}
+     * @return the upper bound of the bucket holding the quantile, capped at {@link #max()}; {@code 0} if empty
+     */
+    public long percentile(double quantile) {
+        if (quantile < 0D || quantile > 1D) {
+            throw new IllegalArgumentException("The quantile must be in [0, 1]: " + quantile);
+        }
+
+        long[] counts = this.bucketCounts();
+        long total = 0;
+        for (long c : counts) {
+            total += c;
+        }
+        if (0 == total) {
+            return 0L;
+        }
+
+        long rank = Math.max((long) Math.ceil(quantile * total), 1L);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(upperBoundOf(i), this.max());
+            }
+        }
+
+        return this.max();
+    }
+
+    /**
+     * @return a copy of the bucket counts, see {@link #upperBoundOf(int)}
+     */
+    public long[] bucketCounts() {
+        long[] counts = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = this.buckets[i].sum();
+        }
+
+        return counts;
+    }
+
+    /**
+     * Not atomic with concurrent recording: values recorded meanwhile may be partly kept.
+     */
+    public void reset() {
+        for (LongAdder bucket : this.buckets) {
+            bucket.reset();
+        }
+        this.count.reset();
+        this.sum.reset();
+        this.max.reset();
+    }
+
+    // ----------------------------------------------------------------
+
+    static int bucketOf(long value) {
+        return Math.min(Long.SIZE - Long.numberOfLeadingZeros(value), BUCKETS - 1);
+    }
+
+    /**
+     * @return the largest value of the bucket
+     */
+    public static long upperBoundOf(int bucket) {
+        if (0 == bucket) {
+            return 0L;
+        }
+        if (bucket >= BUCKETS - 1) {
+            return Long.MAX_VALUE;
+        }
+
+        return (1L << bucket) - 1;
+    }
+
+    public String toString() {
+        return "LongHistogram(count=" + this.count() + ", sum=" + this.sum() + ", max=" + this.max() + ")";
+    }
+}
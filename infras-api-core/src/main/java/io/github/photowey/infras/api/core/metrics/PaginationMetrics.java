@@ -0,0 +1,58 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.core.metrics;
+
+/**
+ * {@code PaginationMetrics}
+ * <p>
+ * Holds the installed {@link PaginationMetricsRecorder}, {@link PaginationMetricsRecorder#NOOP} by default,
+ * and serves it lock-free to the recording hooks.
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public final class PaginationMetrics {
+
+    private static volatile PaginationMetricsRecorder recorder = PaginationMetricsRecorder.NOOP;
+
+    private PaginationMetrics() {
+        throw new AssertionError("No " + this.getClass().getName() + " instances for you!");
+    }
+
+    // ----------------------------------------------------------------
+
+    public static PaginationMetricsRecorder recorder() {
+        return recorder;
+    }
+
+    public static PaginationMetricsRecorder install(PaginationMetricsRecorder target) {
+        if (null == target) {
+            throw new IllegalArgumentException("The pagination metrics recorder must not be null");
+        }
+
+        recorder = target;
+        return target;
+    }
+
+    public static void reset() {
+        recorder = PaginationMetricsRecorder.NOOP;
+    }
+
+    public static boolean determineIsEnabled() {
+        return PaginationMetricsRecorder.NOOP != recorder;
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.core.metrics;
+
+/**
+ * {@code PaginationMetricsRecorder}
+ * <p>
+ * The pagination metrics SPI, installed through {@link PaginationMetrics#install(PaginationMetricsRecorder)}.
+ * The hooks run on the request path, implementations must be cheap and thread-safe.
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public interface PaginationMetricsRecorder {
+
+    PaginationMetricsRecorder NOOP = new PaginationMetricsRecorder() {};
+
+    /**
+     * Called once per page request, by {@code AbstractPagination#recordRequest()} where the page is resolved or queried.
+     *
+     * @param pageNo   the page number
+     * @param pageSize the page size as requested, before the {@code THRESHOLD_PAGE_SIZE} clamping
+     * @param offset   the effective offset
+     */
+    default void recordRequest(long pageNo, long pageSize, long offset) {
+    }
+
+    /**
+     * Called when a {@code ListStruct} is built around a list, and when a streaming list has been written.
+     *
+     * @param size the number of items of the page
+     */
+    default void recordListSize(long size) {
+    }
+
+    /**
+     * Called when a {@code PageResult} has been written by {@code PageResultEnvelopeWriter} or {@code PageResultNdjsonWriter},
+     * the writers that own the output and can count it. Results written by an {@code ObjectMapper},
+     * e.g. the Jackson converter of Spring MVC, are not measured.
+     *
+     * @param bytes the number of bytes written
+     */
+    default void recordSerializedBytes(long bytes) {
+    }
+}
@@ -15,7 +15,8 @@
  */
 package io.github.photowey.infras.api.core.model;
 
-import io.github.photowey.infras.api.common.constant.InfrasConstants;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import io.github.photowey.infras.api.core.code.ResultCodes;
 import io.github.photowey.infras.api.core.meta.Meta;
 
 import java.io.Serializable;
@@ -65,28 +66,73 @@ public abstract class ResultSupport<T, R extends ResultSupport<T, R>> implements
     }
 
     public R code(String code) {
+        this.ensureModifiable();
         this.code = code;
         return (R) this;
     }
 
     public R message(String message) {
+        this.ensureModifiable();
         this.message = message;
         return (R) this;
     }
 
+    /**
+     * Bean accessor for codecs and writers; not a Jackson property,
+     * so the reflective JSON of a result stays {@code data} only.
+     * {@code InfrasApiModule} and the envelope writers write {@code code} and {@code message} themselves.
+     */
+    @JsonIgnore
+    public String getCode() {
+        return code;
+    }
+
+    @JsonIgnore
+    public void setCode(String code) {
+        this.ensureModifiable();
+        this.code = code;
+    }
+
+    @JsonIgnore
+    public String getMessage() {
+        return message;
+    }
+
+    @JsonIgnore
+    public void setMessage(String message) {
+        this.ensureModifiable();
+        this.message = message;
+    }
+
+    /**
+     * Hook for unmodifiable results, invoked before every mutation.
+     */
+    protected void ensureModifiable() {
+    }
+
+    public boolean determineIsUnmodifiable() {
+        return false;
+    }
+
     public boolean determineIsSuccessful() {
-        return this.determineApiOkCode().equalsIgnoreCase(this.code);
+        return ResultCodes.snapshot().determineIsOk(this.code);
     }
 
     public boolean determineIsFailed() {
         return !this.determineIsSuccessful();
     }
 
+    /**
+     * @return the resolved api ok code, see {@link ResultCodes#reload()}
+     */
     public static String determineApiOkCode() {
-        return System.getProperty(InfrasConstants.Properties.INFRAS_API_OK_CONFIG_KEY,/*200000000*/InfrasConstants.DEFAULT_API_OK);
+        return ResultCodes.snapshot().okCode();
     }
 
+    /**
+     * @return the resolved api ok message, see {@link ResultCodes#reload()}
+     */
     public static String determineApiOkMessage() {
-        return System.getProperty(InfrasConstants.Properties.INFRAS_API_MESSAGE_CONFIG_KEY,/*ok*/InfrasConstants.DEFAULT_API_MESSAGE);
+        return ResultCodes.snapshot().okMessage();
     }
 }
\ No newline at end of file
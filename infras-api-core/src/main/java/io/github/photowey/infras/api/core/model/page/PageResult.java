@@ -16,15 +16,28 @@
 package io.github.photowey.infras.api.core.model.page;
 
 import io.github.photowey.infras.api.common.constant.InfrasConstants;
+import io.github.photowey.infras.api.core.codec.CompactSerializationProxy;
 import io.github.photowey.infras.api.core.meta.Meta;
+import io.github.photowey.infras.api.core.meta.count.CountStrategy;
 import io.github.photowey.infras.api.core.model.ResultSupportAdapter;
 import io.github.photowey.infras.api.core.model.page.struct.ListStruct;
+import io.github.photowey.infras.api.core.model.page.struct.StreamingListStruct;
+import io.github.photowey.infras.api.core.pagination.AbstractCursorPagination;
+import io.github.photowey.infras.api.core.pagination.AbstractPagination;
+import io.github.photowey.infras.api.core.pagination.cursor.Cursor;
+import io.github.photowey.infras.api.core.pagination.cursor.CursorDirection;
+import io.github.photowey.infras.api.core.pagination.policy.PaginationDecision;
+import io.github.photowey.infras.api.core.pagination.policy.PaginationVerdict;
+import io.github.photowey.infras.api.core.transform.ParallelTransformer;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Spliterator;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
 /**
  * {@code PageResult}
@@ -37,21 +50,32 @@ public class PageResult<T> extends ResultSupportAdapter<T, PageResult<T>> {
 
     private static final long serialVersionUID = 8516482956446374018L;
 
+    private static volatile PageResult<?> UNMODIFIABLE_EMPTY;
+
     public ListStruct<T> data;
 
+    private final boolean unmodifiable;
+
     // ----------------------------------------------------------------
 
     public PageResult() {
         super();
+        this.unmodifiable = false;
     }
 
     protected PageResult(String code, String message) {
         super(code, message);
+        this.unmodifiable = false;
     }
 
     protected PageResult(ListStruct<T> data) {
-        super(determineApiOkCode(), determineApiOkMessage());
+        this(determineApiOkCode(), determineApiOkMessage(), data, false);
+    }
+
+    protected PageResult(String code, String message, ListStruct<T> data, boolean unmodifiable) {
+        super(code, message);
         this.data = data;
+        this.unmodifiable = unmodifiable;
     }
 
     // ----------------------------------------------------------------
@@ -65,9 +89,33 @@ public class PageResult<T> extends ResultSupportAdapter<T, PageResult<T>> {
     }
 
     public void setData(ListStruct<T> data) {
+        this.ensureModifiable();
         this.data = data;
     }
 
+    @Override
+    public boolean determineIsUnmodifiable() {
+        return this.unmodifiable;
+    }
+
+    /**
+     * An immutable snapshot of this page that shares the item storage, see {@link ListStruct#freeze()}.
+     * Only the envelope objects are allocated; the items and the additional values are neither copied nor frozen.
+     *
+     * @return the snapshot, safe to share between threads
+     */
+    public PageSnapshot<T> freeze() {
+        ListStruct<T> struct = this.getData();
+        return new PageSnapshot<>(this.getCode(), this.getMessage(), null != struct ? struct.freeze() : null);
+    }
+
+    @Override
+    protected void ensureModifiable() {
+        if (this.unmodifiable) {
+            throw new UnsupportedOperationException("The page result is unmodifiable");
+        }
+    }
+
     // ----------------------------------------------------------------
 
     public static <T> PageResult<T> create() {
@@ -83,11 +131,11 @@ public class PageResult<T> extends ResultSupportAdapter<T, PageResult<T>> {
     }
 
     public static <T> PageResult<T> staticOf(List<T> data) {
-        return staticOf(data, Meta.populateDefaultMeta());
+        return staticOf(data, Meta.unmodifiableDefault());
     }
 
     public static <T> PageResult<T> staticOf(List<T> data, Meta meta) {
-        return staticOf(data, meta, InfrasConstants.Collection.emptyMap());
+        return staticOf(data, meta, InfrasConstants.Collection.unmodifiableEmptyMap());
     }
 
     public static <T, D> PageResult<T> staticOf(List<T> data, Meta meta, Map<String, Object> additional) {
@@ -95,12 +143,12 @@ public class PageResult<T> extends ResultSupportAdapter<T, PageResult<T>> {
     }
 
     public static <T> PageResult<T> staticOf(List<T> data, Map<String, Object> additional) {
-        return staticOf(data, Meta.populateDefaultMeta(), InfrasConstants.Collection.emptyMap());
+        return staticOf(data, Meta.unmodifiableDefault(), additional);
     }
 
     public static <T> PageResult<T> emptyStatic() {
         PageResult<T> pageResult = create();
-        return pageResult.of(new ArrayList<>(), Meta.populateDefaultMeta());
+        return pageResult.of(InfrasConstants.Collection.unmodifiableEmptyList(), Meta.unmodifiableDefault());
     }
 
     public static <T, D> PageResult<T> staticOf(PageResult<D> page, Function<List<D>, List<T>> transfer) {
@@ -119,12 +167,176 @@ public class PageResult<T> extends ResultSupportAdapter<T, PageResult<T>> {
         return pageResult.of(determineApiOkCode(), determineApiOkMessage(), transfer.apply(data), meta, additional);
     }
 
+    /**
+     * Transforms the items one by one on the {@link ParallelTransformer}'s executor, keeping their order.
+     */
+    public static <T, D> PageResult<T> staticOf(PageResult<D> page, ParallelTransformer transformer, Function<? super D, ? extends T> mapper) {
+        return staticOf(page, InfrasConstants.Collection.unmodifiableEmptyMap(), transformer, mapper);
+    }
+
+    public static <T, D> PageResult<T> staticOf(PageResult<D> page, Map<String, Object> additional, ParallelTransformer transformer, Function<? super D, ? extends T> mapper) {
+        return staticOf(page.getData().getList(), Meta.populateMeta(page), additional, transformer, mapper);
+    }
+
+    public static <T, D> PageResult<T> staticOf(List<D> data, Meta meta, Map<String, Object> additional, ParallelTransformer transformer, Function<? super D, ? extends T> mapper) {
+        return staticOf(data, meta, additional, (List<D> items) -> transformer.<D, T>transform(items, mapper));
+    }
+
+    /**
+     * Builds a page under the given {@link CountStrategy}.
+     * <p>
+     * {@code rows} must come from a page query limited to {@link CountStrategy#determineFetchSize(long)};
+     * a probe row beyond {@code pageSize} is dropped.
+     *
+     * @param rows       the fetched rows
+     * @param count      the count query result, or {@code null} if the strategy needs none
+     * @param pagination the pagination of the request
+     * @param strategy   the count strategy, see {@link AbstractPagination#countStrategy(CountStrategy)}
+     * @param <T>        the item type
+     * @return the page
+     */
+    public static <T> PageResult<T> staticOf(List<T> rows, Long count, AbstractPagination pagination, CountStrategy strategy) {
+        Long pageSize = pagination.getPageSize();
+        List<T> list = rows.size() > pageSize ? new ArrayList<>(rows.subList(0, pageSize.intValue())) : rows;
+
+        PageResult<T> pageResult = create();
+        return pageResult.of(list, Meta.populateMeta(count, pagination.getPageNo(), pageSize, strategy, rows.size()), populatePolicyAdditional(pagination));
+    }
+
+    /**
+     * A clamped or degraded page reports the {@link PaginationDecision} under {@link PaginationVerdict#ADDITIONAL_KEY}.
+     */
+    private static Map<String, Object> populatePolicyAdditional(AbstractPagination pagination) {
+        if (pagination.policy().determineIsUnlimited()) {
+            return InfrasConstants.Collection.unmodifiableEmptyMap();
+        }
+
+        PaginationDecision decision = pagination.verdict().decision();
+        if (decision.determineIsAllowed()) {
+            return InfrasConstants.Collection.unmodifiableEmptyMap();
+        }
+
+        Map<String, Object> additional = InfrasConstants.Collection.emptyMap(2);
+        additional.put(PaginationVerdict.ADDITIONAL_KEY, decision.name());
+
+        return additional;
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * Streams the items straight to the {@code JsonGenerator}, see {@link StreamingListStruct}.
+     */
+    public static <T> PageResult<T> streamOf(Stream<T> data, Meta meta) {
+        return create(StreamingListStruct.ofStream(data, meta));
+    }
+
+    public static <T> PageResult<T> streamOf(Stream<T> data, Meta meta, Map<String, Object> additional) {
+        return create(StreamingListStruct.ofStream(data, meta, additional));
+    }
+
+    public static <T> PageResult<T> streamOf(Iterator<T> data, Meta meta) {
+        return create(StreamingListStruct.ofIterator(data, meta));
+    }
+
+    public static <T> PageResult<T> streamOf(Iterator<T> data, Meta meta, Map<String, Object> additional) {
+        return create(StreamingListStruct.ofIterator(data, meta, additional));
+    }
+
+    public static <T> PageResult<T> streamOf(Spliterator<T> data, Meta meta) {
+        return create(StreamingListStruct.ofSpliterator(data, meta));
+    }
+
+    public static <T> PageResult<T> streamOf(Spliterator<T> data, Meta meta, Map<String, Object> additional) {
+        return create(StreamingListStruct.ofSpliterator(data, meta, additional));
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * Builds a keyset page from rows fetched with {@link AbstractCursorPagination#getFetchSize()}.
+     * <p>
+     * The probe row beyond {@code pageSize} is dropped, {@link CursorDirection#PREV} rows
+     * (fetched in reverse seek order) are restored to display order,
+     * and the {@code nextCursor}/{@code prevCursor} tokens are derived from the boundary rows.
+     *
+     * @param rows       the fetched rows, at most {@code pageSize + 1}
+     * @param pagination the cursor pagination of the request
+     * @param seekKeys   extracts the sort key values of a row
+     * @param <T>        the item type
+     * @return the page
+     */
+    public static <T> PageResult<T> cursorOf(List<T> rows, AbstractCursorPagination pagination, Function<T, List<String>> seekKeys) {
+        Long pageSize = pagination.getPageSize();
+        boolean more = rows.size() > pageSize;
+        CursorDirection direction = pagination.getDirection();
+
+        List<T> list = rows;
+        if (more || direction.determineIsPrev()) {
+            list = new ArrayList<>(more ? rows.subList(0, pageSize.intValue()) : rows);
+            if (direction.determineIsPrev()) {
+                Collections.reverse(list);
+            }
+        }
+
+        String nextCursor = null;
+        String prevCursor = null;
+        if (!list.isEmpty()) {
+            boolean hasNext = direction.determineIsPrev() || more;
+            boolean hasPrev = direction.determineIsPrev() ? more : !pagination.isFirstPage();
+            if (hasNext) {
+                nextCursor = Cursor.of(CursorDirection.NEXT, seekKeys.apply(list.get(list.size() - 1))).encode();
+            }
+            if (hasPrev) {
+                prevCursor = Cursor.of(CursorDirection.PREV, seekKeys.apply(list.get(0))).encode();
+            }
+        }
+
+        PageResult<T> pageResult = create();
+        return pageResult.of(list, Meta.populateCursorMeta(pageSize, nextCursor, prevCursor));
+    }
+
     // ----------------------------------------------------------------
 
     public static <T> PageResult<T> empty() {
         return create(ListStruct.empty());
     }
 
+    /**
+     * A shared, unmodifiable empty page carrying the current ok code and message.
+     * The public {@code data} field cannot be guarded, never assign it on the shared instance.
+     *
+     * @param <T> the item type
+     * @return the shared empty page
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PageResult<T> unmodifiableEmpty() {
+        PageResult<?> empty = UNMODIFIABLE_EMPTY;
+        String okCode = determineApiOkCode();
+        String okMessage = determineApiOkMessage();
+        if (null == empty || okCode != empty.code || okMessage != empty.message) {
+            empty = new PageResult<>(okCode, okMessage, ListStruct.unmodifiableEmpty(), true);
+            UNMODIFIABLE_EMPTY = empty;
+        }
+
+        return (PageResult<T>) empty;
+    }
+
+    /**
+     * An unmodifiable page carrying the current ok code and message, safe to share between callers.
+     */
+    public static <T> PageResult<T> unmodifiableOf(List<T> data, Meta meta) {
+        return unmodifiableOf(data, meta, InfrasConstants.Collection.unmodifiableEmptyMap());
+    }
+
+    public static <T> PageResult<T> unmodifiableOf(List<T> data, Meta meta, Map<String, Object> additional) {
+        return unmodifiableOf(determineApiOkCode(), determineApiOkMessage(), data, meta, additional);
+    }
+
+    public static <T> PageResult<T> unmodifiableOf(String code, String message, List<T> data, Meta meta, Map<String, Object> additional) {
+        return new PageResult<>(code, message, ListStruct.unmodifiableOf(data, meta, additional), true);
+    }
+
     // ----------------------------------------------------------
 
     public PageResult<T> of(List<T> data) {
@@ -132,11 +344,11 @@ public class PageResult<T> extends ResultSupportAdapter<T, PageResult<T>> {
     }
 
     public PageResult<T> of(List<T> data, Meta meta) {
-        return this.of(data, meta, InfrasConstants.Collection.emptyMap());
+        return this.of(data, meta, InfrasConstants.Collection.unmodifiableEmptyMap());
     }
 
     public PageResult<T> of(List<T> data, Map<String, Object> additional) {
-        return this.of(data, Meta.populateDefaultMeta(), additional);
+        return this.of(data, Meta.unmodifiableDefault(), additional);
     }
 
     public PageResult<T> of(List<T> data, Meta meta, Map<String, Object> additional) {
@@ -144,20 +356,21 @@ public class PageResult<T> extends ResultSupportAdapter<T, PageResult<T>> {
     }
 
     public PageResult<T> of(String code, String message, List<T> data) {
-        return this.of(code, message, data, Meta.populateDefaultMeta());
+        return this.of(code, message, data, Meta.unmodifiableDefault());
     }
 
     public PageResult<T> of(String code, String message, List<T> data, Map<String, Object> additional) {
-        return this.of(code, message, data, Meta.populateDefaultMeta(), additional);
+        return this.of(code, message, data, Meta.unmodifiableDefault(), additional);
     }
 
     @Override
     public PageResult<T> of(String code, String message, List<T> data, Meta meta) {
-        return this.of(code, message, data, meta, InfrasConstants.Collection.emptyMap());
+        return this.of(code, message, data, meta, InfrasConstants.Collection.unmodifiableEmptyMap());
     }
 
     @Override
     public PageResult<T> of(String code, String message, List<T> data, Meta meta, Map<String, Object> additional) {
+        this.ensureModifiable();
         this.code = code;
         this.message = message;
         this.data = new ListStruct<>(data, meta, additional);
@@ -165,6 +378,14 @@ public class PageResult<T> extends ResultSupportAdapter<T, PageResult<T>> {
         return this;
     }
 
+    /**
+     * Java serialization writes the compact form, see {@link CompactSerializationProxy}.
+     * Private, so it only applies to this exact class: subclasses keep the default serialization of their type and fields.
+     */
+    private Object writeReplace() {
+        return CompactSerializationProxy.of(this);
+    }
+
     // ----------------------------------------------------------------
 
     public static <T> PageResultBuilder<T> builder() {
@@ -180,7 +401,11 @@ public class PageResult<T> extends ResultSupportAdapter<T, PageResult<T>> {
         protected List<T> data;
         private Meta meta;
 
-        private Map<String, Object> additional = new HashMap<>();
+        private Map<String, Object> additional = InfrasConstants.Collection.unmodifiableEmptyMap();
+        /**
+         * Whether {@link #additional} was allocated by this builder, so {@link #additional(String, Object)} may write to it.
+         */
+        private boolean additionalOwned;
 
         public PageResultBuilder<T> code(String code) {
             this.code = code;
@@ -204,6 +429,25 @@ public class PageResult<T> extends ResultSupportAdapter<T, PageResult<T>> {
 
         public PageResultBuilder<T> additional(Map<String, Object> additional) {
             this.additional = additional;
+            this.additionalOwned = false;
+            return this;
+        }
+
+        /**
+         * Puts one {@code additional} entry. The first put copies the current entries into a compact map
+         * owned by the builder, so a map passed to {@link #additional(Map)} is never written to.
+         */
+        public PageResultBuilder<T> additional(String key, Object value) {
+            if (!this.additionalOwned) {
+                Map<String, Object> source = this.additional;
+                this.additional = InfrasConstants.Collection.emptyMap(null != source ? source.size() + 1 : 2);
+                if (null != source) {
+                    this.additional.putAll(source);
+                }
+                this.additionalOwned = true;
+            }
+
+            this.additional.put(key, value);
             return this;
         }
 
@@ -0,0 +1,73 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.core.model.page;
+
+import io.github.photowey.infras.api.core.model.page.struct.ListStruct;
+
+import java.io.Serializable;
+
+/**
+ * {@code PageSnapshot}
+ * <p>
+ * An immutable holder of a {@link PageResult#freeze() frozen} page, e.g. for a page cache.
+ * Every field is {@code final}, so the frozen struct and everything reachable from it is visible to any thread
+ * that sees the snapshot, even one published through a data race.
+ * <p>
+ * The snapshot exposes no mutable envelope: {@link #toPageResult()} wraps the shared struct in a fresh,
+ * unmodifiable {@link PageResult} per caller, so assigning its public {@code data} field affects no one else.
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public final class PageSnapshot<T> implements Serializable {
+
+    private static final long serialVersionUID = 3846502174960581273L;
+
+    private final String code;
+    private final String message;
+    private final ListStruct<T> data;
+
+    PageSnapshot(String code, String message, ListStruct<T> data) {
+        this.code = code;
+        this.message = message;
+        this.data = data;
+    }
+
+    // ----------------------------------------------------------------
+
+    public String code() {
+        return this.code;
+    }
+
+    public String message() {
+        return this.message;
+    }
+
+    /**
+     * @return the frozen struct, {@code null} if the page had none
+     */
+    public ListStruct<T> struct() {
+        return this.data;
+    }
+
+    /**
+     * @return a new unmodifiable envelope sharing the frozen struct
+     */
+    public PageResult<T> toPageResult() {
+        return new PageResult<>(this.code, this.message, this.data, true);
+    }
+}
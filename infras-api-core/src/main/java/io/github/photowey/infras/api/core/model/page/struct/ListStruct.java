@@ -15,11 +15,19 @@
  */
 package io.github.photowey.infras.api.core.model.page.struct;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import io.github.photowey.infras.api.common.constant.InfrasConstants;
+import io.github.photowey.infras.api.common.number.NullableLongs;
 import io.github.photowey.infras.api.common.validator.ValueValidator;
+import io.github.photowey.infras.api.core.codec.CompactSerializationProxy;
 import io.github.photowey.infras.api.core.meta.Meta;
+import io.github.photowey.infras.api.core.meta.count.CountMode;
+import io.github.photowey.infras.api.core.metrics.PaginationMetrics;
 
 import java.io.Serializable;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
@@ -34,143 +42,439 @@ public class ListStruct<T> implements Serializable {
 
     private static final long serialVersionUID = -514945485472820274L;
 
-    private Long pageNo;
-    private Long pageSize;
-    private Long count;
-
-    private List<T> list = InfrasConstants.Collection.emptyList();
-
-    private Map<String, Object> additional = InfrasConstants.Collection.emptyMap();
-
+    private static final ListStruct<?> UNMODIFIABLE_EMPTY = new ListStruct<>(
+            InfrasConstants.Pagination.DEFAULT_PAGE_NO,
+            InfrasConstants.Pagination.DEFAULT_PAGE_SIZE,
+            InfrasConstants.Pagination.EMPTY,
+            InfrasConstants.Collection.unmodifiableEmptyList(),
+            InfrasConstants.Collection.unmodifiableEmptyMap(),
+            true
+    );
+
+    /**
+     * Primitive storage, {@link NullableLongs#ABSENT} stands for {@code null}.
+     */
+    private long pageNo;
+    private long pageSize;
+    private long count;
+
+    /**
+     * Copy-on-write: stays the shared empty list until {@link #getList()} hands it out for writing.
+     */
+    private List<T> list;
+
+    /**
+     * Copy-on-write: stays the shared empty map until {@link #getAdditional()} hands it out for writing.
+     */
+    @JsonProperty("additional")
+    private Map<String, Object> additional;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String prevCursor;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private CountMode countMode;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean hasNext;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean countCapped;
+
+    private final boolean unmodifiable;
+
+    /**
+     * An empty struct to populate, e.g. by a deserializer; not reported to {@link PaginationMetrics}.
+     */
     public ListStruct() {
-        this(InfrasConstants.Collection.emptyList());
+        this(
+                InfrasConstants.Pagination.DEFAULT_PAGE_NO,
+                InfrasConstants.Pagination.DEFAULT_PAGE_SIZE,
+                InfrasConstants.Pagination.EMPTY,
+                InfrasConstants.Collection.unmodifiableEmptyList(),
+                InfrasConstants.Collection.unmodifiableEmptyMap(),
+                false
+        );
     }
 
     public ListStruct(List<T> list) {
-        this(list, Meta.populateDefaultMeta());
+        this(list, Meta.unmodifiableDefault());
     }
 
     public ListStruct(List<T> list, Meta meta) {
-        this(list, meta, InfrasConstants.Collection.emptyMap());
+        this(list, meta, InfrasConstants.Collection.unmodifiableEmptyMap());
     }
 
     public ListStruct(List<T> list, Meta meta, Map<String, Object> additional) {
-        this(meta.getPageNo(), meta.getPageSize(), meta.getCount(), list, additional);
+        this(list, meta, additional, false);
+    }
+
+    protected ListStruct(List<T> list, Meta meta, Map<String, Object> additional, boolean unmodifiable) {
+        this(meta.pageNoAsLong(), meta.pageSizeAsLong(), determineCount(meta), list, additional, unmodifiable);
+        this.nextCursor = meta.getNextCursor();
+        this.prevCursor = meta.getPrevCursor();
+        this.countMode = meta.getCountMode();
+        this.hasNext = meta.getHasNext();
+        this.countCapped = meta.getCountCapped();
+        recordListSize(list);
     }
 
     public ListStruct(Long pageNo, Long pageSize, Long count, List<T> list) {
-        this(pageNo, pageSize, count, list, InfrasConstants.Collection.emptyMap());
+        this(pageNo, pageSize, count, list, InfrasConstants.Collection.unmodifiableEmptyMap());
     }
 
     public ListStruct(Long pageNo, Long pageSize, Long count, List<T> list, Map<String, Object> additional) {
-        this.pageNo = ValueValidator.isNotNullOrEmpty(pageNo) ? pageNo : InfrasConstants.Pagination.DEFAULT_PAGE_NO;
-        this.pageSize = ValueValidator.isNotNullOrEmpty(pageSize) ? pageSize : InfrasConstants.Pagination.DEFAULT_PAGE_SIZE;
-        this.count = ValueValidator.isNotNullOrEmpty(count) ? count : InfrasConstants.Pagination.EMPTY;
-        this.additional = ValueValidator.isNotNullOrEmpty(additional) ? additional : InfrasConstants.Collection.emptyMap();
+        this(
+                ValueValidator.isNotNullOrEmpty(pageNo) ? pageNo : InfrasConstants.Pagination.DEFAULT_PAGE_NO,
+                ValueValidator.isNotNullOrEmpty(pageSize) ? pageSize : InfrasConstants.Pagination.DEFAULT_PAGE_SIZE,
+                ValueValidator.isNotNullOrEmpty(count) ? count : InfrasConstants.Pagination.EMPTY,
+                list,
+                additional,
+                false
+        );
+        recordListSize(list);
+    }
+
+    /**
+     * The {@link #freeze()} snapshot: copies the fields of the source, not reported to {@link PaginationMetrics}.
+     */
+    private ListStruct(ListStruct<T> source, List<T> list, Map<String, Object> additional) {
+        this(source.pageNo, source.pageSize, source.count, list, additional, true);
+        this.nextCursor = source.nextCursor;
+        this.prevCursor = source.prevCursor;
+        this.countMode = source.countMode;
+        this.hasNext = source.hasNext;
+        this.countCapped = source.countCapped;
+    }
+
+    /**
+     * An absent count stays absent under a non-exact {@link CountMode}, e.g. a keyset page;
+     * otherwise it defaults to {@code 0} as before.
+     */
+    private static long determineCount(Meta meta) {
+        return null != meta.getCountMode() ? NullableLongs.unbox(meta.count()) : meta.countAsLong();
+    }
+
+    private ListStruct(long pageNo, long pageSize, long count, List<T> list, Map<String, Object> additional, boolean unmodifiable) {
+        this.pageNo = pageNo;
+        this.pageSize = pageSize;
+        this.count = count;
+        this.additional = ValueValidator.isNotNullOrEmpty(additional) ? additional : InfrasConstants.Collection.unmodifiableEmptyMap();
 
         this.list = list;
+        this.unmodifiable = unmodifiable;
     }
 
     // ----------------------------------------------------------------
 
     public Long getPageNo() {
-        return pageNo;
+        return NullableLongs.box(this.pageNo);
     }
 
     public void setPageNo(Long pageNo) {
-        this.pageNo = pageNo;
+        this.ensureModifiable();
+        this.pageNo = NullableLongs.unbox(pageNo);
     }
 
     public Long getPageSize() {
-        return pageSize;
+        return NullableLongs.box(this.pageSize);
     }
 
     public void setPageSize(Long pageSize) {
-        this.pageSize = pageSize;
+        this.ensureModifiable();
+        this.pageSize = NullableLongs.unbox(pageSize);
     }
 
     public Long getCount() {
-        return count;
+        return NullableLongs.box(this.count);
     }
 
     public void setCount(Long count) {
-        this.count = count;
+        this.ensureModifiable();
+        this.count = NullableLongs.unbox(count);
     }
 
     public List<T> getList() {
+        if (this.list == InfrasConstants.Collection.unmodifiableEmptyList() && !this.unmodifiable) {
+            this.list = InfrasConstants.Collection.emptyList();
+        }
+
         return list;
     }
 
     public void setList(List<T> list) {
+        this.ensureModifiable();
         this.list = list;
     }
 
+    @JsonIgnore
     public Map<String, Object> getAdditional() {
+        if (this.additional == InfrasConstants.Collection.unmodifiableEmptyMap() && !this.unmodifiable) {
+            this.additional = InfrasConstants.Collection.emptyMap();
+        }
+
         return additional;
     }
 
     public void setAdditional(Map<String, Object> additional) {
+        this.ensureModifiable();
         this.additional = additional;
     }
 
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.ensureModifiable();
+        this.nextCursor = nextCursor;
+    }
+
+    public String getPrevCursor() {
+        return prevCursor;
+    }
+
+    public void setPrevCursor(String prevCursor) {
+        this.ensureModifiable();
+        this.prevCursor = prevCursor;
+    }
+
+    public CountMode getCountMode() {
+        return countMode;
+    }
+
+    public void setCountMode(CountMode countMode) {
+        this.ensureModifiable();
+        this.countMode = countMode;
+    }
+
+    public Boolean getHasNext() {
+        return hasNext;
+    }
+
+    public void setHasNext(Boolean hasNext) {
+        this.ensureModifiable();
+        this.hasNext = hasNext;
+    }
+
+    public Boolean getCountCapped() {
+        return countCapped;
+    }
+
+    public void setCountCapped(Boolean countCapped) {
+        this.ensureModifiable();
+        this.countCapped = countCapped;
+    }
+
     public Long pageNo() {
-        return pageNo;
+        return NullableLongs.box(this.pageNo);
     }
 
     public Long pageSize() {
-        return pageSize;
+        return NullableLongs.box(this.pageSize);
     }
 
     public Long count() {
-        return count;
+        return NullableLongs.box(this.count);
+    }
+
+    public long pageNoAsLong() {
+        return NullableLongs.defaultIfAbsent(this.pageNo, InfrasConstants.Pagination.DEFAULT_PAGE_NO);
+    }
+
+    public long pageSizeAsLong() {
+        return NullableLongs.defaultIfAbsent(this.pageSize, InfrasConstants.Pagination.DEFAULT_PAGE_SIZE);
+    }
+
+    public long countAsLong() {
+        return NullableLongs.defaultIfAbsent(this.count, InfrasConstants.Pagination.EMPTY);
     }
 
     public List<T> list() {
-        return list;
+        return this.getList();
     }
 
     public Map<String, Object> additional() {
+        return this.getAdditional();
+    }
+
+    /**
+     * @return the additional map for reading only, without the copy-on-write of {@link #getAdditional()}
+     */
+    public Map<String, Object> additionalView() {
         return additional;
     }
 
+    public String nextCursor() {
+        return nextCursor;
+    }
+
+    public String prevCursor() {
+        return prevCursor;
+    }
+
+    public CountMode countMode() {
+        return countMode;
+    }
+
+    public Boolean hasNext() {
+        return hasNext;
+    }
+
+    public Boolean countCapped() {
+        return countCapped;
+    }
+
     public ListStruct<T> pageNo(Long pageNo) {
-        this.pageNo = pageNo;
+        this.ensureModifiable();
+        this.pageNo = NullableLongs.unbox(pageNo);
         return this;
     }
 
     public ListStruct<T> pageSize(Long pageSize) {
-        this.pageSize = pageSize;
+        this.ensureModifiable();
+        this.pageSize = NullableLongs.unbox(pageSize);
         return this;
     }
 
     public ListStruct<T> count(Long count) {
-        this.count = count;
+        this.ensureModifiable();
+        this.count = NullableLongs.unbox(count);
         return this;
     }
 
     public ListStruct<T> list(List<T> list) {
+        this.ensureModifiable();
         this.list = list;
         return this;
     }
 
     public ListStruct<T> additional(Map<String, Object> additional) {
+        this.ensureModifiable();
         this.additional = additional;
         return this;
     }
 
+    public ListStruct<T> nextCursor(String nextCursor) {
+        this.ensureModifiable();
+        this.nextCursor = nextCursor;
+        return this;
+    }
+
+    public ListStruct<T> prevCursor(String prevCursor) {
+        this.ensureModifiable();
+        this.prevCursor = prevCursor;
+        return this;
+    }
+
+    public ListStruct<T> countMode(CountMode countMode) {
+        this.ensureModifiable();
+        this.countMode = countMode;
+        return this;
+    }
+
+    public ListStruct<T> hasNext(Boolean hasNext) {
+        this.ensureModifiable();
+        this.hasNext = hasNext;
+        return this;
+    }
+
+    public ListStruct<T> countCapped(Boolean countCapped) {
+        this.ensureModifiable();
+        this.countCapped = countCapped;
+        return this;
+    }
+
     public ListStruct<T> meta(Meta meta) {
         this.pageNo(meta.pageNo());
         this.pageSize(meta.pageSize());
         this.count(meta.count());
+        this.nextCursor(meta.nextCursor());
+        this.prevCursor(meta.prevCursor());
+        this.countMode(meta.countMode());
+        this.hasNext(meta.hasNext());
+        this.countCapped(meta.countCapped());
         return this;
     }
 
+    public boolean determineIsUnmodifiable() {
+        return this.unmodifiable;
+    }
+
+    /**
+     * An unmodifiable snapshot of this struct that shares the item storage:
+     * the list and the additional map are wrapped in read-only views, not copied.
+     * A {@link StreamingListStruct} is drained into its list first.
+     * <p>
+     * The owner must stop changing the source list and map once frozen, since the views reflect them.
+     * <p>
+     * The pagination fields stay non-{@code final} (they back the setters), so the struct alone gets no
+     * final-field guarantee: share it through a {@code PageSnapshot} (see {@code PageResult#freeze()})
+     * or a thread-safe channel, e.g. a concurrent cache, not through a data race.
+     *
+     * @return the snapshot, or this struct if it is already unmodifiable
+     */
+    public ListStruct<T> freeze() {
+        if (this.unmodifiable) {
+            return this;
+        }
+
+        List<T> items = this.getList();
+        Map<String, Object> values = this.additionalView();
+
+        return new ListStruct<>(
+                this,
+                null != items ? Collections.unmodifiableList(items) : null,
+                ValueValidator.isNotNullOrEmpty(values) ? Collections.unmodifiableMap(values) : InfrasConstants.Collection.unmodifiableEmptyMap()
+        );
+    }
+
+    protected void ensureModifiable() {
+        if (this.unmodifiable) {
+            throw new UnsupportedOperationException("The list struct is unmodifiable");
+        }
+    }
+
+    /**
+     * Java serialization writes the compact form, see {@link CompactSerializationProxy}.
+     * Private, so it only applies to this exact class: subclasses keep the default serialization of their type and fields.
+     */
+    private Object writeReplace() {
+        return CompactSerializationProxy.of(this);
+    }
+
     // ----------------------------------------------------------------
 
     public static <D> ListStruct<D> empty() {
         return create();
     }
 
+    /**
+     * A shared, unmodifiable empty struct, for responses that are never changed after creation.
+     *
+     * @param <D> the item type
+     * @return the shared empty struct
+     */
+    @SuppressWarnings("unchecked")
+    public static <D> ListStruct<D> unmodifiableEmpty() {
+        return (ListStruct<D>) UNMODIFIABLE_EMPTY;
+    }
+
+    public static <D> ListStruct<D> unmodifiableOf(List<D> data, Meta meta) {
+        return unmodifiableOf(data, meta, InfrasConstants.Collection.unmodifiableEmptyMap());
+    }
+
+    /**
+     * An unmodifiable struct whose list and additional are read-only views, safe to share between callers.
+     */
+    public static <D> ListStruct<D> unmodifiableOf(List<D> data, Meta meta, Map<String, Object> additional) {
+        Map<String, Object> view = ValueValidator.isNotNullOrEmpty(additional)
+                ? Collections.unmodifiableMap(additional)
+                : InfrasConstants.Collection.unmodifiableEmptyMap();
+
+        return new ListStruct<>(Collections.unmodifiableList(data), meta, view, true);
+    }
+
     // ----------------------------------------------------------------
 
     public static <D> ListStruct<D> create() {
@@ -182,15 +486,15 @@ public class ListStruct<T> implements Serializable {
     }
 
     public static <D> ListStruct<D> create(List<D> data) {
-        return create(data, Meta.populateDefaultMeta());
+        return create(data, Meta.unmodifiableDefault());
     }
 
     public static <D> ListStruct<D> create(List<D> data, Meta meta) {
-        return create(data, meta, InfrasConstants.Collection.emptyMap());
+        return create(data, meta, InfrasConstants.Collection.unmodifiableEmptyMap());
     }
 
     public static <D> ListStruct<D> create(List<D> data, Meta meta, Map<String, Object> additional) {
-        return create(data).meta(meta).additional(additional);
+        return new ListStruct<>(data, meta, additional);
     }
 
     // ----------------------------------------------------------------
@@ -214,6 +518,20 @@ public class ListStruct<T> implements Serializable {
                 .pageNo(this.pageNo())
                 .pageSize(this.pageSize())
                 .count(this.count())
+                .pages(Meta.determinePages(this.count(), this.pageSize(), this.countMode(), this.hasNext()))
+                .nextCursor(this.nextCursor())
+                .prevCursor(this.prevCursor())
+                .countMode(this.countMode())
+                .hasNext(this.hasNext())
+                .countCapped(this.countCapped())
                 .build();
     }
+
+    // ----------------------------------------------------------------
+
+    private static void recordListSize(List<?> list) {
+        if (null != list) {
+            PaginationMetrics.recorder().recordListSize(list.size());
+        }
+    }
 }
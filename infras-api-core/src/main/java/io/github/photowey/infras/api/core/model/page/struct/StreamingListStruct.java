@@ -0,0 +1,179 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.core.model.page.struct;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import io.github.photowey.infras.api.common.constant.InfrasConstants;
+import io.github.photowey.infras.api.core.jackson.StreamingListStructSerializer;
+import io.github.photowey.infras.api.core.meta.Meta;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+
+/**
+ * {@code StreamingListStruct}
+ * <p>
+ * A {@link ListStruct} backed by a lazy, one-shot item source.
+ * {@link StreamingListStructSerializer} writes the items straight to the {@code JsonGenerator}
+ * while they are produced, so the page is never held in memory as a whole.
+ * <p>
+ * {@link #getList()} (and anything that calls it) drains the remaining source into a list,
+ * which gives up the streaming benefit; prefer {@link #iterator()} on the hot path.
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+@JsonSerialize(using = StreamingListStructSerializer.class)
+public class StreamingListStruct<T> extends ListStruct<T> implements AutoCloseable {
+
+    private static final long serialVersionUID = 1937045006339171946L;
+
+    private transient Spliterator<T> source;
+    private transient AutoCloseable closeable;
+
+    private boolean consumed;
+
+    protected StreamingListStruct(Spliterator<T> source, AutoCloseable closeable, Meta meta, Map<String, Object> additional) {
+        super(null, meta, additional);
+        this.source = source;
+        this.closeable = closeable;
+    }
+
+    // ----------------------------------------------------------------
+
+    public static <D> StreamingListStruct<D> ofIterator(Iterator<D> source, Meta meta) {
+        return ofIterator(source, meta, InfrasConstants.Collection.emptyMap());
+    }
+
+    public static <D> StreamingListStruct<D> ofIterator(Iterator<D> source, Meta meta, Map<String, Object> additional) {
+        return new StreamingListStruct<>(Spliterators.spliteratorUnknownSize(source, Spliterator.ORDERED), null, meta, additional);
+    }
+
+    public static <D> StreamingListStruct<D> ofSpliterator(Spliterator<D> source, Meta meta) {
+        return ofSpliterator(source, meta, InfrasConstants.Collection.emptyMap());
+    }
+
+    public static <D> StreamingListStruct<D> ofSpliterator(Spliterator<D> source, Meta meta, Map<String, Object> additional) {
+        return new StreamingListStruct<>(source, null, meta, additional);
+    }
+
+    /**
+     * The stream is closed once it has been written, so {@code onClose} handlers
+     * (e.g. releasing a database cursor) run at the end of serialization.
+     */
+    public static <D> StreamingListStruct<D> ofStream(Stream<D> source, Meta meta) {
+        return ofStream(source, meta, InfrasConstants.Collection.emptyMap());
+    }
+
+    public static <D> StreamingListStruct<D> ofStream(Stream<D> source, Meta meta, Map<String, Object> additional) {
+        return new StreamingListStruct<>(source.spliterator(), source, meta, additional);
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * @return the items; the lazy source can only be iterated once
+     * @throws IllegalStateException if the lazy source has already been consumed
+     */
+    public Iterator<T> iterator() {
+        List<T> materialized = super.getList();
+        if (null != materialized) {
+            return materialized.iterator();
+        }
+        if (this.consumed) {
+            throw new IllegalStateException("The streaming list source has already been consumed");
+        }
+
+        this.consumed = true;
+        return Spliterators.iterator(this.source);
+    }
+
+    public boolean determineIsMaterialized() {
+        return null != super.getList();
+    }
+
+    // ----------------------------------------------------------------
+
+    @Override
+    public List<T> getList() {
+        List<T> materialized = super.getList();
+        if (null == materialized && !this.consumed) {
+            materialized = new ArrayList<>();
+            Iterator<T> it = this.iterator();
+            while (it.hasNext()) {
+                materialized.add(it.next());
+            }
+            super.setList(materialized);
+            this.close();
+        }
+
+        return materialized;
+    }
+
+    @Override
+    public List<T> list() {
+        return this.getList();
+    }
+
+    @Override
+    public void setList(List<T> list) {
+        this.discard();
+        super.setList(list);
+    }
+
+    @Override
+    public ListStruct<T> list(List<T> list) {
+        this.setList(list);
+        return this;
+    }
+
+    // ----------------------------------------------------------------
+
+    @Override
+    public void close() {
+        AutoCloseable target = this.closeable;
+        this.closeable = null;
+        this.source = null;
+        if (null != target) {
+            try {
+                target.close();
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new IllegalStateException("Close the streaming list source failed", e);
+            }
+        }
+    }
+
+    /**
+     * The lazy source is transient: drain it before the default serialization writes the list.
+     */
+    private Object writeReplace() {
+        this.getList();
+        return this;
+    }
+
+    private void discard() {
+        this.consumed = true;
+        this.close();
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.core.pagination;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import io.github.photowey.infras.api.common.constant.InfrasConstants;
+import io.github.photowey.infras.api.common.validator.ValueValidator;
+import io.github.photowey.infras.api.core.pagination.cursor.Cursor;
+import io.github.photowey.infras.api.core.pagination.cursor.CursorDirection;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * {@code AbstractCursorPagination}
+ * <p>
+ * Queries should seek from {@link #getSeekKeys()} in {@link #getDirection()}
+ * and fetch {@link #getFetchSize()} rows; the extra row only tells whether another page exists.
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public abstract class AbstractCursorPagination implements CursorPagination, Serializable {
+
+    private static final long serialVersionUID = 7453113957219564873L;
+
+    protected String cursor;
+
+    protected Long pageSize = InfrasConstants.Pagination.DEFAULT_PAGE_SIZE;
+
+    private transient Cursor decoded;
+
+    // ----------------------------------------------------------------
+
+    @JsonIgnore
+    public Long getLimit() {
+        return this.pageSizeAsLong();
+    }
+
+    @JsonIgnore
+    public Long getFetchSize() {
+        return this.fetchSizeAsLong();
+    }
+
+    @JsonIgnore
+    public boolean isFirstPage() {
+        return ValueValidator.isBlank(this.cursor);
+    }
+
+    /**
+     * @return the decoded cursor, or {@code null} on the first page
+     * @throws IllegalArgumentException if the token was not produced by {@link Cursor#encode()}
+     */
+    @JsonIgnore
+    public Cursor getDecodedCursor() {
+        if (this.isFirstPage()) {
+            return null;
+        }
+        if (null == this.decoded) {
+            this.decoded = Cursor.decode(this.cursor);
+        }
+
+        return this.decoded;
+    }
+
+    @JsonIgnore
+    public CursorDirection getDirection() {
+        Cursor target = this.getDecodedCursor();
+        return null != target ? target.direction() : CursorDirection.NEXT;
+    }
+
+    @JsonIgnore
+    public List<String> getSeekKeys() {
+        Cursor target = this.getDecodedCursor();
+        return null != target ? target.keys() : Collections.emptyList();
+    }
+
+    // ----------------------------------------------------------------
+
+    @Override
+    public String getCursor() {
+        return this.cursor;
+    }
+
+    @Override
+    public Long getPageSize() {
+        return this.pageSizeAsLong();
+    }
+
+    @Override
+    public void setCursor(String cursor) {
+        this.cursor = cursor;
+        this.decoded = null;
+    }
+
+    @Override
+    public void setPageSize(Long pageSize) {
+        this.pageSize = null != pageSize ? pageSize : InfrasConstants.Pagination.DEFAULT_PAGE_SIZE;
+    }
+
+    // ----------------------------------------------------------------
+
+    public String cursor() {
+        return this.cursor;
+    }
+
+    public Long pageSize() {
+        return this.pageSizeAsLong();
+    }
+
+    public <P extends AbstractCursorPagination> P cursor(String cursor) {
+        this.setCursor(cursor);
+        return (P) this;
+    }
+
+    public <P extends AbstractCursorPagination> P pageSize(Long pageSize) {
+        this.setPageSize(pageSize);
+        return (P) this;
+    }
+
+    // ----------------------------------------------------------------
+
+    public long pageSizeAsLong() {
+        long pageSize = null != this.pageSize ? this.pageSize : InfrasConstants.Pagination.DEFAULT_PAGE_SIZE;
+        return Math.min(pageSize, /*100L*/InfrasConstants.Pagination.THRESHOLD_PAGE_SIZE);
+    }
+
+    public long fetchSizeAsLong() {
+        return this.pageSizeAsLong() + /*1L*/InfrasConstants.Pagination.ONE_PAGE_SIZE;
+    }
+
+    // ----------------------------------------------------------------
+
+    public void selectFirst(Long pageSize) {
+        this.selectPage((String) null, pageSize);
+    }
+
+    public void selectPage(Cursor cursor, Long pageSize) {
+        this.selectPage(null != cursor ? cursor.encode() : null, pageSize);
+    }
+
+    public void selectPage(String cursor, Long pageSize) {
+        this.setCursor(cursor);
+        this.setPageSize(pageSize);
+    }
+}
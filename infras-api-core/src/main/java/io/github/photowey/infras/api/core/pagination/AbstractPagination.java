@@ -17,6 +17,13 @@ package io.github.photowey.infras.api.core.pagination;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.github.photowey.infras.api.common.constant.InfrasConstants;
+import io.github.photowey.infras.api.core.meta.count.CountStrategy;
+import io.github.photowey.infras.api.core.metrics.PaginationMetrics;
+import io.github.photowey.infras.api.core.pagination.policy.OffsetAction;
+import io.github.photowey.infras.api.core.pagination.policy.PaginationPolicies;
+import io.github.photowey.infras.api.core.pagination.policy.PaginationPolicy;
+import io.github.photowey.infras.api.core.pagination.policy.PaginationRejectedException;
+import io.github.photowey.infras.api.core.pagination.policy.PaginationVerdict;
 
 import java.io.Serializable;
 
@@ -29,84 +36,156 @@ import java.io.Serializable;
  */
 public abstract class AbstractPagination implements Pagination, Serializable {
 
+    /**
+     * Kept boxed for subclasses that read or assign them; the {@code *AsLong} accessors unbox them
+     * without allocating and treat {@code null} as the default.
+     */
     protected Long pageNo = InfrasConstants.Pagination.DEFAULT_PAGE_NO;
 
     protected Long pageSize = InfrasConstants.Pagination.DEFAULT_PAGE_SIZE;
 
     protected Long count = InfrasConstants.Pagination.EMPTY;
 
+    /**
+     * Whether the current page has been reported by {@link #recordRequest()}; reset when the page changes.
+     */
+    private transient boolean recorded;
+
+    /**
+     * {@code null} means the application-wide {@link PaginationPolicies#policy()}.
+     */
+    private transient PaginationPolicy policy;
+
+    /**
+     * The cached {@link #verdict()} of the current page; reset when the page changes.
+     */
+    private transient PaginationVerdict verdict;
+
     // ----------------------------------------------------------------
 
     @JsonIgnore
     public Long getLimit() {
-        return this.getPageSize();
+        return this.limitAsLong();
     }
 
     @JsonIgnore
     public Long getOffset() {
-        return (this.getPageNo() - /*1L*/InfrasConstants.Pagination.THRESHOLD_PAGE_NO) * this.getPageSize();
+        return this.offsetAsLong();
     }
 
     // ----------------------------------------------------------------
 
     @JsonIgnore
     public Long getCount() {
-        return null != this.count ? this.count : /*0L*/InfrasConstants.Pagination.EMPTY;
+        return this.countAsLong();
     }
 
     @Override
     public Long getPageNo() {
-        return Math.max(this.pageNo, /*1L*/InfrasConstants.Pagination.THRESHOLD_PAGE_NO);
+        return this.pageNoAsLong();
     }
 
     @Override
     public Long getPageSize() {
-        return Math.min(this.pageSize, /*100L*/InfrasConstants.Pagination.THRESHOLD_PAGE_SIZE);
+        return this.pageSizeAsLong();
     }
 
     public void setPageNo(Long pageNo) {
-        this.pageNo = pageNo;
+        this.pageNo = null != pageNo ? pageNo : InfrasConstants.Pagination.DEFAULT_PAGE_NO;
+        this.invalidate();
     }
 
     public void setPageSize(Long pageSize) {
-        this.pageSize = pageSize;
+        this.pageSize = null != pageSize ? pageSize : InfrasConstants.Pagination.DEFAULT_PAGE_SIZE;
+        this.invalidate();
     }
 
     public void setCount(Long count) {
-        this.count = count;
+        this.count = null != count ? count : /*0L*/InfrasConstants.Pagination.EMPTY;
     }
 
     // ----------------------------------------------------------------
 
     public Long count() {
-        return null != this.count ? this.count : /*0L*/InfrasConstants.Pagination.EMPTY;
+        return this.countAsLong();
     }
 
     public Long pageNo() {
-        return Math.max(this.pageNo, /*1L*/InfrasConstants.Pagination.THRESHOLD_PAGE_NO);
+        return this.pageNoAsLong();
     }
 
     public Long pageSize() {
-        return Math.min(this.pageSize, /*100L*/InfrasConstants.Pagination.THRESHOLD_PAGE_SIZE);
+        return this.pageSizeAsLong();
     }
 
     public <P extends AbstractPagination> P pageNo(Long pageNo) {
-        this.pageNo = pageNo;
+        this.setPageNo(pageNo);
         return (P) this;
     }
 
     public <P extends AbstractPagination> P pageSize(Long pageSize) {
-        this.pageSize = pageSize;
+        this.setPageSize(pageSize);
         return (P) this;
     }
 
     public <P extends AbstractPagination> P count(Long count) {
-        this.count = count;
+        this.setCount(count);
         return (P) this;
     }
 
     // ----------------------------------------------------------------
 
+    public long countAsLong() {
+        return null != this.count ? this.count : /*0L*/InfrasConstants.Pagination.EMPTY;
+    }
+
+    /**
+     * Never throws, so the getters stay safe for serializers and logging: a rejected page reads as requested,
+     * the rejection is enforced where the page is resolved or queried, see {@link #ensureAllowed()}.
+     *
+     * @return the page number, as decided by the {@link PaginationPolicy}
+     */
+    public long pageNoAsLong() {
+        if (this.policy().determineIsUnlimited()) {
+            return this.requestedPageNoAsLong();
+        }
+
+        PaginationVerdict verdict = this.verdict();
+        return verdict.decision().determineIsRejected() ? verdict.requestedPageNo() : verdict.pageNoAsLong();
+    }
+
+    public long pageSizeAsLong() {
+        long pageSize = null != this.pageSize ? this.pageSize : InfrasConstants.Pagination.DEFAULT_PAGE_SIZE;
+        return Math.min(pageSize, /*100L*/InfrasConstants.Pagination.THRESHOLD_PAGE_SIZE);
+    }
+
+    public long limitAsLong() {
+        return this.pageSizeAsLong();
+    }
+
+    public long offsetAsLong() {
+        return (this.pageNoAsLong() - /*1L*/InfrasConstants.Pagination.THRESHOLD_PAGE_NO) * this.pageSizeAsLong();
+    }
+
+    /**
+     * Reports the current page request to {@link PaginationMetrics}, once per page however many boundaries call it:
+     * the argument resolver, the page query executors, the page cache and the in-memory pagers.
+     */
+    public void recordRequest() {
+        if (this.recorded || !PaginationMetrics.determineIsEnabled()) {
+            return;
+        }
+
+        this.recorded = true;
+        PaginationMetrics.recorder().recordRequest(
+                this.pageNoAsLong(),
+                null != this.pageSize ? this.pageSize : InfrasConstants.Pagination.DEFAULT_PAGE_SIZE,
+                this.offsetAsLong()
+        );
+    }
+
+    // ----------------------------------------------------------------
+
     public void selectOne() {
         this.selectLimit(InfrasConstants.Pagination.ONE_PAGE_SIZE);
     }
@@ -115,14 +194,98 @@ public abstract class AbstractPagination implements Pagination, Serializable {
         this.selectPage(InfrasConstants.Pagination.THRESHOLD_PAGE_NO, pageSize);
     }
 
+    /**
+     * @throws PaginationRejectedException if the {@link PaginationPolicy} rejects the page
+     */
     public void selectPage(Long current, Long pageSize) {
         this.setPageNo(current);
         this.setPageSize(pageSize);
+        this.ensureAllowed();
+    }
+
+    /**
+     * The primitive counterpart of {@link #selectPage(Long, Long)}, for binders that parse straight into primitives;
+     * the {@link PaginationPolicy} is applied on read, call {@link #ensureAllowed()} to reject early.
+     */
+    public void selectPageAsLong(long current, long pageSize) {
+        this.pageNo = current;
+        this.pageSize = pageSize;
+        this.invalidate();
     }
 
     // ----------------------------------------------------------------
 
     public void triggerThresholdPageSizeEnabled() {
         this.pageSize = InfrasConstants.Pagination.THRESHOLD_PAGE_SIZE;
+        this.invalidate();
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * @return the instance policy if any, otherwise the application-wide one
+     */
+    public PaginationPolicy policy() {
+        return null != this.policy ? this.policy : PaginationPolicies.policy();
+    }
+
+    public <P extends AbstractPagination> P policy(PaginationPolicy policy) {
+        this.policy = policy;
+        this.invalidate();
+        return (P) this;
+    }
+
+    /**
+     * Re-evaluated when the page changes, including direct field writes by subclasses.
+     *
+     * @return the decision of the {@link PaginationPolicy} on the current page
+     */
+    public PaginationVerdict verdict() {
+        long pageNo = this.requestedPageNoAsLong();
+        long pageSize = this.pageSizeAsLong();
+
+        PaginationVerdict current = this.verdict;
+        if (null == current || current.requestedPageNo() != pageNo || current.pageSize() != pageSize) {
+            current = this.policy().evaluate(pageNo, pageSize);
+            this.verdict = current;
+        }
+
+        return current;
+    }
+
+    /**
+     * Called by the query boundaries, e.g. the argument resolver and the page query executors.
+     *
+     * @throws PaginationRejectedException if the {@link PaginationPolicy} rejects the page
+     */
+    public void ensureAllowed() {
+        if (!this.policy().determineIsUnlimited()) {
+            this.verdict().ensureAllowed();
+        }
+    }
+
+    /**
+     * Run the count and page queries with the returned strategy:
+     * a {@link OffsetAction#DEGRADE degraded} page swaps in a cheaper one.
+     *
+     * @param requested the strategy the caller would use
+     * @return the strategy to use
+     */
+    public CountStrategy countStrategy(CountStrategy requested) {
+        if (this.policy().determineIsUnlimited()) {
+            return requested;
+        }
+
+        return this.verdict().countStrategy(requested);
+    }
+
+    private long requestedPageNoAsLong() {
+        long pageNo = null != this.pageNo ? this.pageNo : InfrasConstants.Pagination.DEFAULT_PAGE_NO;
+        return Math.max(pageNo, /*1L*/InfrasConstants.Pagination.THRESHOLD_PAGE_NO);
+    }
+
+    private void invalidate() {
+        this.recorded = false;
+        this.verdict = null;
     }
 }
@@ -0,0 +1,110 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.core.pagination.cursor;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * {@code Cursor}
+ * <p>
+ * A keyset (seek) position: the sort key values of a boundary row plus the seek direction.
+ * Composite sort keys are supported, e.g. {@code (createdAt, id)}.
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public final class Cursor implements Serializable {
+
+    private static final long serialVersionUID = -2403582117226893318L;
+
+    private final CursorDirection direction;
+    private final List<String> keys;
+
+    private Cursor(CursorDirection direction, List<String> keys) {
+        this.direction = direction;
+        this.keys = keys;
+    }
+
+    // ----------------------------------------------------------------
+
+    public static Cursor next(String... keys) {
+        return of(CursorDirection.NEXT, Arrays.asList(keys));
+    }
+
+    public static Cursor prev(String... keys) {
+        return of(CursorDirection.PREV, Arrays.asList(keys));
+    }
+
+    public static Cursor of(CursorDirection direction, List<String> keys) {
+        if (null == direction) {
+            throw new IllegalArgumentException("Unsupported cursor direction: null");
+        }
+        if (null == keys || keys.isEmpty()) {
+            throw new IllegalArgumentException("Cursor keys must not be empty");
+        }
+
+        return new Cursor(direction, Collections.unmodifiableList(new ArrayList<>(keys)));
+    }
+
+    public static Cursor decode(String token) {
+        return CursorCodec.decode(token);
+    }
+
+    // ----------------------------------------------------------------
+
+    public String encode() {
+        return CursorCodec.encode(this);
+    }
+
+    public CursorDirection direction() {
+        return direction;
+    }
+
+    public List<String> keys() {
+        return keys;
+    }
+
+    public String key() {
+        return keys.get(0);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Cursor)) {
+            return false;
+        }
+
+        Cursor that = (Cursor) o;
+        return this.direction == that.direction && this.keys.equals(that.keys);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * this.direction.hashCode() + this.keys.hashCode();
+    }
+
+    public String toString() {
+        return "Cursor(direction=" + this.direction + ", keys=" + this.keys + ")";
+    }
+}
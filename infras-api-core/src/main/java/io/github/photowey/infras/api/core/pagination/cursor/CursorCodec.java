@@ -0,0 +1,113 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.core.pagination.cursor;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * {@code CursorCodec}
+ * <p>
+ * Encodes a {@link Cursor} into an opaque, url-safe continuation token.
+ * <pre>
+ * [version:1][direction:1][keys:1]([utf-length:2][utf-bytes])*
+ * </pre>
+ * Clients must treat the token as opaque; only this codec interprets it.
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public final class CursorCodec {
+
+    public static final int VERSION = 1;
+    public static final int MAX_KEYS = 0xFF;
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private CursorCodec() {
+        throw new AssertionError("No " + this.getClass().getName() + " instances for you!");
+    }
+
+    // ----------------------------------------------------------------
+
+    public static String encode(Cursor cursor) {
+        List<String> keys = cursor.keys();
+        if (keys.size() > MAX_KEYS) {
+            throw new IllegalArgumentException("Too many cursor keys: " + keys.size());
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(32);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            out.writeByte(cursor.direction().ordinal());
+            out.writeByte(keys.size());
+            for (String key : keys) {
+                out.writeUTF(null != key ? key : "");
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Encode cursor failed", e);
+        }
+
+        return ENCODER.encodeToString(bytes.toByteArray());
+    }
+
+    public static Cursor decode(String token) {
+        if (null == token) {
+            throw new IllegalArgumentException("Invalid cursor token: null");
+        }
+
+        byte[] bytes;
+        try {
+            bytes = DECODER.decode(token);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor token: " + token, e);
+        }
+
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            int version = in.readUnsignedByte();
+            if (VERSION != version) {
+                throw new IllegalArgumentException("Unsupported cursor token version: " + version);
+            }
+
+            int direction = in.readUnsignedByte();
+            CursorDirection[] directions = CursorDirection.values();
+            if (direction >= directions.length) {
+                throw new IllegalArgumentException("Invalid cursor token: " + token);
+            }
+
+            int size = in.readUnsignedByte();
+            List<String> keys = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                keys.add(in.readUTF());
+            }
+            if (in.available() > 0) {
+                throw new IllegalArgumentException("Invalid cursor token: " + token);
+            }
+
+            return Cursor.of(directions[direction], keys);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Invalid cursor token: " + token, e);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.core.pagination.iterator;
+
+import io.github.photowey.infras.api.core.pagination.AbstractPagination;
+import io.github.photowey.infras.api.core.pagination.Pagination;
+import io.github.photowey.infras.api.core.pagination.policy.PaginationPolicy;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * {@code PageFetcher}
+ * <p>
+ * Fetches one page of a query, e.g. a {@code selectPage(current, pageSize)} repository call.
+ * A page shorter than {@code pageSize} is the last one.
+ * <p>
+ * Fetchers driven by a prefetching {@link PageIterator} run on the executor threads,
+ * several pages at a time, so they must be thread-safe.
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface PageFetcher<T> {
+
+    /**
+     * @param pageNo   the page number, starting at {@code 1}
+     * @param pageSize the page size
+     * @return the rows of the page, never {@code null}
+     */
+    List<T> fetch(long pageNo, long pageSize);
+
+    // ----------------------------------------------------------------
+
+    /**
+     * Adapts a query over a {@link Pagination}: a fresh pagination is created for every page.
+     * The walk is meant to reach every page, so an {@link AbstractPagination} gets {@link PaginationPolicy#unlimited()}
+     * instead of the application-wide policy; a pagination that still moves the page elsewhere
+     * ends the walk with an empty page rather than fetching the same rows again.
+     *
+     * @param factory the pagination factory
+     * @param query   the page query
+     * @param <P>     the pagination type
+     * @param <T>     the item type
+     * @return the fetcher
+     */
+    static <P extends Pagination, T> PageFetcher<T> of(Supplier<P> factory, Function<? super P, List<T>> query) {
+        return (pageNo, pageSize) -> {
+            P pagination = factory.get();
+            if (pagination instanceof AbstractPagination) {
+                ((AbstractPagination) pagination).policy(PaginationPolicy.unlimited());
+            }
+            pagination.setPageNo(pageNo);
+            pagination.setPageSize(pageSize);
+
+            Long effective = pagination.getPageNo();
+            if (null == effective || effective != pageNo) {
+                return Collections.emptyList();
+            }
+
+            return query.apply(pagination);
+        };
+    }
+}
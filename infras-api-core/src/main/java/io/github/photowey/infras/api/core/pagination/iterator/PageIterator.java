@@ -0,0 +1,414 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.core.pagination.iterator;
+
+import io.github.photowey.infras.api.common.constant.InfrasConstants;
+import io.github.photowey.infras.api.core.pagination.Pagination;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * {@code PageIterator}
+ * <p>
+ * Walks every page of a query, from {@code startPageNo} until a page shorter than {@code pageSize}
+ * (or {@code maxPages} pages), e.g. for bulk exports:
+ * <pre>
+ * try (Stream&lt;Order&gt; orders = PageIterator.builder(repository::selectPage)
+ *         .pageSize(100L)
+ *         .executor(exportExecutor)
+ *         .prefetch(4)
+ *         .build()
+ *         .stream()) {
+ *     orders.forEach(writer::write);
+ * }
+ * </pre>
+ * With an {@code executor} the next {@code prefetch} pages are fetched in the background while the
+ * current one is processed. At most {@code prefetch} pages are in flight or buffered at any time,
+ * so a slow consumer holds the fetches back instead of piling pages up in memory.
+ * Since the end of the query is only known once the short page arrives, up to {@code prefetch - 1}
+ * pages past the end may be fetched speculatively; they are cancelled or discarded.
+ * Without an {@code executor} every page is fetched in the calling thread, on demand.
+ * <p>
+ * The {@code pageSize} is capped at {@link InfrasConstants.Pagination#THRESHOLD_PAGE_SIZE}:
+ * a {@link Pagination} clamps larger sizes, so every page would look short and end the walk after the first one.
+ * <p>
+ * A fetch failure is rethrown to the consumer once it reaches the failed page,
+ * cancelling the pages in flight. The iterator is single-use and not thread-safe;
+ * close it (or the stream) when it is abandoned early.
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public final class PageIterator<T> implements Iterator<List<T>>, AutoCloseable {
+
+    private final PageFetcher<T> fetcher;
+    private final long pageSize;
+    private final long maxPageNo;
+    private final ExecutorService executor;
+    private final int prefetch;
+    private final long timeoutNanos;
+
+    private final ArrayDeque<Future<List<T>>> inflight;
+
+    private long scheduledPageNo;
+    private long pageNo;
+    private List<T> buffered;
+    private boolean exhausted;
+    private boolean closed;
+
+    private PageIterator(PageIteratorBuilder<T> builder) {
+        this.fetcher = builder.fetcher;
+        this.pageSize = builder.pageSize;
+        this.maxPageNo = builder.maxPages > 0L ? builder.startPageNo + builder.maxPages - 1L : Long.MAX_VALUE;
+        this.executor = builder.executor;
+        this.prefetch = builder.prefetch;
+        this.timeoutNanos = builder.timeoutNanos;
+        this.inflight = new ArrayDeque<>(Math.max(1, builder.prefetch));
+        this.scheduledPageNo = builder.startPageNo;
+        this.pageNo = builder.startPageNo - 1L;
+    }
+
+    // ----------------------------------------------------------------
+
+    @Override
+    public boolean hasNext() {
+        if (null == this.buffered && !this.exhausted) {
+            this.buffered = this.advance();
+        }
+
+        return null != this.buffered;
+    }
+
+    /**
+     * @return the rows of the next page, never empty
+     * @throws IllegalStateException if the fetch timed out, the caller was interrupted
+     *                               or the executor rejected the fetch;
+     *                               a {@link RuntimeException} or {@link Error} thrown by the fetcher
+     *                               is rethrown as is
+     */
+    @Override
+    public List<T> next() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        List<T> page = this.buffered;
+        this.buffered = null;
+
+        return page;
+    }
+
+    /**
+     * @return the page number of the last page returned by {@link #next()}
+     */
+    public long pageNo() {
+        return this.pageNo;
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * @return the pages; closing the stream closes this iterator
+     */
+    public Stream<List<T>> pages() {
+        Spliterator<List<T>> spliterator = Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, false).onClose(this::close);
+    }
+
+    /**
+     * @return the rows of every page, in page order; closing the stream closes this iterator
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(this.spliterator(), false).onClose(this::close);
+    }
+
+    /**
+     * @return the rows of every page, in page order
+     */
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliteratorUnknownSize(this.items(), Spliterator.ORDERED);
+    }
+
+    /**
+     * @return the rows of every page, in page order
+     */
+    public Iterator<T> items() {
+        return new Iterator<T>() {
+
+            private Iterator<T> current = Collections.emptyIterator();
+
+            @Override
+            public boolean hasNext() {
+                while (!this.current.hasNext()) {
+                    if (!PageIterator.this.hasNext()) {
+                        return false;
+                    }
+                    this.current = PageIterator.this.next().iterator();
+                }
+
+                return true;
+            }
+
+            @Override
+            public T next() {
+                if (!this.hasNext()) {
+                    throw new NoSuchElementException();
+                }
+
+                return this.current.next();
+            }
+        };
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * Cancels the pages in flight; further calls to {@link #hasNext()} return {@code false}.
+     */
+    @Override
+    public void close() {
+        this.closed = true;
+        this.exhausted = true;
+        this.buffered = null;
+        this.cancel();
+    }
+
+    // ----------------------------------------------------------------
+
+    private List<T> advance() {
+        List<T> page;
+        if (null == this.executor) {
+            if (this.scheduledPageNo > this.maxPageNo) {
+                this.exhausted = true;
+                return null;
+            }
+
+            page = this.fetcher.fetch(this.scheduledPageNo++, this.pageSize);
+        } else {
+            this.schedule();
+            Future<List<T>> head = this.inflight.poll();
+            if (null == head) {
+                this.exhausted = true;
+                return null;
+            }
+
+            page = this.await(head);
+        }
+
+        this.pageNo++;
+        if (null == page || page.size() < this.pageSize) {
+            this.exhausted = true;
+            this.cancel();
+        } else if (null != this.executor) {
+            // Refill while the consumer processes this page.
+            this.schedule();
+        }
+        if (null == page || page.isEmpty()) {
+            return null;
+        }
+
+        return page;
+    }
+
+    private void schedule() {
+        try {
+            while (this.inflight.size() < this.prefetch && this.scheduledPageNo <= this.maxPageNo) {
+                long target = this.scheduledPageNo;
+                this.inflight.add(this.executor.submit(() -> this.fetcher.fetch(target, this.pageSize)));
+                this.scheduledPageNo++;
+            }
+        } catch (RejectedExecutionException e) {
+            this.close();
+            throw new IllegalStateException("The page fetch was rejected by the executor", e);
+        }
+    }
+
+    private List<T> await(Future<List<T>> future) {
+        try {
+            if (this.timeoutNanos > 0L) {
+                return future.get(this.timeoutNanos, TimeUnit.NANOSECONDS);
+            }
+
+            return future.get();
+        } catch (ExecutionException e) {
+            this.close();
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+
+            throw new IllegalStateException("The page fetch failed, pageNo: " + (this.pageNo + 1L), cause);
+        } catch (TimeoutException e) {
+            this.close();
+            throw new IllegalStateException("The page fetch timed out after "
+                    + TimeUnit.NANOSECONDS.toMillis(this.timeoutNanos) + "ms, pageNo: " + (this.pageNo + 1L), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            this.close();
+            throw new IllegalStateException("The page fetch was interrupted", e);
+        } catch (CancellationException e) {
+            this.close();
+            throw new IllegalStateException("The page fetch was cancelled, pageNo: " + (this.pageNo + 1L), e);
+        }
+    }
+
+    private void cancel() {
+        Future<List<T>> future;
+        while (null != (future = this.inflight.poll())) {
+            future.cancel(true);
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    public long pageSize() {
+        return this.pageSize;
+    }
+
+    public int prefetch() {
+        return this.prefetch;
+    }
+
+    public boolean determineIsClosed() {
+        return this.closed;
+    }
+
+    public String toString() {
+        return "PageIterator(pageNo=" + this.pageNo + ", pageSize=" + this.pageSize + ", prefetch=" + this.prefetch
+                + ", inflight=" + this.inflight.size() + ", exhausted=" + this.exhausted + ")";
+    }
+
+    // ----------------------------------------------------------------
+
+    public static <T> PageIteratorBuilder<T> builder(PageFetcher<T> fetcher) {
+        return new PageIteratorBuilder<T>().fetcher(fetcher);
+    }
+
+    // ----------------------------------------------------------------
+
+    public static class PageIteratorBuilder<T> {
+
+        private PageFetcher<T> fetcher;
+        private long startPageNo = InfrasConstants.Pagination.THRESHOLD_PAGE_NO;
+        private long pageSize = InfrasConstants.Pagination.THRESHOLD_PAGE_SIZE;
+        private long maxPages;
+        private ExecutorService executor;
+        private int prefetch = 2;
+        private long timeoutNanos;
+
+        PageIteratorBuilder() {
+        }
+
+        public PageIteratorBuilder<T> fetcher(PageFetcher<T> fetcher) {
+            this.fetcher = fetcher;
+            return this;
+        }
+
+        public PageIteratorBuilder<T> startPageNo(long startPageNo) {
+            this.startPageNo = startPageNo;
+            return this;
+        }
+
+        /**
+         * The rows per page, at most {@link InfrasConstants.Pagination#THRESHOLD_PAGE_SIZE}.
+         */
+        public PageIteratorBuilder<T> pageSize(long pageSize) {
+            this.pageSize = pageSize;
+            return this;
+        }
+
+        /**
+         * The upper bound of the pages to walk; {@code 0} walks until the short page.
+         */
+        public PageIteratorBuilder<T> maxPages(long maxPages) {
+            this.maxPages = maxPages;
+            return this;
+        }
+
+        /**
+         * A bounded pool dedicated to the fetches; {@code null} fetches in the calling thread.
+         */
+        public PageIteratorBuilder<T> executor(ExecutorService executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * The pages fetched ahead of the consumer, including the one it waits for.
+         */
+        public PageIteratorBuilder<T> prefetch(int prefetch) {
+            this.prefetch = prefetch;
+            return this;
+        }
+
+        /**
+         * The deadline of a single page fetch; {@code 0} waits without limit.
+         */
+        public PageIteratorBuilder<T> timeout(long timeout, TimeUnit unit) {
+            this.timeoutNanos = unit.toNanos(timeout);
+            return this;
+        }
+
+        public PageIterator<T> build() {
+            if (null == this.fetcher) {
+                throw new IllegalArgumentException("The page fetcher must not be null");
+            }
+            if (this.startPageNo < 1L) {
+                throw new IllegalArgumentException("Invalid page iterator start page no: " + this.startPageNo);
+            }
+            if (this.pageSize < 1L || this.pageSize > InfrasConstants.Pagination.THRESHOLD_PAGE_SIZE) {
+                throw new IllegalArgumentException("Invalid page iterator page size: " + this.pageSize
+                        + ", expected 1 to " + InfrasConstants.Pagination.THRESHOLD_PAGE_SIZE);
+            }
+            if (this.maxPages < 0L) {
+                throw new IllegalArgumentException("Invalid page iterator max pages: " + this.maxPages);
+            }
+            if (this.prefetch < 1) {
+                throw new IllegalArgumentException("Invalid page iterator prefetch: " + this.prefetch);
+            }
+            if (this.timeoutNanos < 0L) {
+                throw new IllegalArgumentException("Invalid page iterator timeout: " + this.timeoutNanos + "ns");
+            }
+
+            return new PageIterator<>(this);
+        }
+
+        public String toString() {
+            return "PageIterator.PageIteratorBuilder(fetcher=" + this.fetcher + ", startPageNo=" + this.startPageNo
+                    + ", pageSize=" + this.pageSize + ", maxPages=" + this.maxPages + ", executor=" + this.executor
+                    + ", prefetch=" + this.prefetch + ", timeoutNanos=" + this.timeoutNanos + ")";
+        }
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.core.pagination.memory;
+
+import io.github.photowey.infras.api.common.constant.InfrasConstants;
+import io.github.photowey.infras.api.core.meta.Meta;
+import io.github.photowey.infras.api.core.model.page.PageResult;
+import io.github.photowey.infras.api.core.pagination.AbstractPagination;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * {@code InMemoryPager}
+ * <p>
+ * Applies an {@link AbstractPagination} to an in-memory collection, e.g. cached reference data:
+ * <ul>
+ *     <li>a {@link List} in its own order is paged through a {@link List#subList(int, int)} view, without copying</li>
+ *     <li>a sorted page of the first pages is selected with a bounded heap of {@code offset + pageSize} entries
+ *     ({@code O(n log k)}) instead of sorting the whole collection</li>
+ *     <li>repeated requests over the same data go through a {@link SortedPageIndex}, sorted once</li>
+ * </ul>
+ * Sorting is stable: rows comparing equal keep the collection order.
+ * A view reflects its source, so do not change the source list while the page is in use.
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public final class InMemoryPager {
+
+    /**
+     * The top-k selection is used while {@code offset + pageSize} is at most a quarter of the rows,
+     * beyond that a full sort is cheaper.
+     */
+    static final int TOP_K_DIVISOR = 4;
+
+    private InMemoryPager() {
+        throw new AssertionError("No " + this.getClass().getName() + " instances for you!");
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * @return the page in list order, a view of {@code source}
+     */
+    public static <T> PageResult<T> page(List<T> source, AbstractPagination pagination) {
+        int size = source.size();
+        int from = from(pagination, size);
+        int to = to(pagination, from, size);
+
+        return populatePage(source.subList(from, to), size, pagination);
+    }
+
+    /**
+     * @return the page in iteration order; only the rows of the page are copied
+     */
+    public static <T> PageResult<T> page(Collection<T> source, AbstractPagination pagination) {
+        if (source instanceof List) {
+            return page((List<T>) source, pagination);
+        }
+
+        int size = source.size();
+        int from = from(pagination, size);
+        int to = to(pagination, from, size);
+
+        List<T> rows = new ArrayList<>(to - from);
+        Iterator<T> it = source.iterator();
+        for (int i = 0; i < to && it.hasNext(); i++) {
+            T next = it.next();
+            if (i >= from) {
+                rows.add(next);
+            }
+        }
+
+        return populatePage(rows, size, pagination);
+    }
+
+    /**
+     * @return the page in comparator order; {@code source} is left untouched
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PageResult<T> page(Collection<T> source, Comparator<? super T> comparator, AbstractPagination pagination) {
+        if (null == comparator) {
+            throw new IllegalArgumentException("The in-memory pager comparator must not be null");
+        }
+
+        Object[] rows = source.toArray();
+        int size = rows.length;
+        int from = from(pagination, size);
+        int to = to(pagination, from, size);
+        if (from >= to) {
+            return populatePage(InfrasConstants.Collection.unmodifiableEmptyList(), size, pagination);
+        }
+
+        if (to <= size / TOP_K_DIVISOR) {
+            return populatePage(TopK.select((T[]) rows, comparator, from, to), size, pagination);
+        }
+
+        Arrays.sort((T[]) rows, comparator);
+        return populatePage(Arrays.asList((T[]) rows).subList(from, to), size, pagination);
+    }
+
+    /**
+     * Sorts a snapshot of {@code source} once, for repeated page requests in {@code O(pageSize)}.
+     */
+    public static <T> SortedPageIndex<T> index(Collection<T> source, Comparator<? super T> comparator) {
+        if (null == comparator) {
+            throw new IllegalArgumentException("The in-memory pager comparator must not be null");
+        }
+
+        return SortedPageIndex.of(source, comparator);
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * The query boundary of both pagers: a page rejected by the pagination policy fails here, an allowed one is recorded.
+     */
+    static int from(AbstractPagination pagination, int size) {
+        pagination.ensureAllowed();
+        pagination.recordRequest();
+        return (int) Math.min(pagination.offsetAsLong(), size);
+    }
+
+    static int to(AbstractPagination pagination, int from, int size) {
+        return (int) Math.min((long) from + pagination.limitAsLong(), size);
+    }
+
+    static <T> PageResult<T> populatePage(List<T> rows, int size, AbstractPagination pagination) {
+        return PageResult.staticOf(rows, Meta.populateMeta((long) size, pagination.pageNoAsLong(), pagination.pageSizeAsLong()));
+    }
+}
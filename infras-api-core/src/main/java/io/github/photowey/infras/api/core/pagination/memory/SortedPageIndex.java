@@ -0,0 +1,84 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.core.pagination.memory;
+
+import io.github.photowey.infras.api.core.model.page.PageResult;
+import io.github.photowey.infras.api.core.pagination.AbstractPagination;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * {@code SortedPageIndex}
+ * <p>
+ * A sorted, unmodifiable snapshot of a collection: every page is a {@link List#subList(int, int)} view
+ * of the snapshot, so a page request costs {@code O(1)} plus {@code O(pageSize)} to serialize it.
+ * Later changes to the source are not reflected; build a new index when the data is reloaded.
+ * Safe to share between threads once published.
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public final class SortedPageIndex<T> {
+
+    private final List<T> sorted;
+    private final Comparator<? super T> comparator;
+
+    private SortedPageIndex(List<T> sorted, Comparator<? super T> comparator) {
+        this.sorted = sorted;
+        this.comparator = comparator;
+    }
+
+    // ----------------------------------------------------------------
+
+    @SuppressWarnings("unchecked")
+    static <T> SortedPageIndex<T> of(Collection<T> source, Comparator<? super T> comparator) {
+        T[] rows = (T[]) source.toArray();
+        Arrays.sort(rows, comparator);
+
+        return new SortedPageIndex<>(Collections.unmodifiableList(Arrays.asList(rows)), comparator);
+    }
+
+    // ----------------------------------------------------------------
+
+    public PageResult<T> page(AbstractPagination pagination) {
+        int size = this.sorted.size();
+        int from = InMemoryPager.from(pagination, size);
+        int to = InMemoryPager.to(pagination, from, size);
+
+        return InMemoryPager.populatePage(this.sorted.subList(from, to), size, pagination);
+    }
+
+    public List<T> sorted() {
+        return sorted;
+    }
+
+    public Comparator<? super T> comparator() {
+        return comparator;
+    }
+
+    public int size() {
+        return this.sorted.size();
+    }
+
+    public String toString() {
+        return "SortedPageIndex(size=" + this.sorted.size() + ", comparator=" + this.comparator + ")";
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.core.pagination.memory;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * {@code TopK}
+ * <p>
+ * Selects the rows {@code [from, to)} of the stable sort order with a bounded binary max-heap
+ * of the {@code to} smallest row indexes, ordered by row and then by index.
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+final class TopK {
+
+    private TopK() {
+        throw new AssertionError("No " + this.getClass().getName() + " instances for you!");
+    }
+
+    // ----------------------------------------------------------------
+
+    static <T> List<T> select(T[] rows, Comparator<? super T> comparator, int from, int to) {
+        int[] heap = new int[to];
+        int size = 0;
+        for (int i = 0; i < rows.length; i++) {
+            if (size < to) {
+                heap[size] = i;
+                siftUp(rows, comparator, heap, size++);
+            } else if (less(rows, comparator, i, heap[0])) {
+                heap[0] = i;
+                siftDown(rows, comparator, heap, 0, size);
+            }
+        }
+
+        // Heap sort in place: the largest retained index moves to the end on each step.
+        for (int end = size - 1; end > 0; end--) {
+            int top = heap[0];
+            heap[0] = heap[end];
+            heap[end] = top;
+            siftDown(rows, comparator, heap, 0, end);
+        }
+
+        List<T> page = new ArrayList<>(to - from);
+        for (int i = from; i < size; i++) {
+            page.add(rows[heap[i]]);
+        }
+
+        return page;
+    }
+
+    // ----------------------------------------------------------------
+
+    private static <T> boolean less(T[] rows, Comparator<? super T> comparator, int left, int right) {
+        int order = comparator.compare(rows[left], rows[right]);
+        return order < 0 || (0 == order && left < right);
+    }
+
+    private static <T> void siftUp(T[] rows, Comparator<? super T> comparator, int[] heap, int index) {
+        int value = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!less(rows, comparator, heap[parent], value)) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = value;
+    }
+
+    private static <T> void siftDown(T[] rows, Comparator<? super T> comparator, int[] heap, int index, int size) {
+        int value = heap[index];
+        int half = size >>> 1;
+        while (index < half) {
+            int child = (index << 1) + 1;
+            int right = child + 1;
+            if (right < size && less(rows, comparator, heap[child], heap[right])) {
+                child = right;
+            }
+            if (!less(rows, comparator, value, heap[child])) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = value;
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.core.pagination.policy;
+
+import io.github.photowey.infras.api.core.meta.count.CountStrategy;
+
+/**
+ * {@code OffsetRule}
+ * <p>
+ * Applies {@link #action()} to the page requests whose offset exceeds {@link #maxOffset()}.
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public final class OffsetRule {
+
+    private final long maxOffset;
+    private final OffsetAction action;
+    private final CountStrategy countStrategy;
+
+    private OffsetRule(long maxOffset, OffsetAction action, CountStrategy countStrategy) {
+        this.maxOffset = maxOffset;
+        this.action = action;
+        this.countStrategy = countStrategy;
+    }
+
+    // ----------------------------------------------------------------
+
+    public static OffsetRule reject(long maxOffset) {
+        return of(maxOffset, OffsetAction.REJECT, null);
+    }
+
+    public static OffsetRule clamp(long maxOffset) {
+        return of(maxOffset, OffsetAction.CLAMP, null);
+    }
+
+    /**
+     * @param countStrategy the strategy the degraded pages are served with
+     */
+    public static OffsetRule degrade(long maxOffset, CountStrategy countStrategy) {
+        if (null == countStrategy) {
+            throw new IllegalArgumentException("The degraded count strategy must not be null");
+        }
+
+        return of(maxOffset, OffsetAction.DEGRADE, countStrategy);
+    }
+
+    private static OffsetRule of(long maxOffset, OffsetAction action, CountStrategy countStrategy) {
+        if (maxOffset < 0) {
+            throw new IllegalArgumentException("The max offset must not be negative: " + maxOffset);
+        }
+
+        return new OffsetRule(maxOffset, action, countStrategy);
+    }
+
+    // ----------------------------------------------------------------
+
+    public boolean determineIsExceeded(long offset) {
+        return offset > this.maxOffset;
+    }
+
+    public long maxOffset() {
+        return maxOffset;
+    }
+
+    public OffsetAction action() {
+        return action;
+    }
+
+    /**
+     * @return the degraded count strategy, {@code null} unless {@link OffsetAction#DEGRADE}
+     */
+    public CountStrategy countStrategy() {
+        return countStrategy;
+    }
+
+    public String toString() {
+        return "OffsetRule(maxOffset=" + this.maxOffset + ", action=" + this.action + ", countStrategy=" + this.countStrategy + ")";
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.core.pagination.policy;
+
+/**
+ * {@code PaginationPolicies}
+ * <p>
+ * Holds the application-wide {@link PaginationPolicy}, {@link PaginationPolicy#unlimited()} by default;
+ * a pagination can override it with {@code AbstractPagination#policy(PaginationPolicy)}.
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public final class PaginationPolicies {
+
+    private static volatile PaginationPolicy policy = PaginationPolicy.unlimited();
+
+    private PaginationPolicies() {
+        throw new AssertionError("No " + this.getClass().getName() + " instances for you!");
+    }
+
+    // ----------------------------------------------------------------
+
+    public static PaginationPolicy policy() {
+        return policy;
+    }
+
+    public static PaginationPolicy install(PaginationPolicy target) {
+        if (null == target) {
+            throw new IllegalArgumentException("The pagination policy must not be null");
+        }
+
+        policy = target;
+        return target;
+    }
+
+    public static void reset() {
+        policy = PaginationPolicy.unlimited();
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.core.pagination.policy;
+
+import io.github.photowey.infras.api.core.meta.count.CountStrategy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * {@code PaginationPolicy}
+ * <p>
+ * Evaluates the offset of a page request against tiered {@link OffsetRule}s,
+ * e.g. a capped count beyond 10,000 rows, the last allowed page beyond 100,000 and a rejection beyond 1,000,000:
+ * <pre>
+ * PaginationPolicy.builder()
+ *     .degradeAbove(10_000L, CountStrategies.capped(10_000L))
+ *     .clampAbove(100_000L)
+ *     .rejectAbove(1_000_000L)
+ *     .build();
+ * </pre>
+ * The rule with the highest exceeded {@code maxOffset} applies; a clamped page is evaluated again against the lower tiers,
+ * so clamping to an offset still above a degrade tier also degrades the count.
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public final class PaginationPolicy {
+
+    private static final PaginationPolicy UNLIMITED = new PaginationPolicy(Collections.emptyList());
+
+    /**
+     * Ordered by {@code maxOffset}, highest first.
+     */
+    private final List<OffsetRule> rules;
+
+    private PaginationPolicy(List<OffsetRule> rules) {
+        this.rules = rules;
+    }
+
+    // ----------------------------------------------------------------
+
+    public static PaginationPolicy unlimited() {
+        return UNLIMITED;
+    }
+
+    public static PaginationPolicyBuilder builder() {
+        return new PaginationPolicyBuilder();
+    }
+
+    // ----------------------------------------------------------------
+
+    public boolean determineIsUnlimited() {
+        return this.rules.isEmpty();
+    }
+
+    /**
+     * @param pageNo   the page number, at least {@code 1}
+     * @param pageSize the page size, already clamped to {@code THRESHOLD_PAGE_SIZE}
+     * @return the verdict
+     */
+    public PaginationVerdict evaluate(long pageNo, long pageSize) {
+        long offset = determineOffset(pageNo, pageSize);
+        for (OffsetRule rule : this.rules) {
+            if (rule.determineIsExceeded(offset)) {
+                return this.apply(rule, pageNo, pageSize, offset);
+            }
+        }
+
+        return new PaginationVerdict(PaginationDecision.ALLOWED, pageNo, pageNo, pageSize, offset, null, null);
+    }
+
+    public List<OffsetRule> rules() {
+        return rules;
+    }
+
+    // ----------------------------------------------------------------
+
+    private PaginationVerdict apply(OffsetRule rule, long pageNo, long pageSize, long offset) {
+        switch (rule.action()) {
+            case REJECT:
+                return new PaginationVerdict(PaginationDecision.REJECTED, pageNo, pageNo, pageSize, offset, rule, null);
+            case CLAMP:
+                long lastPageNo = pageSize > 0 ? rule.maxOffset() / pageSize + 1 : 1L;
+                // The clamped offset is within this rule and the higher ones, only the lower tiers can apply.
+                PaginationVerdict clamped = this.evaluate(lastPageNo, pageSize);
+                if (clamped.decision().determineIsRejected()) {
+                    return new PaginationVerdict(PaginationDecision.REJECTED, pageNo, pageNo, pageSize, offset, clamped.rule(), null);
+                }
+
+                return new PaginationVerdict(PaginationDecision.CLAMPED, pageNo, clamped.pageNoAsLong(), pageSize, offset, rule,
+                        clamped.countStrategy(null));
+            case DEGRADE:
+                return new PaginationVerdict(PaginationDecision.DEGRADED, pageNo, pageNo, pageSize, offset, rule, rule.countStrategy());
+            default:
+                throw new IllegalStateException("Unsupported offset action: " + rule.action());
+        }
+    }
+
+    /**
+     * Saturates instead of overflowing, so an absurd page number still reads as a deep offset.
+     */
+    private static long determineOffset(long pageNo, long pageSize) {
+        long pages = pageNo - 1;
+        if (pages <= 0 || pageSize <= 0) {
+            return 0L;
+        }
+        if (pages > Long.MAX_VALUE / pageSize) {
+            return Long.MAX_VALUE;
+        }
+
+        return pages * pageSize;
+    }
+
+    public String toString() {
+        return "PaginationPolicy(rules=" + this.rules + ")";
+    }
+
+    // ----------------------------------------------------------------
+
+    public static class PaginationPolicyBuilder {
+
+        private final List<OffsetRule> rules = new ArrayList<>();
+
+        PaginationPolicyBuilder() {
+        }
+
+        public PaginationPolicyBuilder rejectAbove(long maxOffset) {
+            return this.rule(OffsetRule.reject(maxOffset));
+        }
+
+        public PaginationPolicyBuilder clampAbove(long maxOffset) {
+            return this.rule(OffsetRule.clamp(maxOffset));
+        }
+
+        public PaginationPolicyBuilder degradeAbove(long maxOffset, CountStrategy countStrategy) {
+            return this.rule(OffsetRule.degrade(maxOffset, countStrategy));
+        }
+
+        public PaginationPolicyBuilder rule(OffsetRule rule) {
+            if (null == rule) {
+                throw new IllegalArgumentException("The offset rule must not be null");
+            }
+            for (OffsetRule existing : this.rules) {
+                if (existing.maxOffset() == rule.maxOffset()) {
+                    throw new IllegalArgumentException("Duplicate offset rule for max offset: " + rule.maxOffset());
+                }
+            }
+
+            this.rules.add(rule);
+            return this;
+        }
+
+        public PaginationPolicy build() {
+            if (this.rules.isEmpty()) {
+                return UNLIMITED;
+            }
+
+            List<OffsetRule> sorted = new ArrayList<>(this.rules);
+            sorted.sort(Comparator.comparingLong(OffsetRule::maxOffset).reversed());
+
+            return new PaginationPolicy(Collections.unmodifiableList(sorted));
+        }
+
+        public String toString() {
+            return "PaginationPolicy.PaginationPolicyBuilder(rules=" + this.rules + ")";
+        }
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.core.pagination.policy;
+
+/**
+ * {@code PaginationRejectedException}
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public class PaginationRejectedException extends IllegalArgumentException {
+
+    private static final long serialVersionUID = -6262935866421794213L;
+
+    private final PaginationVerdict verdict;
+
+    public PaginationRejectedException(PaginationVerdict verdict) {
+        super("The page request exceeds the max offset: " + verdict);
+        this.verdict = verdict;
+    }
+
+    public PaginationVerdict verdict() {
+        return verdict;
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.core.pagination.policy;
+
+import io.github.photowey.infras.api.core.meta.count.CountStrategy;
+
+/**
+ * {@code PaginationVerdict}
+ * <p>
+ * The outcome of a {@link PaginationPolicy} for one page request.
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public final class PaginationVerdict {
+
+    /**
+     * The {@code additional} key the decision is reported under, when it is not {@link PaginationDecision#ALLOWED}.
+     */
+    public static final String ADDITIONAL_KEY = "pagination";
+
+    private final PaginationDecision decision;
+    private final long requestedPageNo;
+    private final long pageNo;
+    private final long pageSize;
+    private final long offset;
+    private final OffsetRule rule;
+    /**
+     * The degraded count strategy, {@code null} to keep the requested one.
+     */
+    private final CountStrategy countStrategy;
+
+    PaginationVerdict(PaginationDecision decision, long requestedPageNo, long pageNo, long pageSize, long offset, OffsetRule rule,
+                      CountStrategy countStrategy) {
+        this.decision = decision;
+        this.requestedPageNo = requestedPageNo;
+        this.pageNo = pageNo;
+        this.pageSize = pageSize;
+        this.offset = offset;
+        this.rule = rule;
+        this.countStrategy = countStrategy;
+    }
+
+    // ----------------------------------------------------------------
+
+    public PaginationDecision decision() {
+        return decision;
+    }
+
+    public long requestedPageNo() {
+        return requestedPageNo;
+    }
+
+    /**
+     * @return the page number to query
+     * @throws PaginationRejectedException if the request is rejected
+     */
+    public long pageNoAsLong() {
+        this.ensureAllowed();
+        return pageNo;
+    }
+
+    public long pageSize() {
+        return pageSize;
+    }
+
+    /**
+     * @return the offset of the requested page
+     */
+    public long offset() {
+        return offset;
+    }
+
+    /**
+     * @return the applied rule, {@code null} if {@link PaginationDecision#ALLOWED}
+     */
+    public OffsetRule rule() {
+        return rule;
+    }
+
+    /**
+     * @return the degraded count strategy if {@link PaginationDecision#DEGRADED}, or {@link PaginationDecision#CLAMPED}
+     * to a page still above a degrade tier; otherwise {@code requested}
+     */
+    public CountStrategy countStrategy(CountStrategy requested) {
+        return null != this.countStrategy ? this.countStrategy : requested;
+    }
+
+    /**
+     * @throws PaginationRejectedException if the request is rejected
+     */
+    public void ensureAllowed() {
+        if (this.decision.determineIsRejected()) {
+            throw new PaginationRejectedException(this);
+        }
+    }
+
+    public String toString() {
+        return "PaginationVerdict(decision=" + this.decision + ", requestedPageNo=" + this.requestedPageNo + ", pageNo=" + this.pageNo
+                + ", pageSize=" + this.pageSize + ", offset=" + this.offset + ", rule=" + this.rule + ", countStrategy=" + this.countStrategy + ")";
+    }
+}
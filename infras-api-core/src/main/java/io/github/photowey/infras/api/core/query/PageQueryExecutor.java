@@ -0,0 +1,391 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.core.query;
+
+import io.github.photowey.infras.api.common.constant.InfrasConstants;
+import io.github.photowey.infras.api.core.meta.count.CappedCountStrategy;
+import io.github.photowey.infras.api.core.meta.count.CountStrategies;
+import io.github.photowey.infras.api.core.meta.count.CountStrategy;
+import io.github.photowey.infras.api.core.model.page.PageResult;
+import io.github.photowey.infras.api.core.pagination.AbstractPagination;
+import io.github.photowey.infras.api.core.pagination.policy.PaginationRejectedException;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * {@code PageQueryExecutor}
+ * <p>
+ * Runs the count query and the page query of an offset page concurrently,
+ * so a page costs the slower of the two calls instead of their sum.
+ * <p>
+ * When the count completes first and proves that no row can be on the requested page
+ * ({@code offset >= count} under an exact count), the page completes empty at once
+ * without waiting for the page query, which is then cancelled.
+ * <p>
+ * The count follows {@link AbstractPagination#countStrategy(CountStrategy)}: a page degraded by the pagination policy
+ * uses the strategy of its verdict, and a strategy that needs no count skips the count query.
+ * <p>
+ * Cancelling the returned future (as the timeout of {@link #execute} does) cancels both queries
+ * and interrupts the threads still running them. The timeout is a caller-side latency cap only:
+ * a driver that ignores interrupts keeps its statement running, so queries should carry their own statement timeout.
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public final class PageQueryExecutor {
+
+    private static final Method NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR = determineVirtualThreadFactoryMethod();
+
+    private final Executor executor;
+    private final long timeoutNanos;
+
+    private PageQueryExecutor(Executor executor, long timeoutNanos) {
+        this.executor = executor;
+        this.timeoutNanos = timeoutNanos;
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * @param executor the executor running the two queries; prefer a bounded pool sized for the connection pool
+     * @return the page query executor
+     */
+    public static PageQueryExecutor of(Executor executor) {
+        return of(executor, 0L, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @param executor the executor running the two queries
+     * @param timeout  the deadline of {@link #execute}; {@code 0} waits without limit
+     * @param unit     the unit of {@code timeout}
+     * @return the page query executor
+     */
+    public static PageQueryExecutor of(Executor executor, long timeout, TimeUnit unit) {
+        if (null == executor) {
+            throw new IllegalArgumentException("The page query executor must not be null");
+        }
+        if (timeout < 0L) {
+            throw new IllegalArgumentException("Invalid page query timeout: " + timeout);
+        }
+
+        return new PageQueryExecutor(executor, unit.toNanos(timeout));
+    }
+
+    /**
+     * Runs each query on its own virtual thread on Java 21+, or on {@code fallback} on older runtimes.
+     * <p>
+     * All the executors returned share one virtual-thread-per-task executor, created on first use and never shut down.
+     */
+    public static PageQueryExecutor ofVirtualThreads(Executor fallback) {
+        return of(determineIsVirtualThreadsSupported() ? VirtualThreads.EXECUTOR : fallback);
+    }
+
+    // ----------------------------------------------------------------
+
+    public static boolean determineIsVirtualThreadsSupported() {
+        return null != NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR;
+    }
+
+    /**
+     * {@code Executors.newVirtualThreadPerTaskExecutor()}, looked up reflectively to keep the Java 8 baseline.
+     *
+     * @return a new virtual-thread-per-task executor, to be shut down by the caller
+     * @throws UnsupportedOperationException below Java 21
+     */
+    public static ExecutorService newVirtualThreadPerTaskExecutor() {
+        if (!determineIsVirtualThreadsSupported()) {
+            throw new UnsupportedOperationException("Virtual threads require Java 21 or later");
+        }
+
+        try {
+            return (ExecutorService) NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Create the virtual thread executor failed", e);
+        }
+    }
+
+    private static Method determineVirtualThreadFactoryMethod() {
+        try {
+            return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * Blocks until the page is built, at most the configured timeout.
+     *
+     * @throws IllegalStateException on timeout or interrupt; a {@link RuntimeException} thrown by a supplier is rethrown as is
+     */
+    public <T> PageResult<T> execute(AbstractPagination pagination, Supplier<Long> count, Supplier<List<T>> page) {
+        return this.execute(pagination, CountStrategies.exact(), count, page);
+    }
+
+    /**
+     * Like {@link #execute(AbstractPagination, Supplier, Supplier)}, under the given count strategy.
+     *
+     * @see #submit(AbstractPagination, CountStrategy, Supplier, Supplier)
+     */
+    public <T> PageResult<T> execute(AbstractPagination pagination, CountStrategy strategy, Supplier<Long> count, Supplier<List<T>> page) {
+        CompletableFuture<PageResult<T>> future = this.submit(pagination, strategy, count, page);
+        try {
+            return this.timeoutNanos > 0L ? future.get(this.timeoutNanos, TimeUnit.NANOSECONDS) : future.get();
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new IllegalStateException("The page query timed out after " + TimeUnit.NANOSECONDS.toMillis(this.timeoutNanos) + "ms", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new IllegalStateException("The page query was interrupted", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+
+            throw new IllegalStateException("The page query failed", cause);
+        }
+    }
+
+    /**
+     * Starts both queries and returns at once.
+     * The future fails as soon as either query fails; cancelling it cancels and interrupts both queries.
+     *
+     * @throws PaginationRejectedException if the pagination policy rejects the page, before any query starts
+     */
+    public <T> CompletableFuture<PageResult<T>> submit(AbstractPagination pagination, Supplier<Long> count, Supplier<List<T>> page) {
+        return this.submit(pagination, CountStrategies.exact(), count, page);
+    }
+
+    /**
+     * Starts both queries under {@code pagination.countStrategy(strategy)} and returns at once.
+     * {@code page} must fetch {@link CountStrategy#determineFetchSize(long)} rows of that strategy,
+     * and {@code count} is not called if the strategy needs no count.
+     * <p>
+     * If the executor rejects the page query, the count query already started is cancelled and the rejection is rethrown.
+     *
+     * @throws PaginationRejectedException if the pagination policy rejects the page, before any query starts
+     */
+    public <T> CompletableFuture<PageResult<T>> submit(AbstractPagination pagination, CountStrategy strategy, Supplier<Long> count, Supplier<List<T>> page) {
+        pagination.ensureAllowed();
+        pagination.recordRequest();
+        CountStrategy effective = pagination.countStrategy(strategy);
+        if (!effective.determineIsCountRequired()) {
+            return this.submitWithoutCount(pagination, effective, page);
+        }
+
+        long offset = pagination.offsetAsLong();
+
+        CompletableFuture<Long> countFuture = this.supplyAsync(count);
+        CompletableFuture<List<T>> pageFuture;
+        try {
+            pageFuture = this.supplyAsync(page);
+        } catch (RuntimeException e) {
+            countFuture.cancel(true);
+            throw e;
+        }
+
+        CompletableFuture<PageResult<T>> result = new CompletableFuture<>();
+        result.whenComplete((value, e) -> {
+            if (result.isCancelled()) {
+                countFuture.cancel(true);
+                pageFuture.cancel(true);
+            }
+        });
+
+        pageFuture.whenComplete((rows, e) -> {
+            if (null != e && !(unwrap(e) instanceof CancellationException)) {
+                result.completeExceptionally(unwrap(e));
+                countFuture.cancel(true);
+            }
+        });
+
+        countFuture.whenComplete((total, e) -> {
+            if (null != e) {
+                result.completeExceptionally(unwrap(e));
+                pageFuture.cancel(true);
+                return;
+            }
+
+            long known = null != total ? total : InfrasConstants.Pagination.EMPTY;
+            if (determineIsExhausted(effective, known, offset)) {
+                pageFuture.cancel(true);
+                result.complete(PageResult.staticOf(InfrasConstants.Collection.emptyList(), known, pagination, effective));
+                return;
+            }
+
+            pageFuture.whenComplete((rows, pe) -> {
+                if (null == pe) {
+                    result.complete(PageResult.staticOf(nonNull(rows), known, pagination, effective));
+                }
+            });
+        });
+
+        return result;
+    }
+
+    private <T> CompletableFuture<PageResult<T>> submitWithoutCount(AbstractPagination pagination, CountStrategy strategy, Supplier<List<T>> page) {
+        CompletableFuture<List<T>> pageFuture = this.supplyAsync(page);
+        CompletableFuture<PageResult<T>> result = new CompletableFuture<>();
+        result.whenComplete((value, e) -> {
+            if (result.isCancelled()) {
+                pageFuture.cancel(true);
+            }
+        });
+
+        pageFuture.whenComplete((rows, e) -> {
+            if (null != e) {
+                result.completeExceptionally(unwrap(e));
+                return;
+            }
+
+            result.complete(PageResult.staticOf(nonNull(rows), null, pagination, strategy));
+        });
+
+        return result;
+    }
+
+    /**
+     * An exact count proves the page empty; so does a capped one within its cap. An estimate proves nothing.
+     */
+    private static boolean determineIsExhausted(CountStrategy strategy, long count, long offset) {
+        if (offset < count) {
+            return false;
+        }
+
+        switch (strategy.mode()) {
+            case EXACT:
+                return true;
+            case CAPPED:
+                return strategy instanceof CappedCountStrategy && count <= ((CappedCountStrategy) strategy).cap();
+            default:
+                return false;
+        }
+    }
+
+    private static <T> List<T> nonNull(List<T> rows) {
+        return null != rows ? rows : InfrasConstants.Collection.emptyList();
+    }
+
+    /**
+     * Like {@link CompletableFuture#supplyAsync(Supplier, Executor)}, but cancelling the future interrupts the running supplier.
+     */
+    private <V> CompletableFuture<V> supplyAsync(Supplier<V> supplier) {
+        CompletableFuture<V> future = new CompletableFuture<>();
+        InterruptibleQuery<V> query = new InterruptibleQuery<>(future, supplier);
+        future.whenComplete((value, e) -> {
+            if (future.isCancelled()) {
+                query.interrupt();
+            }
+        });
+        this.executor.execute(query);
+
+        return future;
+    }
+
+    private static Throwable unwrap(Throwable e) {
+        return e instanceof CompletionException && null != e.getCause() ? e.getCause() : e;
+    }
+
+    // ----------------------------------------------------------------
+
+    public Executor executor() {
+        return this.executor;
+    }
+
+    public long timeoutNanos() {
+        return this.timeoutNanos;
+    }
+
+    public String toString() {
+        return "PageQueryExecutor(executor=" + this.executor + ", timeoutNanos=" + this.timeoutNanos + ")";
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * Holds the shared executor of {@link #ofVirtualThreads}; loaded only on runtimes with virtual threads.
+     */
+    private static final class VirtualThreads {
+
+        private static final ExecutorService EXECUTOR = newVirtualThreadPerTaskExecutor();
+    }
+
+    /**
+     * Runs a query for a future and interrupts it on cancellation.
+     * The interrupt is delivered and cleared under the same lock, so it never leaks into the next task of a pooled thread.
+     */
+    private static final class InterruptibleQuery<V> implements Runnable {
+
+        private final CompletableFuture<V> future;
+        private final Supplier<V> supplier;
+
+        private Thread runner;
+        private boolean interrupted;
+
+        private InterruptibleQuery(CompletableFuture<V> future, Supplier<V> supplier) {
+            this.future = future;
+            this.supplier = supplier;
+        }
+
+        @Override
+        public void run() {
+            synchronized (this) {
+                if (this.future.isDone()) {
+                    return;
+                }
+                this.runner = Thread.currentThread();
+            }
+
+            try {
+                this.future.complete(this.supplier.get());
+            } catch (Throwable e) {
+                this.future.completeExceptionally(e);
+            } finally {
+                synchronized (this) {
+                    this.runner = null;
+                    if (this.interrupted) {
+                        Thread.interrupted();
+                    }
+                }
+            }
+        }
+
+        private synchronized void interrupt() {
+            if (null != this.runner) {
+                this.interrupted = true;
+                this.runner.interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,372 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.core.reactive;
+
+import io.github.photowey.infras.api.common.constant.InfrasConstants;
+import io.github.photowey.infras.api.core.meta.Meta;
+import io.github.photowey.infras.api.core.metrics.PaginationMetrics;
+import io.github.photowey.infras.api.core.model.page.PageResult;
+import io.github.photowey.infras.api.core.model.page.struct.ListStruct;
+import io.github.photowey.infras.api.core.model.page.struct.StreamingListStruct;
+import io.github.photowey.infras.api.core.pagination.iterator.PageIterator;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@code PagePublisher}
+ * <p>
+ * A Reactive Streams {@link Publisher} of one page (or of every page of a {@link PageIterator}):
+ * it emits the {@link Meta} first and then the items, one per requested element,
+ * so the subscriber pulls the items with backpressure instead of receiving a whole {@link ListStruct}.
+ * <p>
+ * On Java 9+ it converts to a {@code java.util.concurrent.Flow.Publisher}
+ * with {@code org.reactivestreams.FlowAdapters#toFlowPublisher}.
+ * <p>
+ * The source is one-shot, so the publisher accepts a single subscriber. Items are pulled from the source
+ * on the thread that calls {@link Subscription#request(long)}, unless an {@link #executor(Executor)} is given;
+ * use one when pulling may block, e.g. a {@link PageIterator} fetching the next page on an event loop.
+ * Cancelling (or completing) closes the source.
+ * <p>
+ * An in-memory page completes as soon as its last item is delivered; any other source completes
+ * once the subscriber requests past its last item, since checking for the end may block.
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public final class PagePublisher<T> implements Publisher<PageSignal<T>> {
+
+    private final Meta meta;
+    private final Map<String, Object> additional;
+    private final Iterator<? extends T> source;
+    private final AutoCloseable closeable;
+    private final boolean materialized;
+
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+
+    private Executor executor;
+
+    private PagePublisher(Meta meta, Map<String, Object> additional, Iterator<? extends T> source, AutoCloseable closeable, boolean materialized) {
+        this.meta = meta;
+        this.additional = additional;
+        this.source = source;
+        this.closeable = closeable;
+        this.materialized = materialized;
+    }
+
+    // ----------------------------------------------------------------
+
+    public static <T> PagePublisher<T> of(PageResult<T> page) {
+        return of(page.getData());
+    }
+
+    /**
+     * A {@link StreamingListStruct} is pulled lazily and closed once the publisher terminates.
+     */
+    public static <T> PagePublisher<T> of(ListStruct<T> struct) {
+        if (null == struct) {
+            throw new IllegalArgumentException("The page list struct must not be null");
+        }
+
+        Map<String, Object> additional = struct.additionalView();
+        if (struct instanceof StreamingListStruct) {
+            StreamingListStruct<T> streaming = (StreamingListStruct<T>) struct;
+            return new PagePublisher<>(struct.toMeta(), additional, streaming.iterator(), streaming, streaming.determineIsMaterialized());
+        }
+
+        List<T> list = struct.getList();
+        Iterator<T> items = null != list ? list.iterator() : Collections.emptyIterator();
+
+        return new PagePublisher<>(struct.toMeta(), additional, items, null, true);
+    }
+
+    public static <T> PagePublisher<T> of(Meta meta, Iterator<? extends T> items) {
+        return of(meta, InfrasConstants.Collection.unmodifiableEmptyMap(), items);
+    }
+
+    public static <T> PagePublisher<T> of(Meta meta, Map<String, Object> additional, Iterator<? extends T> items) {
+        if (null == meta) {
+            throw new IllegalArgumentException("The page meta must not be null");
+        }
+        if (null == items) {
+            throw new IllegalArgumentException("The page items must not be null");
+        }
+
+        return new PagePublisher<>(meta, additional, items, null, false);
+    }
+
+    /**
+     * Emits the rows of every page of the iterator after the given meta, e.g. the meta of the whole export.
+     */
+    public static <T> PagePublisher<T> of(Meta meta, PageIterator<T> pages) {
+        if (null == meta) {
+            throw new IllegalArgumentException("The page meta must not be null");
+        }
+        if (null == pages) {
+            throw new IllegalArgumentException("The page iterator must not be null");
+        }
+
+        return new PagePublisher<>(meta, InfrasConstants.Collection.unmodifiableEmptyMap(), pages.items(), pages, false);
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * Pulls the items on the executor instead of the requesting thread.
+     */
+    public PagePublisher<T> executor(Executor executor) {
+        this.executor = executor;
+        return this;
+    }
+
+    public Executor executor() {
+        return executor;
+    }
+
+    public Meta meta() {
+        return meta;
+    }
+
+    // ----------------------------------------------------------------
+
+    @Override
+    public void subscribe(Subscriber<? super PageSignal<T>> subscriber) {
+        if (null == subscriber) {
+            throw new NullPointerException("The subscriber must not be null");
+        }
+        if (!this.subscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(CancelledSubscription.INSTANCE);
+            subscriber.onError(new IllegalStateException("The page publisher only supports a single subscriber"));
+            return;
+        }
+
+        PageSubscription subscription = new PageSubscription(subscriber);
+        subscriber.onSubscribe(subscription);
+    }
+
+    public String toString() {
+        return "PagePublisher(meta=" + this.meta + ", executor=" + this.executor + ", subscribed=" + this.subscribed.get() + ")";
+    }
+
+    // ----------------------------------------------------------------
+
+    private final class PageSubscription implements Subscription, Runnable {
+
+        private final Subscriber<? super PageSignal<T>> subscriber;
+
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+
+        private volatile boolean cancelled;
+        private volatile Throwable failure;
+
+        private boolean metaEmitted;
+        private long emitted;
+
+        private PageSubscription(Subscriber<? super PageSignal<T>> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0L) {
+                // Signalled by the drain loop, so it never overlaps an onNext in flight (rule 1.3).
+                if (null == this.failure) {
+                    this.failure = new IllegalArgumentException("Rule 3.9: the requested elements must be positive, but was: " + n);
+                }
+            } else {
+                long current;
+                do {
+                    current = this.requested.get();
+                    if (Long.MAX_VALUE == current) {
+                        break;
+                    }
+                } while (!this.requested.compareAndSet(current, current + n < 0L ? Long.MAX_VALUE : current + n));
+            }
+
+            if (0 == this.wip.getAndIncrement()) {
+                this.schedule();
+            }
+        }
+
+        @Override
+        public void cancel() {
+            if (!this.cancelled) {
+                this.cancelled = true;
+                if (0 == this.wip.getAndIncrement()) {
+                    this.release();
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            this.drain();
+        }
+
+        private void schedule() {
+            Executor target = PagePublisher.this.executor;
+            if (null == target) {
+                this.drain();
+                return;
+            }
+
+            try {
+                target.execute(this);
+            } catch (RejectedExecutionException e) {
+                this.cancelled = true;
+                this.release();
+                this.subscriber.onError(new IllegalStateException("The page publisher was rejected by the executor", e));
+            }
+        }
+
+        private void drain() {
+            int missed = 1;
+            for (; ; ) {
+                if (this.determineIsTerminated()) {
+                    return;
+                }
+
+                long demand = this.requested.get();
+                long delivered = 0L;
+                while (delivered != demand) {
+                    if (this.determineIsTerminated()) {
+                        return;
+                    }
+                    if (!this.metaEmitted) {
+                        this.metaEmitted = true;
+                        this.subscriber.onNext(PageSignal.meta(PagePublisher.this.meta, PagePublisher.this.additional));
+                        delivered++;
+                        continue;
+                    }
+
+                    T item;
+                    try {
+                        if (!PagePublisher.this.source.hasNext()) {
+                            this.complete();
+                            return;
+                        }
+                        item = PagePublisher.this.source.next();
+                    } catch (Throwable e) {
+                        this.cancelled = true;
+                        this.release();
+                        this.subscriber.onError(e);
+                        return;
+                    }
+
+                    this.subscriber.onNext(PageSignal.item(item));
+                    this.emitted++;
+                    delivered++;
+                }
+
+                if (PagePublisher.this.materialized && this.metaEmitted && null == this.failure && !this.cancelled
+                        && this.determineIsExhausted()) {
+                    return;
+                }
+                if (0L != delivered && Long.MAX_VALUE != demand) {
+                    this.requested.addAndGet(-delivered);
+                }
+
+                missed = this.wip.addAndGet(-missed);
+                if (0 == missed) {
+                    return;
+                }
+            }
+        }
+
+        private boolean determineIsTerminated() {
+            Throwable error = this.failure;
+            if (null != error) {
+                this.cancelled = true;
+                this.release();
+                this.subscriber.onError(error);
+                return true;
+            }
+            if (this.cancelled) {
+                this.release();
+                return true;
+            }
+
+            return false;
+        }
+
+        /**
+         * Completes without waiting for further demand once an in-memory source has no more items;
+         * only called for materialized sources, whose {@code hasNext()} never blocks.
+         */
+        private boolean determineIsExhausted() {
+            boolean exhausted;
+            try {
+                exhausted = !PagePublisher.this.source.hasNext();
+            } catch (Throwable e) {
+                this.cancelled = true;
+                this.release();
+                this.subscriber.onError(e);
+                return true;
+            }
+            if (exhausted) {
+                this.complete();
+            }
+
+            return exhausted;
+        }
+
+        private void complete() {
+            this.cancelled = true;
+            this.release();
+            if (!PagePublisher.this.materialized) {
+                PaginationMetrics.recorder().recordListSize(this.emitted);
+            }
+            this.subscriber.onComplete();
+        }
+
+        private void release() {
+            AutoCloseable target = PagePublisher.this.closeable;
+            if (null == target) {
+                return;
+            }
+            try {
+                target.close();
+            } catch (Exception ignored) {
+                // Closing is best effort once the subscriber is gone.
+            }
+        }
+    }
+
+    private enum CancelledSubscription implements Subscription {
+
+        INSTANCE;
+
+        @Override
+        public void request(long n) {
+        }
+
+        @Override
+        public void cancel() {
+        }
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.core.reactive;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import io.github.photowey.infras.api.common.constant.InfrasConstants;
+import io.github.photowey.infras.api.core.jackson.PageSignalSerializer;
+import io.github.photowey.infras.api.core.meta.Meta;
+
+import java.util.Map;
+
+/**
+ * {@code PageSignal}
+ * <p>
+ * An element of a {@link PagePublisher}: the leading {@link Meta} (with the {@code additional} of the page)
+ * or one item. As JSON, {@code {"meta":{...},"additional":{...}}} or {@code {"item":...}}.
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+@JsonSerialize(using = PageSignalSerializer.class)
+public final class PageSignal<T> {
+
+    private final Meta meta;
+    private final Map<String, Object> additional;
+    private final T item;
+
+    private PageSignal(Meta meta, Map<String, Object> additional, T item) {
+        this.meta = meta;
+        this.additional = additional;
+        this.item = item;
+    }
+
+    // ----------------------------------------------------------------
+
+    public static <T> PageSignal<T> meta(Meta meta) {
+        return meta(meta, InfrasConstants.Collection.unmodifiableEmptyMap());
+    }
+
+    public static <T> PageSignal<T> meta(Meta meta, Map<String, Object> additional) {
+        if (null == meta) {
+            throw new IllegalArgumentException("The page signal meta must not be null");
+        }
+
+        return new PageSignal<>(meta, additional, null);
+    }
+
+    public static <T> PageSignal<T> item(T item) {
+        return new PageSignal<>(null, null, item);
+    }
+
+    // ----------------------------------------------------------------
+
+    public boolean determineIsMeta() {
+        return null != this.meta;
+    }
+
+    public Meta meta() {
+        return meta;
+    }
+
+    public Map<String, Object> additional() {
+        return additional;
+    }
+
+    public T item() {
+        return item;
+    }
+
+    public String toString() {
+        return this.determineIsMeta()
+                ? "PageSignal(meta=" + this.meta + ", additional=" + this.additional + ")"
+                : "PageSignal(item=" + this.item + ")";
+    }
+}
@@ -0,0 +1,280 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.core.shard;
+
+import io.github.photowey.infras.api.common.constant.InfrasConstants;
+import io.github.photowey.infras.api.core.meta.Meta;
+import io.github.photowey.infras.api.core.meta.count.CountMode;
+import io.github.photowey.infras.api.core.model.page.PageResult;
+import io.github.photowey.infras.api.core.model.page.struct.ListStruct;
+import io.github.photowey.infras.api.core.model.page.struct.StreamingListStruct;
+import io.github.photowey.infras.api.core.pagination.AbstractPagination;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * {@code ShardPageMerger}
+ * <p>
+ * Scatter-gather paging over sharded tables: fetch {@link #window(long, long)} from every shard,
+ * each sorted by the same comparator, then {@link #merge(List, Comparator, long, long)} the shard pages
+ * into the exact global page with a heap-based k-way merge, instead of sorting every fetched row.
+ * <pre>
+ * ShardWindow window = ShardPageMerger.window(pagination);
+ * List&lt;PageResult&lt;Order&gt;&gt; shards = ...; // ORDER BY created_at, id LIMIT window.limit() on each shard
+ * PageResult&lt;Order&gt; page = ShardPageMerger.merge(shards, ORDER, window);
+ * </pre>
+ * The merge costs {@code O((offset + pageSize) * log(shards))} and stops as soon as the page is full,
+ * so the remaining rows of a {@link StreamingListStruct} shard are never pulled.
+ * Rows comparing equal keep the shard order.
+ * <p>
+ * The global count is only as good as the weakest shard count: any {@link CountMode#ESTIMATED} or
+ * {@link CountMode#CAPPED} shard makes the merged count so, and a {@link CountMode#NONE} shard
+ * (or one without a count) leaves only the rows seen so far, as a {@link CountMode#NONE} page.
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public final class ShardPageMerger {
+
+    private ShardPageMerger() {
+        throw new AssertionError("No " + this.getClass().getName() + " instances for you!");
+    }
+
+    // ----------------------------------------------------------------
+
+    public static ShardWindow window(AbstractPagination pagination) {
+        return window(pagination.pageNoAsLong(), pagination.pageSizeAsLong());
+    }
+
+    /**
+     * @param pageNo   the page number of the global page, starting at {@code 1}
+     * @param pageSize the page size of the global page
+     * @return the per-shard fetch window
+     */
+    public static ShardWindow window(long pageNo, long pageSize) {
+        if (pageNo < 1L) {
+            throw new IllegalArgumentException("Invalid shard page no: " + pageNo);
+        }
+        if (pageSize < 1L) {
+            throw new IllegalArgumentException("Invalid shard page size: " + pageSize);
+        }
+
+        long offset = multiplySaturated(pageNo - 1L, pageSize);
+        long limit = offset > Long.MAX_VALUE - pageSize ? Long.MAX_VALUE : offset + pageSize;
+
+        return new ShardWindow(pageNo, pageSize, offset, limit);
+    }
+
+    // ----------------------------------------------------------------
+
+    public static <T> PageResult<T> merge(List<PageResult<T>> shards, Comparator<? super T> comparator, ShardWindow window) {
+        return merge(shards, comparator, window.pageNo(), window.pageSize());
+    }
+
+    /**
+     * @param shards     the shard pages, each holding (at least) its first {@link ShardWindow#limit()} rows in merge order
+     * @param comparator the merge order, the same as the {@code ORDER BY} of every shard query
+     * @param pageNo     the page number of the global page
+     * @param pageSize   the page size of the global page
+     * @param <T>        the item type
+     * @return the global page; its count is the sum of the shard counts, under the weakest shard {@link CountMode}
+     * @throws IllegalArgumentException if a shard page carries no data, e.g. a failed shard
+     */
+    public static <T> PageResult<T> merge(List<PageResult<T>> shards, Comparator<? super T> comparator, long pageNo, long pageSize) {
+        ShardWindow window = window(pageNo, pageSize);
+        if (null == comparator) {
+            throw new IllegalArgumentException("The shard merge comparator must not be null");
+        }
+
+        long count = InfrasConstants.Pagination.EMPTY;
+        CountMode weakest = CountMode.EXACT;
+        boolean capped = false;
+        boolean shardHasNext = false;
+        List<ListStruct<T>> structs = new ArrayList<>(shards.size());
+        for (int i = 0; i < shards.size(); i++) {
+            PageResult<T> shard = shards.get(i);
+            ListStruct<T> struct = null != shard ? shard.getData() : null;
+            if (null == struct) {
+                throw new IllegalArgumentException("The shard page carries no data, shard: " + i);
+            }
+
+            structs.add(struct);
+            Long shardCount = struct.count();
+            CountMode mode = null != shardCount ? struct.countMode() : CountMode.NONE;
+            weakest = weaker(weakest, null != mode ? mode : CountMode.EXACT);
+            capped |= Boolean.TRUE.equals(struct.countCapped());
+            shardHasNext |= Boolean.TRUE.equals(struct.hasNext());
+            count += null != shardCount ? shardCount : InfrasConstants.Pagination.EMPTY;
+        }
+
+        MergedItems<T> merged;
+        try {
+            merged = mergeItems(structs, comparator, window);
+        } finally {
+            for (ListStruct<T> struct : structs) {
+                if (struct instanceof StreamingListStruct) {
+                    ((StreamingListStruct<T>) struct).close();
+                }
+            }
+        }
+
+        return PageResult.staticOf(merged.items, populateMeta(count, weakest, capped, shardHasNext || merged.remaining, window, merged.items.size()));
+    }
+
+    // ----------------------------------------------------------------
+
+    private static Meta populateMeta(long count, CountMode mode, boolean capped, boolean hasNext, ShardWindow window, int fetched) {
+        switch (mode) {
+            case EXACT:
+                return Meta.populateMeta(count, window.pageNo(), window.pageSize());
+            case NONE:
+                // Only the rows up to this page are known, like NoneCountStrategy.
+                long known = 0 == fetched ? InfrasConstants.Pagination.EMPTY : window.offset() + fetched;
+                return Meta.builder()
+                        .pageNo(window.pageNo())
+                        .pageSize(window.pageSize())
+                        .count(known)
+                        .pages(Meta.determinePages(known, window.pageSize(), mode, hasNext))
+                        .countMode(mode)
+                        .hasNext(hasNext)
+                        .build();
+            default:
+                long pages = Meta.determinePages(count, window.pageSize());
+                return Meta.builder()
+                        .pageNo(window.pageNo())
+                        .pageSize(window.pageSize())
+                        .count(count)
+                        .pages(pages)
+                        .countMode(mode)
+                        .countCapped(capped ? Boolean.TRUE : null)
+                        .hasNext(hasNext || window.pageNo() < pages)
+                        .build();
+        }
+    }
+
+    /**
+     * Weaker to stronger: {@code NONE}, {@code ESTIMATED}, {@code CAPPED}, {@code EXACT}.
+     */
+    private static CountMode weaker(CountMode left, CountMode right) {
+        return strength(left) <= strength(right) ? left : right;
+    }
+
+    private static int strength(CountMode mode) {
+        switch (mode) {
+            case NONE:
+                return 0;
+            case ESTIMATED:
+                return 1;
+            case CAPPED:
+                return 2;
+            default:
+                return 3;
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    private static <T> MergedItems<T> mergeItems(List<ListStruct<T>> structs, Comparator<? super T> comparator, ShardWindow window) {
+        PriorityQueue<ShardCursor<T>> heap = new PriorityQueue<>(Math.max(1, structs.size()), (left, right) -> {
+            int order = comparator.compare(left.head, right.head);
+            return 0 != order ? order : Integer.compare(left.shard, right.shard);
+        });
+
+        for (int i = 0; i < structs.size(); i++) {
+            Iterator<T> rows = iterator(structs.get(i));
+            if (rows.hasNext()) {
+                heap.add(new ShardCursor<>(i, rows));
+            }
+        }
+
+        long skip = window.offset();
+        int capacity = (int) Math.min(window.pageSize(), Integer.MAX_VALUE - 8);
+        List<T> items = new ArrayList<>(Math.min(capacity, 1024));
+        while (items.size() < capacity && !heap.isEmpty()) {
+            ShardCursor<T> cursor = heap.poll();
+            if (skip > 0L) {
+                skip--;
+            } else {
+                items.add(cursor.head);
+            }
+            if (cursor.advance()) {
+                heap.add(cursor);
+            }
+        }
+
+        return new MergedItems<>(items, !heap.isEmpty());
+    }
+
+    private static <T> Iterator<T> iterator(ListStruct<T> struct) {
+        if (struct instanceof StreamingListStruct) {
+            return ((StreamingListStruct<T>) struct).iterator();
+        }
+
+        List<T> list = struct.getList();
+        return null != list ? list.iterator() : Collections.emptyIterator();
+    }
+
+    private static long multiplySaturated(long left, long right) {
+        return left > Long.MAX_VALUE / right ? Long.MAX_VALUE : left * right;
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * The rows of the global page, and whether the shard windows hold rows past it.
+     */
+    private static final class MergedItems<T> {
+
+        private final List<T> items;
+        private final boolean remaining;
+
+        MergedItems(List<T> items, boolean remaining) {
+            this.items = items;
+            this.remaining = remaining;
+        }
+    }
+
+    /**
+     * The current head row of one shard.
+     */
+    private static final class ShardCursor<T> {
+
+        private final int shard;
+        private final Iterator<T> rows;
+        private T head;
+
+        ShardCursor(int shard, Iterator<T> rows) {
+            this.shard = shard;
+            this.rows = rows;
+            this.head = rows.next();
+        }
+
+        boolean advance() {
+            if (!this.rows.hasNext()) {
+                return false;
+            }
+
+            this.head = this.rows.next();
+            return true;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.core.shard;
+
+/**
+ * {@code ShardWindow}
+ * <p>
+ * The rows every shard must return for an exact global page: the first {@code limit} rows in the merge order.
+ * Any of the {@code offset + pageSize} globally first rows may come from a single shard,
+ * so no shard can skip rows on its own.
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public final class ShardWindow {
+
+    private final long pageNo;
+    private final long pageSize;
+    private final long offset;
+    private final long limit;
+
+    ShardWindow(long pageNo, long pageSize, long offset, long limit) {
+        this.pageNo = pageNo;
+        this.pageSize = pageSize;
+        this.offset = offset;
+        this.limit = limit;
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * @return the page number of the global page
+     */
+    public long pageNo() {
+        return pageNo;
+    }
+
+    /**
+     * @return the page size of the global page
+     */
+    public long pageSize() {
+        return pageSize;
+    }
+
+    /**
+     * @return the global offset, the merged rows to skip
+     */
+    public long offset() {
+        return offset;
+    }
+
+    /**
+     * @return the rows to fetch from every shard, from shard offset {@code 0}
+     */
+    public long limit() {
+        return limit;
+    }
+
+    public String toString() {
+        return "ShardWindow(pageNo=" + this.pageNo + ", pageSize=" + this.pageSize + ", offset=" + this.offset + ", limit=" + this.limit + ")";
+    }
+}
@@ -0,0 +1,238 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.core.transform;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * {@code ParallelTransformer}
+ * <p>
+ * Maps the items of a page element by element on a supplied {@link ExecutorService},
+ * with at most {@code parallelism} items in flight, keeping the source order.
+ * <p>
+ * The whole page fails together: the first failure (or the timeout) stops the remaining items,
+ * interrupts the running ones ({@code cancel(true)}) and is rethrown to the caller right away,
+ * without waiting for the interrupted items to end; a partial page is never returned.
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public final class ParallelTransformer {
+
+    private final ExecutorService executor;
+    private final int parallelism;
+    private final long timeoutNanos;
+
+    private ParallelTransformer(ExecutorService executor, int parallelism, long timeoutNanos) {
+        this.executor = executor;
+        this.parallelism = parallelism;
+        this.timeoutNanos = timeoutNanos;
+    }
+
+    // ----------------------------------------------------------------
+
+    public static ParallelTransformer of(ExecutorService executor, int parallelism) {
+        return builder().executor(executor).parallelism(parallelism).build();
+    }
+
+    public static ParallelTransformer of(ExecutorService executor, int parallelism, long timeout, TimeUnit unit) {
+        return builder().executor(executor).parallelism(parallelism).timeout(timeout, unit).build();
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * @param source the items
+     * @param mapper the per-item transform
+     * @param <D>    the source item type
+     * @param <T>    the target item type
+     * @return the transformed items, in source order
+     * @throws IllegalStateException if the page timed out, the caller was interrupted
+     *                               or the executor rejected the work;
+     *                               a {@link RuntimeException} or {@link Error} thrown by {@code mapper}
+     *                               is rethrown as is
+     */
+    @SuppressWarnings("unchecked")
+    public <D, T> List<T> transform(List<D> source, Function<? super D, ? extends T> mapper) {
+        int size = source.size();
+        if (0 == size) {
+            return new ArrayList<>(0);
+        }
+
+        Object[] results = new Object[size];
+        AtomicInteger next = new AtomicInteger();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        int workers = Math.min(this.parallelism, size);
+        AtomicInteger running = new AtomicInteger(workers);
+        // Released when the last worker ends or on the first failure, whichever comes first.
+        CountDownLatch done = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>(workers);
+        try {
+            for (int i = 0; i < workers; i++) {
+                futures.add(this.executor.submit(() -> {
+                    try {
+                        int index;
+                        while (null == failure.get() && (index = next.getAndIncrement()) < size) {
+                            results[index] = mapper.apply(source.get(index));
+                        }
+                    } catch (Throwable e) {
+                        failure.compareAndSet(null, e);
+                        done.countDown();
+                    } finally {
+                        if (0 == running.decrementAndGet()) {
+                            done.countDown();
+                        }
+                    }
+                }));
+            }
+        } catch (RejectedExecutionException e) {
+            this.abort(failure, e, futures);
+            throw new IllegalStateException("The parallel transform was rejected by the executor", e);
+        }
+
+        this.await(done, failure, futures);
+
+        Throwable cause = failure.get();
+        if (null != cause) {
+            this.abort(failure, cause, futures);
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+
+            throw new IllegalStateException("The parallel transform failed", cause);
+        }
+
+        return new ArrayList<>((List<T>) Arrays.asList(results));
+    }
+
+    private void await(CountDownLatch done, AtomicReference<Throwable> failure, List<Future<?>> futures) {
+        try {
+            if (this.timeoutNanos > 0L) {
+                if (!done.await(this.timeoutNanos, TimeUnit.NANOSECONDS)) {
+                    IllegalStateException timeout = new IllegalStateException(
+                            "The parallel transform timed out after " + TimeUnit.NANOSECONDS.toMillis(this.timeoutNanos) + "ms");
+                    this.abort(failure, timeout, futures);
+                    throw timeout;
+                }
+            } else {
+                done.await();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            this.abort(failure, e, futures);
+            throw new IllegalStateException("The parallel transform was interrupted", e);
+        }
+    }
+
+    private void abort(AtomicReference<Throwable> failure, Throwable cause, List<Future<?>> futures) {
+        failure.compareAndSet(null, cause);
+        for (Future<?> future : futures) {
+            future.cancel(true);
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    public ExecutorService executor() {
+        return this.executor;
+    }
+
+    public int parallelism() {
+        return this.parallelism;
+    }
+
+    public long timeoutNanos() {
+        return this.timeoutNanos;
+    }
+
+    public String toString() {
+        return "ParallelTransformer(executor=" + this.executor + ", parallelism=" + this.parallelism + ", timeoutNanos=" + this.timeoutNanos + ")";
+    }
+
+    // ----------------------------------------------------------------
+
+    public static ParallelTransformerBuilder builder() {
+        return new ParallelTransformerBuilder();
+    }
+
+    // ----------------------------------------------------------------
+
+    public static class ParallelTransformerBuilder {
+
+        private ExecutorService executor;
+        private int parallelism = Runtime.getRuntime().availableProcessors();
+        private long timeoutNanos;
+
+        ParallelTransformerBuilder() {
+        }
+
+        /**
+         * A bounded pool (or a {@code ForkJoinPool}) dedicated to the transform;
+         * avoid the common pool for blocking per-item work.
+         */
+        public ParallelTransformerBuilder executor(ExecutorService executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        public ParallelTransformerBuilder parallelism(int parallelism) {
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * The deadline of the whole page; {@code 0} waits without limit.
+         */
+        public ParallelTransformerBuilder timeout(long timeout, TimeUnit unit) {
+            this.timeoutNanos = unit.toNanos(timeout);
+            return this;
+        }
+
+        public ParallelTransformer build() {
+            if (null == this.executor) {
+                throw new IllegalArgumentException("The parallel transform executor must not be null");
+            }
+            if (this.parallelism < 1) {
+                throw new IllegalArgumentException("Invalid parallel transform parallelism: " + this.parallelism);
+            }
+            if (this.timeoutNanos < 0L) {
+                throw new IllegalArgumentException("Invalid parallel transform timeout: " + this.timeoutNanos + "ns");
+            }
+
+            return new ParallelTransformer(this.executor, this.parallelism, this.timeoutNanos);
+        }
+
+        public String toString() {
+            return "ParallelTransformer.ParallelTransformerBuilder(executor=" + this.executor + ", parallelism=" + this.parallelism
+                    + ", timeoutNanos=" + this.timeoutNanos + ")";
+        }
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.core.cache;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@code ExpiringLruCacheTest}
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public class ExpiringLruCacheTest {
+
+    /**
+     * Runs the background refreshes when the test says so.
+     */
+    private final Queue<Runnable> refreshes = new ArrayDeque<>();
+
+    // ----------------------------------------------------------------
+
+    @Test
+    public void testGet_loadsOnce() {
+        ExpiringLruCache<String, String> cache = new ExpiringLruCache<>(8, 1L, 0L, TimeUnit.HOURS, null);
+        AtomicInteger loads = new AtomicInteger();
+
+        Assert.assertEquals("v1", cache.get("k", key -> "v" + loads.incrementAndGet()));
+        Assert.assertEquals("v1", cache.get("k", key -> "v" + loads.incrementAndGet()));
+        Assert.assertEquals(1, loads.get());
+        Assert.assertEquals(1L, cache.stats().hitCount());
+        Assert.assertEquals(1L, cache.stats().missCount());
+    }
+
+    @Test
+    public void testGet_nullIsNotCached() {
+        ExpiringLruCache<String, String> cache = new ExpiringLruCache<>(8, 1L, 0L, TimeUnit.HOURS, null);
+
+        Assert.assertNull(cache.get("k", key -> null));
+        Assert.assertEquals(0, cache.size());
+    }
+
+    // ----------------------------------------------------------------
+
+    @Test
+    public void testEvict_givesReferencedEntriesASecondChance() {
+        ExpiringLruCache<Integer, Integer> cache = new ExpiringLruCache<>(4, 1L, 0L, TimeUnit.HOURS, null);
+        for (int i = 1; i <= 4; i++) {
+            cache.put(i, i);
+        }
+        cache.getIfPresent(1);
+
+        cache.put(5, 5);
+
+        Assert.assertEquals(4, cache.size());
+        Assert.assertEquals(Integer.valueOf(1), cache.getIfPresent(1));
+        Assert.assertNull(cache.getIfPresent(2));
+        Assert.assertEquals(1L, cache.stats().evictionCount());
+    }
+
+    @Test
+    public void testEvict_staysBounded() {
+        ExpiringLruCache<Integer, Integer> cache = new ExpiringLruCache<>(16, 1L, 0L, TimeUnit.HOURS, null);
+        for (int i = 0; i < 10_000; i++) {
+            cache.put(i % 40, i);
+            cache.put(7, i);
+            Assert.assertTrue(cache.size() <= 16);
+        }
+
+        Assert.assertEquals(Integer.valueOf(9_999), cache.getIfPresent(7));
+    }
+
+    // ----------------------------------------------------------------
+
+    @Test
+    public void testInvalidate_winsOverAnInflightLoad() throws Exception {
+        ExpiringLruCache<String, String> cache = new ExpiringLruCache<>(8, 1L, 0L, TimeUnit.HOURS, null);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> load = executor.submit(() -> cache.get("k", key -> {
+                started.countDown();
+                await(release);
+                return "before-invalidation";
+            }));
+            started.await();
+            cache.invalidate("k");
+            release.countDown();
+
+            Assert.assertEquals("before-invalidation", load.get());
+            Assert.assertNull(cache.getIfPresent("k"));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testInvalidate_winsOverARefresh() {
+        ExpiringLruCache<String, String> cache = this.refreshing();
+        cache.put("k", "v1");
+
+        Assert.assertEquals("v1", cache.get("k", key -> "v2"));
+        cache.invalidate("k");
+        this.runRefreshes();
+
+        Assert.assertNull(cache.getIfPresent("k"));
+        Assert.assertEquals(0L, cache.stats().refreshCount());
+    }
+
+    @Test
+    public void testPut_winsOverARefresh() {
+        ExpiringLruCache<String, String> cache = this.refreshing();
+        cache.put("k", "v1");
+
+        cache.get("k", key -> "v2");
+        cache.put("k", "v3");
+        this.runRefreshes();
+
+        Assert.assertEquals("v3", cache.getIfPresent("k"));
+    }
+
+    @Test
+    public void testRefresh_replacesTheStaleValue() {
+        ExpiringLruCache<String, String> cache = this.refreshing();
+        cache.put("k", "v1");
+
+        Assert.assertEquals("v1", cache.get("k", key -> "v2"));
+        Assert.assertEquals("v1", cache.get("k", key -> "v3"));
+        Assert.assertEquals(1, this.refreshes.size());
+        this.runRefreshes();
+
+        Assert.assertEquals("v2", cache.getIfPresent("k"));
+        Assert.assertEquals(1L, cache.stats().refreshCount());
+    }
+
+    @Test
+    public void testRefresh_retriesAfterAFailure() {
+        ExpiringLruCache<String, String> cache = this.refreshing();
+        cache.put("k", "v1");
+
+        cache.get("k", key -> {
+            throw new AssertionError("boom");
+        });
+        try {
+            this.runRefreshes();
+            Assert.fail("The refresh error must propagate to the executor");
+        } catch (AssertionError expected) {
+            Assert.assertEquals("boom", expected.getMessage());
+        }
+
+        Assert.assertEquals("v1", cache.get("k", key -> "v2"));
+        Assert.assertEquals(1, this.refreshes.size());
+        this.runRefreshes();
+        Assert.assertEquals("v2", cache.getIfPresent("k"));
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * Every hit is past {@code refreshAfterWrite}, and the refreshes wait in {@link #refreshes}.
+     */
+    private ExpiringLruCache<String, String> refreshing() {
+        return new ExpiringLruCache<>(8, TimeUnit.HOURS.toNanos(1L), 1L, TimeUnit.NANOSECONDS, this.refreshes::add);
+    }
+
+    private void runRefreshes() {
+        Runnable next;
+        while (null != (next = this.refreshes.poll())) {
+            next.run();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
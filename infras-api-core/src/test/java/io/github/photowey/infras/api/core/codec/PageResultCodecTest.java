@@ -0,0 +1,294 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.core.codec;
+
+import io.github.photowey.infras.api.core.meta.Meta;
+import io.github.photowey.infras.api.core.meta.count.CountMode;
+import io.github.photowey.infras.api.core.model.page.PageResult;
+import io.github.photowey.infras.api.core.model.page.struct.ListStruct;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@code PageResultCodecTest}
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public class PageResultCodecTest {
+
+    // ----------------------------------------------------------------
+
+    @Test
+    public void testDynamic_roundTrip() {
+        Map<String, Object> additional = new LinkedHashMap<>();
+        additional.put("k", "v");
+        additional.put("nested", Arrays.asList(1L, Collections.singletonMap("x", true)));
+        additional.put("nil", null);
+        Meta meta = new Meta(3L, 20L, 1234L, 62L, "bmV4dA", null, CountMode.CAPPED, true, true);
+        PageResult<Object> page = PageResult.staticOf(Arrays.asList("a", 2, 3L, 4.5D, null), meta, additional);
+
+        PageResult<Object> decoded = PageResultCodec.dynamic().decode(PageResultCodec.dynamic().encode(page));
+
+        Assert.assertEquals(page.getCode(), decoded.getCode());
+        Assert.assertEquals(page.getMessage(), decoded.getMessage());
+        assertSameStruct(page.getData(), decoded.getData());
+    }
+
+    @Test
+    public void testDynamic_keepsAbsentFieldsAbsent() {
+        ListStruct<Object> struct = new ListStruct<>(Arrays.asList(1));
+        struct.setCount(null);
+
+        ListStruct<Object> decoded = PageResultCodec.dynamic().decodeStruct(PageResultCodec.dynamic().encodeStruct(struct));
+
+        Assert.assertNull(decoded.getCount());
+        Assert.assertNull(decoded.getCountMode());
+        Assert.assertNull(decoded.getNextCursor());
+    }
+
+    @Test
+    public void testDynamic_keepsTheUnmodifiableFlag() {
+        PageResult<Object> decoded = PageResultCodec.dynamic().decode(PageResultCodec.dynamic().encode(PageResult.unmodifiableEmpty()));
+
+        Assert.assertTrue(decoded.determineIsUnmodifiable());
+        Assert.assertTrue(decoded.getData().determineIsUnmodifiable());
+    }
+
+    @Test
+    public void testMeta_roundTrip() {
+        Meta meta = new Meta(1L, 10L, null, null, null, "cHJldg", CountMode.NONE, false, null);
+
+        Meta decoded = PageResultCodec.decodeMeta(PageResultCodec.encodeMeta(meta));
+
+        Assert.assertEquals(meta.toString(), decoded.toString());
+    }
+
+    @Test
+    public void testTypedCodec_roundTrip() {
+        PageResultCodec<Long> codec = PageResultCodec.of(ItemCodecs.int64());
+        PageResult<Long> page = PageResult.staticOf(Arrays.asList(1L, null, Long.MAX_VALUE), Meta.populateMeta(3L, 1L, 10L));
+
+        Assert.assertEquals(page.getData().getList(), codec.decode(codec.encode(page)).getData().getList());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDecode_truncated() {
+        byte[] bytes = PageResultCodec.dynamic().encode(PageResult.staticOf(Arrays.asList("a", "b"), Meta.populateMeta(2L, 1L, 10L)));
+
+        PageResultCodec.dynamic().decode(Arrays.copyOf(bytes, bytes.length - 2));
+    }
+
+    @Test
+    public void testDecode_hostileAdditionalSizes() {
+        ListStruct<Object> struct = new ListStruct<>(null);
+        struct.setAdditional(Collections.singletonMap("k", "v"));
+        byte[] bytes = PageResultCodec.dynamic().encodeStruct(struct);
+        // Tail: size 1, key "k", string tag, value "v".
+        byte[] prefix = Arrays.copyOf(bytes, bytes.length - 6);
+        byte[] entries = Arrays.copyOfRange(bytes, bytes.length - 5, bytes.length);
+
+        for (int size : new int[]{1_000_000_000, Integer.MAX_VALUE, -1}) {
+            byte[] hostile = concat(prefix, new CompactOutput().writeVarInt(size).toByteArray(), entries);
+            try {
+                PageResultCodec.dynamic().decodeStruct(hostile);
+                Assert.fail("A hostile additional size must be rejected: " + size);
+            } catch (IllegalArgumentException expected) {
+                // Truncated or invalid, without sizing a map by the claimed count.
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDecode_negativeListSize() {
+        ListStruct<Object> struct = new ListStruct<>(Collections.emptyList());
+        byte[] bytes = PageResultCodec.dynamic().encodeStruct(struct);
+
+        PageResultCodec.dynamic().decodeStruct(concat(Arrays.copyOf(bytes, bytes.length - 1), new CompactOutput().writeVarInt(-1).toByteArray()));
+    }
+
+    // ----------------------------------------------------------------
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDynamic_rejectsSerializableItems() {
+        PageResultCodec.dynamic().encode(PageResult.staticOf(Collections.singletonList(new Item("a")), Meta.populateMeta(1L, 1L, 10L)));
+    }
+
+    @Test
+    public void testDynamic_rejectsJavaSerializedPayloads() {
+        byte[] bytes = PageResultCodec.of(ItemCodecs.serializable(Item.class))
+                .encode(PageResult.staticOf(Collections.singletonList(new Item("a")), Meta.populateMeta(1L, 1L, 10L)));
+        try {
+            PageResultCodec.dynamic().decode(bytes);
+            Assert.fail("A Java serialized item must not be decoded by the dynamic codec");
+        } catch (IllegalArgumentException expected) {
+            Assert.assertNull(expected.getCause());
+        }
+    }
+
+    @Test
+    public void testSerializable_allowedClasses() {
+        PageResultCodec<Object> codec = PageResultCodec.of(ItemCodecs.serializable(Item.class));
+        List<Object> items = Arrays.asList(new Item("a"), new Item[]{new Item("b")}, new int[]{1, 2}, "c");
+
+        List<Object> decoded = codec.decode(codec.encode(PageResult.staticOf(items, Meta.populateMeta(4L, 1L, 10L)))).getData().getList();
+
+        Assert.assertEquals("a", ((Item) decoded.get(0)).name);
+        Assert.assertEquals("b", ((Item[]) decoded.get(1))[0].name);
+        Assert.assertArrayEquals(new int[]{1, 2}, (int[]) decoded.get(2));
+        Assert.assertEquals("c", decoded.get(3));
+    }
+
+    @Test
+    public void testSerializable_rejectsOtherClasses() {
+        byte[] bytes = PageResultCodec.of(ItemCodecs.serializable(Other.class))
+                .encode(PageResult.staticOf(Collections.singletonList(new Other()), Meta.populateMeta(1L, 1L, 10L)));
+        try {
+            PageResultCodec.of(ItemCodecs.serializable(Item.class)).decode(bytes);
+            Assert.fail("A class outside the allow-list must not be resolved");
+        } catch (IllegalArgumentException expected) {
+            Assert.assertTrue(expected.getCause() instanceof InvalidClassException);
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    @Test
+    public void testJavaSerialization_usesTheCompactProxy() throws IOException, ClassNotFoundException {
+        Map<String, Object> additional = Collections.singletonMap("k", "v");
+        PageResult<Object> page = PageResult.staticOf(Arrays.asList(new Item("a"), "b"), Meta.populateMeta(2L, 1L, 10L), additional);
+
+        @SuppressWarnings("unchecked")
+        PageResult<Object> decoded = (PageResult<Object>) roundTrip(page);
+
+        Assert.assertEquals("a", ((Item) decoded.getData().getList().get(0)).name);
+        Assert.assertEquals("b", decoded.getData().getList().get(1));
+        Assert.assertEquals(additional, decoded.getData().getAdditional());
+    }
+
+    @Test
+    public void testJavaSerialization_allowsTheNestedClasses() throws IOException, ClassNotFoundException {
+        ListStruct<Object> struct = new ListStruct<>(Collections.singletonList(new Box(new Item("a"))));
+
+        @SuppressWarnings("unchecked")
+        ListStruct<Object> decoded = (ListStruct<Object>) roundTrip(struct);
+
+        Assert.assertEquals("a", ((Box) decoded.getList().get(0)).item.name);
+    }
+
+    @Test
+    public void testJavaSerialization_enclosingStreamFiltersTheItemClasses() throws IOException, ClassNotFoundException {
+        PageResult<Object> page = PageResult.staticOf(Collections.singletonList(new Item("a")), Meta.populateMeta(1L, 1L, 10L));
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(page);
+        }
+
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray())) {
+            @Override
+            protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+                if (Item.class.getName().equals(desc.getName())) {
+                    throw new InvalidClassException(desc.getName(), "Rejected by the caller");
+                }
+
+                return super.resolveClass(desc);
+            }
+        }) {
+            in.readObject();
+            Assert.fail("The caller's stream must see the item classes");
+        } catch (InvalidClassException expected) {
+            Assert.assertEquals(Item.class.getName(), expected.classname);
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    private static void assertSameStruct(ListStruct<Object> expected, ListStruct<Object> actual) {
+        Assert.assertEquals(expected.getPageNo(), actual.getPageNo());
+        Assert.assertEquals(expected.getPageSize(), actual.getPageSize());
+        Assert.assertEquals(expected.getCount(), actual.getCount());
+        Assert.assertEquals(expected.getList(), actual.getList());
+        Assert.assertEquals(expected.getNextCursor(), actual.getNextCursor());
+        Assert.assertEquals(expected.getPrevCursor(), actual.getPrevCursor());
+        Assert.assertEquals(expected.getCountMode(), actual.getCountMode());
+        Assert.assertEquals(expected.getHasNext(), actual.getHasNext());
+        Assert.assertEquals(expected.getCountCapped(), actual.getCountCapped());
+        Assert.assertEquals(expected.getAdditional(), actual.getAdditional());
+    }
+
+    private static byte[] concat(byte[]... parts) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (byte[] part : parts) {
+            out.write(part, 0, part.length);
+        }
+
+        return out.toByteArray();
+    }
+
+    private static Object roundTrip(Object value) throws IOException, ClassNotFoundException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(value);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            return in.readObject();
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    private static class Item implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final String name;
+
+        Item(String name) {
+            this.name = name;
+        }
+    }
+
+    private static class Other implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+    }
+
+    private static class Box implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Item item;
+
+        Box(Item item) {
+            this.item = item;
+        }
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.core.jackson;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.github.photowey.infras.api.core.meta.Meta;
+import io.github.photowey.infras.api.core.meta.count.CountMode;
+import io.github.photowey.infras.api.core.meta.count.NoneCountStrategy;
+import io.github.photowey.infras.api.core.model.page.PageResult;
+import io.github.photowey.infras.api.core.model.page.struct.ListStruct;
+import io.github.photowey.infras.api.core.model.page.struct.StreamingListStruct;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * {@code InfrasApiModuleGoldenTest}
+ * <p>
+ * The {@link InfrasApiModule} (de)serializers must produce the same JSON as the reflective bean ones:
+ * every fixture is written by a plain {@link ObjectMapper} and by one with the module,
+ * and both must match the golden file under {@code golden/}.
+ * {@code code} and {@code message} of a {@link PageResult} are written by the module only.
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public class InfrasApiModuleGoldenTest {
+
+    private static final TypeReference<PageResult<Integer>> PAGE_OF_INTEGERS = new TypeReference<PageResult<Integer>>() {};
+    private static final TypeReference<ListStruct<Integer>> STRUCT_OF_INTEGERS = new TypeReference<ListStruct<Integer>>() {};
+
+    private final ObjectMapper plain = new ObjectMapper();
+    private final ObjectMapper module = new ObjectMapper().registerModule(new InfrasApiModule());
+
+    // ----------------------------------------------------------------
+
+    @Test
+    public void testPageResult_full() throws IOException {
+        PageResult<Integer> page = PageResult.staticOf(Arrays.asList(1, 2), fullMeta(), additional());
+
+        this.assertEnvelopeGolden("page-result-full", page, PAGE_OF_INTEGERS);
+    }
+
+    @Test
+    public void testPageResult_nullItems() throws IOException {
+        PageResult<String> page = PageResult.staticOf(Arrays.asList("a", null), Meta.populateMeta(2L, 1L, 10L));
+
+        this.assertEnvelopeGolden("page-result-null-items", page, new TypeReference<PageResult<String>>() {});
+    }
+
+    @Test
+    public void testPageResult_nullData() throws IOException {
+        PageResult<Integer> page = PageResult.create("500", "err");
+
+        this.assertEnvelopeGolden("page-result-null-data", page, PAGE_OF_INTEGERS);
+    }
+
+    @Test
+    public void testPageResult_cursor() throws IOException {
+        PageResult<Integer> page = PageResult.staticOf(Arrays.asList(7, 8), Meta.populateCursorMeta(20L, "bmV4dA", null));
+
+        this.assertEnvelopeGolden("page-result-cursor", page, PAGE_OF_INTEGERS);
+    }
+
+    @Test
+    public void testPageResult_unmodifiableEmpty() throws IOException {
+        this.assertEnvelopeGolden("page-result-empty", PageResult.unmodifiableEmpty(), PAGE_OF_INTEGERS);
+    }
+
+    @Test
+    public void testListStruct_nulls() throws IOException {
+        ListStruct<Integer> struct = new ListStruct<>(Arrays.asList(1));
+        struct.setCount(null);
+        struct.setList(null);
+
+        this.assertGolden("list-struct-nulls", struct, STRUCT_OF_INTEGERS);
+    }
+
+    @Test
+    public void testListStruct_countModeNone() throws IOException {
+        Meta meta = new NoneCountStrategy().populateMeta(null, 2L, 3L, 4L);
+        ListStruct<Integer> struct = ListStruct.create(Arrays.asList(4, 5, 6), meta);
+
+        this.assertGolden("list-struct-count-mode-none", struct, STRUCT_OF_INTEGERS);
+    }
+
+    @Test
+    public void testStreamingListStruct() throws IOException {
+        Assert.assertEquals(golden("list-struct-streaming"),
+                this.plain.writeValueAsString(StreamingListStruct.ofIterator(Arrays.asList(1, 2).iterator(), fullMeta(), additional())));
+        Assert.assertEquals(golden("list-struct-streaming"),
+                this.module.writeValueAsString(StreamingListStruct.ofIterator(Arrays.asList(1, 2).iterator(), fullMeta(), additional())));
+    }
+
+    @Test
+    public void testMeta_full() throws IOException {
+        this.assertGolden("meta-full", fullMeta(), new TypeReference<Meta>() {});
+    }
+
+    @Test
+    public void testMeta_nulls() throws IOException {
+        this.assertGolden("meta-nulls", new Meta(), new TypeReference<Meta>() {});
+    }
+
+    @Test
+    public void testMeta_default() throws IOException {
+        this.assertGolden("meta-default", Meta.unmodifiableDefault(), new TypeReference<Meta>() {});
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * Writes with both mappers, then reads the golden JSON back with both and writes it again.
+     */
+    private void assertGolden(String name, Object value, TypeReference<?> type) throws IOException {
+        String expected = golden(name);
+        Assert.assertEquals("plain write: " + name, expected, this.plain.writeValueAsString(value));
+        Assert.assertEquals("module write: " + name, expected, this.module.writeValueAsString(value));
+
+        JavaType javaType = this.plain.getTypeFactory().constructType(type);
+        Assert.assertEquals("plain read: " + name, expected, this.plain.writeValueAsString(this.plain.readValue(expected, javaType)));
+        Assert.assertEquals("module read: " + name, expected, this.module.writeValueAsString(this.module.readValue(expected, javaType)));
+    }
+
+    /**
+     * Like {@link #assertGolden}, except that the plain mapper writes the envelope without {@code code} and {@code message}.
+     */
+    private void assertEnvelopeGolden(String name, PageResult<?> page, TypeReference<?> type) throws IOException {
+        String expected = golden(name);
+        String data = withoutCodeAndMessage(expected);
+        Assert.assertEquals("plain write: " + name, data, this.plain.writeValueAsString(page));
+        Assert.assertEquals("module write: " + name, expected, this.module.writeValueAsString(page));
+
+        JavaType javaType = this.plain.getTypeFactory().constructType(type);
+        Assert.assertEquals("plain read: " + name, data, this.plain.writeValueAsString(this.plain.readValue(expected, javaType)));
+        Assert.assertEquals("module read: " + name, expected, this.module.writeValueAsString(this.module.readValue(expected, javaType)));
+    }
+
+    private String withoutCodeAndMessage(String json) throws IOException {
+        ObjectNode tree = (ObjectNode) this.plain.readTree(json);
+        tree.remove(Arrays.asList("code", "message"));
+
+        return this.plain.writeValueAsString(tree);
+    }
+
+    private static Meta fullMeta() {
+        return new Meta(3L, 20L, 1234L, 62L, "bmV4dA", "cHJldg", CountMode.CAPPED, true, true);
+    }
+
+    private static Map<String, Object> additional() {
+        Map<String, Object> additional = new LinkedHashMap<>();
+        additional.put("k", "v");
+        additional.put("n", 5);
+        additional.put("nil", null);
+
+        return additional;
+    }
+
+    private static String golden(String name) throws IOException {
+        try (InputStream in = InfrasApiModuleGoldenTest.class.getResourceAsStream("/golden/" + name + ".json")) {
+            if (null == in) {
+                throw new IllegalStateException("Missing golden file: " + name);
+            }
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[1024];
+            int read;
+            while ((read = in.read(buffer)) > 0) {
+                out.write(buffer, 0, read);
+            }
+
+            return new String(out.toByteArray(), StandardCharsets.UTF_8).trim();
+        }
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.core.jackson;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.github.photowey.infras.api.core.meta.Meta;
+import io.github.photowey.infras.api.core.meta.count.CountMode;
+import io.github.photowey.infras.api.core.metrics.PaginationMetrics;
+import io.github.photowey.infras.api.core.metrics.PaginationMetricsRecorder;
+import io.github.photowey.infras.api.core.model.page.PageResult;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * {@code PageResultEnvelopeWriterTest}
+ * <p>
+ * The envelope writer must write the same JSON as a mapper with {@link InfrasApiModule},
+ * and the same {@code data} as a plain {@link ObjectMapper}, on every write path.
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public class PageResultEnvelopeWriterTest {
+
+    private final ObjectMapper plain = new ObjectMapper();
+    private final ObjectMapper module = new ObjectMapper().registerModule(new InfrasApiModule());
+    private final PageResultEnvelopeWriter writer = PageResultEnvelopeWriter.of(this.plain);
+
+    @After
+    public void tearDown() {
+        PaginationMetrics.reset();
+    }
+
+    // ----------------------------------------------------------------
+
+    @Test
+    public void testWrite_full() throws IOException {
+        this.assertSameAsMappers(() -> PageResult.staticOf(Arrays.asList(1, 2), fullMeta(), additional()));
+    }
+
+    @Test
+    public void testWrite_nullItems() throws IOException {
+        this.assertSameAsMappers(() -> PageResult.staticOf(Arrays.asList("a", null), Meta.populateMeta(2L, 1L, 10L)));
+    }
+
+    @Test
+    public void testWrite_nullData() throws IOException {
+        this.assertSameAsMappers(() -> PageResult.create("500", "err"));
+    }
+
+    @Test
+    public void testWrite_failedPage() throws IOException {
+        this.assertSameAsMappers(() -> PageResult.staticOf(Arrays.asList(1), Meta.populateMeta(1L, 1L, 10L)).code("500").message("\"quoted\" é"));
+    }
+
+    @Test
+    public void testWrite_cursor() throws IOException {
+        this.assertSameAsMappers(() -> PageResult.staticOf(Arrays.asList(7, 8), Meta.populateCursorMeta(20L, "bmV4dA", null)));
+    }
+
+    @Test
+    public void testWrite_defaultEmpty() throws IOException {
+        this.assertSameAsMappers(PageResult::unmodifiableEmpty);
+    }
+
+    @Test
+    public void testWrite_streaming() throws IOException {
+        this.assertSameAsMappers(() -> PageResult.streamOf(Arrays.asList(1, 2, 3).iterator(), fullMeta(), additional()));
+    }
+
+    @Test
+    public void testWrite_compactWhateverTheMapperIndentation() throws IOException {
+        ObjectMapper indenting = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        PageResult<Integer> page = PageResult.staticOf(Arrays.asList(1, 2), fullMeta(), additional());
+
+        Assert.assertEquals(this.module.writeValueAsString(page), utf8(PageResultEnvelopeWriter.of(indenting).writeValueAsBytes(page)));
+    }
+
+    @Test
+    public void testWrite_recordsTheBytesOfEveryPath() throws IOException {
+        Recorder recorder = new Recorder();
+        PaginationMetrics.install(recorder);
+        PageResult<Integer> page = PageResult.staticOf(Arrays.asList(1, 2), fullMeta(), additional());
+        long expected = this.writer.writeValueAsBytes(page).length;
+
+        this.writer.write(page, new ByteArrayOutputStream());
+        this.writer.write(page, ByteBuffer.allocate(1024));
+
+        Assert.assertEquals(Arrays.asList(expected, expected, expected), recorder.bytes);
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * Writes a fresh page per path, as streaming pages are one-shot.
+     */
+    private void assertSameAsMappers(Supplier<PageResult<?>> page) throws IOException {
+        String expected = this.module.writeValueAsString(page.get());
+
+        String bytes = utf8(this.writer.writeValueAsBytes(page.get()));
+        Assert.assertEquals(expected, bytes);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        this.writer.write(page.get(), out);
+        Assert.assertEquals(expected, utf8(out.toByteArray()));
+
+        ByteBuffer buffer = ByteBuffer.allocate(4096);
+        buffer.put((byte) ' ');
+        this.writer.write(page.get(), buffer);
+        Assert.assertEquals(expected, new String(buffer.array(), 1, buffer.position() - 1, StandardCharsets.UTF_8));
+
+        ObjectNode data = (ObjectNode) this.plain.readTree(bytes);
+        data.remove(Arrays.asList("code", "message"));
+        Assert.assertEquals(this.plain.writeValueAsString(page.get()), this.plain.writeValueAsString(data));
+    }
+
+    private static String utf8(byte[] bytes) {
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static Meta fullMeta() {
+        return new Meta(3L, 20L, 1234L, 62L, "bmV4dA", "cHJldg", CountMode.CAPPED, true, true);
+    }
+
+    private static Map<String, Object> additional() {
+        Map<String, Object> additional = new LinkedHashMap<>();
+        additional.put("k", "v");
+        additional.put("n", 5);
+        additional.put("nil", null);
+
+        return additional;
+    }
+
+    private static class Recorder implements PaginationMetricsRecorder {
+
+        private final List<Long> bytes = new ArrayList<>();
+
+        @Override
+        public void recordSerializedBytes(long bytes) {
+            this.bytes.add(bytes);
+        }
+    }
+}
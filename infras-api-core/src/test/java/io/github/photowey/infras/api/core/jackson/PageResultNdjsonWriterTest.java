@@ -0,0 +1,170 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.core.jackson;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.photowey.infras.api.core.meta.Meta;
+import io.github.photowey.infras.api.core.metrics.PaginationMetrics;
+import io.github.photowey.infras.api.core.metrics.PaginationMetricsRecorder;
+import io.github.photowey.infras.api.core.model.page.PageResult;
+import io.github.photowey.infras.api.core.model.page.struct.StreamingListStruct;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+/**
+ * {@code PageResultNdjsonWriterTest}
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public class PageResultNdjsonWriterTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final PageResultNdjsonWriter writer = PageResultNdjsonWriter.of(this.mapper);
+
+    @After
+    public void tearDown() {
+        PaginationMetrics.reset();
+    }
+
+    // ----------------------------------------------------------------
+
+    @Test
+    public void testWrite_headerThenOneLinePerItem() throws IOException {
+        Map<String, Object> additional = new LinkedHashMap<>();
+        additional.put("k", "v");
+        PageResult<Map<String, Object>> page = PageResult.staticOf(Arrays.asList(row(1), row(2)), Meta.populateMeta(2L, 1L, 10L), additional);
+
+        List<String> lines = lines(this.writer.writeValueAsBytes(page));
+
+        Assert.assertEquals(3, lines.size());
+        JsonNode header = this.mapper.readTree(lines.get(0));
+        Assert.assertEquals(Arrays.asList("code", "message", "meta", "additional"), fieldNames(header));
+        Assert.assertEquals(page.getCode(), header.get("code").asText());
+        Assert.assertEquals(page.getMessage(), header.get("message").asText());
+        Assert.assertEquals(2L, header.get("meta").get("count").asLong());
+        Assert.assertEquals("v", header.get("additional").get("k").asText());
+        Assert.assertEquals("{\"id\":1}", lines.get(1));
+        Assert.assertEquals("{\"id\":2}", lines.get(2));
+    }
+
+    @Test
+    public void testWrite_nullData() throws IOException {
+        List<String> lines = lines(this.writer.writeValueAsBytes(PageResult.create("500", "err")));
+
+        Assert.assertEquals(Collections.singletonList("{\"code\":\"500\",\"message\":\"err\",\"meta\":null}"), lines);
+    }
+
+    @Test
+    public void testWrite_streamingSourceIsClosed() throws IOException {
+        AtomicBoolean closed = new AtomicBoolean();
+        Stream<Integer> stream = Stream.of(1, 2, 3).onClose(() -> closed.set(true));
+
+        List<String> lines = lines(this.writer.writeValueAsBytes(PageResult.streamOf(stream, Meta.populateMeta(3L, 1L, 10L))));
+
+        Assert.assertEquals(Arrays.asList("1", "2", "3"), lines.subList(1, lines.size()));
+        Assert.assertTrue(closed.get());
+    }
+
+    @Test
+    public void testWrite_flushesTheHeaderAndEveryInterval() throws IOException {
+        FlushRecordingOutputStream out = new FlushRecordingOutputStream();
+        PageResult<Integer> page = PageResult.staticOf(Arrays.asList(1, 2, 3, 4, 5), Meta.populateMeta(5L, 1L, 10L));
+
+        PageResultNdjsonWriter.of(this.mapper, 2).write(page, out);
+
+        // the header, every second item, then the rest
+        Assert.assertEquals(Arrays.asList(1, 3, 5, 6), out.flushedLines);
+    }
+
+    @Test
+    public void testWrite_recordsTheBytes() throws IOException {
+        List<Long> recorded = new ArrayList<>();
+        PaginationMetrics.install(new PaginationMetricsRecorder() {
+            @Override
+            public void recordSerializedBytes(long bytes) {
+                recorded.add(bytes);
+            }
+        });
+        PageResult<Integer> page = PageResult.staticOf(Arrays.asList(1, 2), Meta.populateMeta(2L, 1L, 10L));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        this.writer.write(page, out);
+
+        Assert.assertEquals(Collections.singletonList((long) out.size()), recorded);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testOf_invalidFlushInterval() {
+        PageResultNdjsonWriter.of(this.mapper, 0);
+    }
+
+    // ----------------------------------------------------------------
+
+    private static Map<String, Object> row(int id) {
+        return Collections.singletonMap("id", id);
+    }
+
+    private static List<String> fieldNames(JsonNode node) {
+        List<String> names = new ArrayList<>();
+        node.fieldNames().forEachRemaining(names::add);
+
+        return names;
+    }
+
+    private static List<String> lines(byte[] bytes) {
+        String text = new String(bytes, StandardCharsets.UTF_8);
+        Assert.assertTrue("Every line ends with a separator", text.endsWith("\n"));
+
+        return Arrays.asList(text.substring(0, text.length() - 1).split("\n", -1));
+    }
+
+    /**
+     * Records how many complete lines had been written at every flush.
+     */
+    private static class FlushRecordingOutputStream extends ByteArrayOutputStream {
+
+        private final List<Integer> flushedLines = new ArrayList<>();
+
+        @Override
+        public void flush() {
+            int lines = 0;
+            for (byte b : this.toByteArray()) {
+                if ('\n' == b) {
+                    lines++;
+                }
+            }
+            if (this.flushedLines.isEmpty() || lines != this.flushedLines.get(this.flushedLines.size() - 1)) {
+                this.flushedLines.add(lines);
+            }
+        }
+    }
+}
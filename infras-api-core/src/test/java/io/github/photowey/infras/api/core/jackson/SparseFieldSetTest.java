@@ -0,0 +1,145 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.core.jackson;
+
+import com.fasterxml.jackson.annotation.JsonAnyGetter;
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import io.github.photowey.infras.api.core.meta.Meta;
+import io.github.photowey.infras.api.core.model.page.PageResult;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@code SparseFieldSetTest}
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public class SparseFieldSetTest {
+
+    private final ObjectMapper mapper = new ObjectMapper().registerModule(new InfrasApiModule());
+
+    // ----------------------------------------------------------------
+
+    @Test
+    public void testBean_restrictedToTheFieldSet() throws IOException {
+        String json = this.sparse("id").writeValueAsString(page(new Plain(1, "a", 2.5D)));
+
+        Assert.assertTrue(json, json.contains("\"list\":[{\"id\":1}]"));
+    }
+
+    @Test
+    public void testMap_restrictedToTheFieldSet() throws IOException {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("id", 1);
+        row.put("name", "a");
+
+        String json = this.sparse("id").writeValueAsString(page(row));
+
+        Assert.assertTrue(json, json.contains("\"list\":[{\"id\":1}]"));
+    }
+
+    @Test
+    public void testAnyGetter_writtenInFull() throws IOException {
+        String json = this.sparse("id").writeValueAsString(page(new WithAnyGetter()));
+
+        Assert.assertTrue(json, json.contains("\"list\":[{\"id\":1,\"name\":\"a\",\"extra\":\"x\"}]"));
+    }
+
+    @Test
+    public void testTypeInfo_writtenInFull() throws IOException {
+        PageResult<Object> page = page(new Typed());
+
+        Assert.assertEquals(this.mapper.writeValueAsString(page), this.sparse("id").writeValueAsString(page));
+    }
+
+    @Test
+    public void testJsonFilter_stillApplies() throws IOException {
+        SimpleFilterProvider filters = new SimpleFilterProvider().addFilter("secrets", SimpleBeanPropertyFilter.serializeAllExcept("secret"));
+        ObjectWriter writer = this.mapper.writer(new FieldSetFilterProvider(FieldSet.parse("id,secret"), filters));
+
+        String json = writer.writeValueAsString(page(new Filtered()));
+
+        Assert.assertTrue(json, json.contains("\"list\":[{\"id\":1,\"name\":\"a\"}]"));
+    }
+
+    // ----------------------------------------------------------------
+
+    private ObjectWriter sparse(String fields) {
+        return this.mapper.writer().withAttribute(FieldSet.ATTRIBUTE, FieldSet.parse(fields));
+    }
+
+    private static PageResult<Object> page(Object item) {
+        List<Object> items = Collections.singletonList(item);
+        return PageResult.staticOf(items, Meta.populateMeta(1L, 1L, 10L));
+    }
+
+    // ----------------------------------------------------------------
+
+    @JsonPropertyOrder({"id", "name", "price"})
+    public static class Plain {
+
+        public final int id;
+        public final String name;
+        public final double price;
+
+        Plain(int id, String name, double price) {
+            this.id = id;
+            this.name = name;
+            this.price = price;
+        }
+    }
+
+    public static class WithAnyGetter {
+
+        public int id = 1;
+        public String name = "a";
+
+        @JsonAnyGetter
+        public Map<String, Object> extra() {
+            return Collections.singletonMap("extra", "x");
+        }
+    }
+
+    @JsonTypeInfo(use = JsonTypeInfo.Id.NAME)
+    public static class Typed {
+
+        public int id = 1;
+        public String name = "a";
+    }
+
+    @JsonFilter("secrets")
+    @JsonPropertyOrder({"id", "name", "secret"})
+    public static class Filtered {
+
+        public int id = 1;
+        public String name = "a";
+        public String secret = "s";
+    }
+}
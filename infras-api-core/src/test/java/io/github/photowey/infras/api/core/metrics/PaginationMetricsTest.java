@@ -0,0 +1,126 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.core.metrics;
+
+import io.github.photowey.infras.api.core.model.page.struct.ListStruct;
+import io.github.photowey.infras.api.core.pagination.AbstractPagination;
+import io.github.photowey.infras.api.core.query.PageQueryExecutor;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * {@code PaginationMetricsTest}
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public class PaginationMetricsTest {
+
+    private final Recorder recorder = new Recorder();
+
+    @Before
+    public void setUp() {
+        PaginationMetrics.install(this.recorder);
+    }
+
+    @After
+    public void tearDown() {
+        PaginationMetrics.reset();
+    }
+
+    // ----------------------------------------------------------------
+
+    @Test
+    public void testGetters_recordNothing() {
+        Page page = page(3L, 20L);
+
+        page.getOffset();
+        page.offsetAsLong();
+        page.getPageNo();
+        page.toString();
+
+        Assert.assertTrue(this.recorder.requests.isEmpty());
+    }
+
+    @Test
+    public void testRecordRequest_oncePerPage() {
+        Page page = page(3L, 200L);
+
+        page.recordRequest();
+        page.recordRequest();
+        Assert.assertEquals(Collections.singletonList(Arrays.asList(3L, 200L, 200L)), this.recorder.requests);
+
+        page.setPageNo(4L);
+        page.recordRequest();
+        Assert.assertEquals(Arrays.asList(4L, 200L, 300L), this.recorder.requests.get(1));
+    }
+
+    @Test
+    public void testExecutor_recordsTheRequest() {
+        Page page = page(1L, 10L);
+
+        PageQueryExecutor.of(Runnable::run).execute(page, () -> 2L, () -> Arrays.asList(1, 2));
+        page.recordRequest();
+
+        Assert.assertEquals(1, this.recorder.requests.size());
+    }
+
+    @Test
+    public void testListStruct_recordsTheListSize() {
+        new ListStruct<>(Arrays.asList(1, 2, 3));
+
+        Assert.assertEquals(Collections.singletonList(3L), this.recorder.listSizes);
+    }
+
+    // ----------------------------------------------------------------
+
+    private static Page page(long pageNo, long pageSize) {
+        Page page = new Page();
+        page.setPageNo(pageNo);
+        page.setPageSize(pageSize);
+
+        return page;
+    }
+
+    private static class Page extends AbstractPagination {
+
+        private static final long serialVersionUID = 1L;
+    }
+
+    private static class Recorder implements PaginationMetricsRecorder {
+
+        private final List<List<Long>> requests = new ArrayList<>();
+        private final List<Long> listSizes = new ArrayList<>();
+
+        @Override
+        public void recordRequest(long pageNo, long pageSize, long offset) {
+            this.requests.add(Arrays.asList(pageNo, pageSize, offset));
+        }
+
+        @Override
+        public void recordListSize(long size) {
+            this.listSizes.add(size);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.core.model.page;
+
+import io.github.photowey.infras.api.core.meta.Meta;
+import io.github.photowey.infras.api.core.model.page.struct.ListStruct;
+import io.github.photowey.infras.api.core.model.page.struct.StreamingListStruct;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * {@code PageSnapshotTest}
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public class PageSnapshotTest {
+
+    // ----------------------------------------------------------------
+
+    @Test
+    public void testFreeze_sharesTheItems() {
+        List<Integer> items = new ArrayList<>(Arrays.asList(1, 2, 3));
+        PageResult<Integer> page = PageResult.staticOf(items, Meta.populateMeta(3L, 1L, 10L), Collections.singletonMap("k", "v"));
+
+        PageSnapshot<Integer> snapshot = page.freeze();
+
+        Assert.assertEquals(page.getCode(), snapshot.code());
+        Assert.assertEquals(page.getMessage(), snapshot.message());
+        Assert.assertEquals(items, snapshot.struct().getList());
+        Assert.assertEquals(3L, snapshot.struct().countAsLong());
+        Assert.assertEquals("v", snapshot.struct().getAdditional().get("k"));
+        Assert.assertTrue(snapshot.struct().determineIsUnmodifiable());
+    }
+
+    @Test
+    public void testFreeze_detachesFromTheSourceEnvelope() {
+        PageResult<Integer> page = PageResult.staticOf(Arrays.asList(1, 2), Meta.populateMeta(2L, 1L, 10L));
+        PageSnapshot<Integer> snapshot = page.freeze();
+
+        page.setCode("500");
+        page.getData().setCount(99L);
+
+        Assert.assertNotEquals("500", snapshot.code());
+        Assert.assertEquals(2L, snapshot.struct().countAsLong());
+    }
+
+    @Test
+    public void testToPageResult_freshEnvelopePerCaller() {
+        PageSnapshot<Integer> snapshot = PageResult.staticOf(Arrays.asList(1, 2), Meta.populateMeta(2L, 1L, 10L)).freeze();
+
+        PageResult<Integer> first = snapshot.toPageResult();
+        first.data = ListStruct.empty();
+        PageResult<Integer> second = snapshot.toPageResult();
+
+        Assert.assertNotSame(first, second);
+        Assert.assertTrue(second.determineIsUnmodifiable());
+        Assert.assertSame(snapshot.struct(), second.getData());
+        Assert.assertEquals(Arrays.asList(1, 2), second.getData().getList());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testToPageResult_rejectsSetters() {
+        PageResult.staticOf(Arrays.asList(1), Meta.populateMeta(1L, 1L, 10L)).freeze().toPageResult().setCode("500");
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testStruct_rejectsListWrites() {
+        PageResult.staticOf(new ArrayList<>(Arrays.asList(1)), Meta.populateMeta(1L, 1L, 10L)).freeze().struct().getList().add(2);
+    }
+
+    @Test
+    public void testFreeze_drainsAStreamingStruct() {
+        PageResult<Integer> page = PageResult.create(StreamingListStruct.ofIterator(Arrays.asList(4, 5).iterator(), Meta.populateMeta(2L, 1L, 10L)));
+
+        Assert.assertEquals(Arrays.asList(4, 5), page.freeze().struct().getList());
+    }
+
+    @Test
+    public void testFreeze_withoutData() {
+        PageSnapshot<Integer> snapshot = PageResult.<Integer>create("500", "err").freeze();
+
+        Assert.assertNull(snapshot.struct());
+        Assert.assertNull(snapshot.toPageResult().getData());
+    }
+}
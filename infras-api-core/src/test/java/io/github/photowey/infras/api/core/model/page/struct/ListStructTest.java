@@ -0,0 +1,58 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.core.model.page.struct;
+
+import io.github.photowey.infras.api.core.meta.Meta;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * {@code ListStructTest}
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public class ListStructTest {
+
+    // ----------------------------------------------------------------
+
+    @Test
+    public void testCreate_dataMetaAndAdditional() {
+        Map<String, Object> additional = Collections.singletonMap("k", "v");
+
+        ListStruct<Integer> struct = ListStruct.create(Arrays.asList(1, 2), Meta.populateMeta(12L, 2L, 5L), additional);
+
+        Assert.assertEquals(Arrays.asList(1, 2), struct.getList());
+        Assert.assertEquals(2L, struct.pageNoAsLong());
+        Assert.assertEquals(Long.valueOf(5L), struct.getPageSize());
+        Assert.assertEquals(12L, struct.countAsLong());
+        Assert.assertEquals(additional, struct.getAdditional());
+    }
+
+    @Test
+    public void testCreate_shorterOverloadsDelegate() {
+        ListStruct<Integer> struct = ListStruct.create(Arrays.asList(1, 2));
+
+        Assert.assertEquals(Arrays.asList(1, 2), struct.getList());
+        Assert.assertTrue(struct.getAdditional().isEmpty());
+        Assert.assertEquals(Arrays.asList(3), ListStruct.of(Arrays.asList(3), Meta.populateMeta(1L, 1L, 10L)).getList());
+    }
+}
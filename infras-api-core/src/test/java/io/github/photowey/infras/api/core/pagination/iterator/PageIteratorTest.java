@@ -0,0 +1,142 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.core.pagination.iterator;
+
+import io.github.photowey.infras.api.core.pagination.AbstractPagination;
+import io.github.photowey.infras.api.core.pagination.policy.PaginationPolicies;
+import io.github.photowey.infras.api.core.pagination.policy.PaginationPolicy;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * {@code PageIteratorTest}
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public class PageIteratorTest {
+
+    private static final List<Integer> ROWS = rows(2_550);
+
+    @After
+    public void tearDown() {
+        PaginationPolicies.reset();
+    }
+
+    // ----------------------------------------------------------------
+
+    @Test
+    public void testWalk_inTheCallingThread() {
+        PageIterator<Integer> iterator = PageIterator.builder(PageIteratorTest::fetch).pageSize(100L).build();
+
+        Assert.assertEquals(ROWS, iterator.stream().collect(Collectors.toList()));
+        Assert.assertEquals(26L, iterator.pageNo());
+    }
+
+    @Test
+    public void testWalk_withPrefetch() {
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try (PageIterator<Integer> iterator = PageIterator.builder(PageIteratorTest::fetch).pageSize(50L).executor(executor).prefetch(3).build()) {
+            Assert.assertEquals(ROWS, iterator.stream().collect(Collectors.toList()));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testWalk_maxPages() {
+        PageIterator<Integer> iterator = PageIterator.builder(PageIteratorTest::fetch).startPageNo(2L).pageSize(10L).maxPages(3L).build();
+
+        Assert.assertEquals(ROWS.subList(10, 40), iterator.stream().collect(Collectors.toList()));
+    }
+
+    // ----------------------------------------------------------------
+
+    @Test
+    public void testOf_ignoresAClampingPolicy() {
+        PaginationPolicies.install(PaginationPolicy.builder().clampAbove(1_000L).build());
+
+        Assert.assertEquals(ROWS, walk(Page::new));
+    }
+
+    @Test
+    public void testOf_ignoresARejectingPolicy() {
+        PaginationPolicies.install(PaginationPolicy.builder().rejectAbove(1_000L).build());
+
+        Assert.assertEquals(ROWS, walk(Page::new));
+    }
+
+    @Test
+    public void testOf_stopsWhenThePageMoves() {
+        Assert.assertEquals(ROWS.subList(0, 300), walk(CappedPage::new));
+    }
+
+    // ----------------------------------------------------------------
+
+    private static List<Integer> walk(Supplier<? extends AbstractPagination> factory) {
+        PageFetcher<Integer> fetcher = PageFetcher.of(factory,
+                pagination -> ROWS.subList((int) Math.min(pagination.offsetAsLong(), ROWS.size()),
+                        (int) Math.min(pagination.offsetAsLong() + pagination.limitAsLong(), ROWS.size())));
+
+        // maxPages bounds a walk that would otherwise repeat a page forever.
+        return PageIterator.builder(fetcher).pageSize(100L).maxPages(100L).build().stream().collect(Collectors.toList());
+    }
+
+    private static List<Integer> fetch(long pageNo, long pageSize) {
+        int from = (int) Math.min((pageNo - 1L) * pageSize, ROWS.size());
+        int to = (int) Math.min(from + pageSize, ROWS.size());
+
+        return ROWS.subList(from, to);
+    }
+
+    private static List<Integer> rows(int size) {
+        List<Integer> rows = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            rows.add(i);
+        }
+
+        return rows;
+    }
+
+    // ----------------------------------------------------------------
+
+    private static class Page extends AbstractPagination {
+
+        private static final long serialVersionUID = 1L;
+    }
+
+    /**
+     * Moves any page past the third back to it, like an application-specific clamp.
+     */
+    private static class CappedPage extends AbstractPagination {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void setPageNo(Long pageNo) {
+            super.setPageNo(null != pageNo ? Math.min(pageNo, 3L) : null);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.core.pagination.memory;
+
+import io.github.photowey.infras.api.core.model.page.PageResult;
+import io.github.photowey.infras.api.core.pagination.AbstractPagination;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * {@code TopKTest}
+ * <p>
+ * {@link TopK} must agree with a stable full sort, ties included, on every window.
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public class TopKTest {
+
+    /**
+     * Compares the rank only, so equal ranks with different ids expose any instability.
+     */
+    private static final Comparator<int[]> BY_RANK = Comparator.comparingInt(row -> row[0]);
+
+    // ----------------------------------------------------------------
+
+    @Test
+    public void testSelect_matchesStableSort() {
+        Random random = new Random(20261018L);
+        for (int round = 0; round < 200; round++) {
+            int size = 1 + random.nextInt(300);
+            int[][] rows = new int[size][];
+            for (int i = 0; i < size; i++) {
+                rows[i] = new int[]{random.nextInt(20), i};
+            }
+
+            int to = 1 + random.nextInt(size);
+            int from = random.nextInt(to);
+
+            int[][] sorted = rows.clone();
+            Arrays.sort(sorted, BY_RANK);
+            List<int[]> expected = Arrays.asList(sorted).subList(from, to);
+
+            assertSameRows(expected, TopK.select(rows.clone(), BY_RANK, from, to));
+        }
+    }
+
+    @Test
+    public void testSelect_leavesTheRowsUntouched() {
+        Integer[] rows = {5, 3, 9, 1, 7};
+
+        Assert.assertEquals(Arrays.asList(1, 3), TopK.select(rows, Comparator.naturalOrder(), 0, 2));
+        Assert.assertArrayEquals(new Integer[]{5, 3, 9, 1, 7}, rows);
+    }
+
+    @Test
+    public void testPage_topKAndSortPathsAgree() {
+        List<Integer> source = new ArrayList<>();
+        Random random = new Random(7L);
+        for (int i = 0; i < 1_000; i++) {
+            source.add(random.nextInt(100));
+        }
+        List<Integer> sorted = new ArrayList<>(source);
+        sorted.sort(Comparator.naturalOrder());
+
+        // Page 2 stays under size / TOP_K_DIVISOR (heap), page 30 takes the full sort.
+        for (long pageNo : new long[]{1L, 2L, 30L, 100L, 101L}) {
+            PageResult<Integer> page = InMemoryPager.page(source, Comparator.naturalOrder(), pagination(pageNo, 10L));
+
+            int from = (int) Math.min((pageNo - 1L) * 10L, sorted.size());
+            int to = (int) Math.min(from + 10L, sorted.size());
+            Assert.assertEquals("pageNo: " + pageNo, sorted.subList(from, to), page.getData().getList());
+            Assert.assertEquals(1_000L, page.getData().countAsLong());
+        }
+    }
+
+    @Test
+    public void testIndex_pagesTheSnapshot() {
+        List<Integer> source = new ArrayList<>(Arrays.asList(4, 2, 8, 6));
+        SortedPageIndex<Integer> index = InMemoryPager.index(source, Comparator.naturalOrder());
+        source.clear();
+
+        Assert.assertEquals(Arrays.asList(2, 4, 6, 8), index.sorted());
+        Assert.assertEquals(Arrays.asList(6, 8), index.page(pagination(2L, 2L)).getData().getList());
+        Assert.assertTrue(index.page(pagination(3L, 2L)).getData().getList().isEmpty());
+    }
+
+    // ----------------------------------------------------------------
+
+    private static void assertSameRows(List<int[]> expected, List<int[]> actual) {
+        Assert.assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            Assert.assertArrayEquals("row: " + i, expected.get(i), actual.get(i));
+        }
+    }
+
+    private static AbstractPagination pagination(long pageNo, long pageSize) {
+        Page page = new Page();
+        page.setPageNo(pageNo);
+        page.setPageSize(pageSize);
+
+        return page;
+    }
+
+    private static class Page extends AbstractPagination {
+
+        private static final long serialVersionUID = 1L;
+    }
+}
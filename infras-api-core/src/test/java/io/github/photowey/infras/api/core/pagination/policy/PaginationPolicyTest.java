@@ -0,0 +1,184 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.core.pagination.policy;
+
+import io.github.photowey.infras.api.core.meta.count.CountMode;
+import io.github.photowey.infras.api.core.meta.count.CountStrategies;
+import io.github.photowey.infras.api.core.meta.count.CountStrategy;
+import io.github.photowey.infras.api.core.pagination.AbstractPagination;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * {@code PaginationPolicyTest}
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public class PaginationPolicyTest {
+
+    private static final CountStrategy EXACT = CountStrategies.exact();
+
+    private final PaginationPolicy policy = PaginationPolicy.builder()
+            .rejectAbove(1_000_000L)
+            .degradeAbove(10_000L, CountStrategies.capped(10_000L))
+            .clampAbove(100_000L)
+            .build();
+
+    // ----------------------------------------------------------------
+
+    @Test
+    public void testEvaluate_allowed() {
+        PaginationVerdict verdict = this.policy.evaluate(101L, 100L);
+
+        Assert.assertEquals(PaginationDecision.ALLOWED, verdict.decision());
+        Assert.assertEquals(101L, verdict.pageNoAsLong());
+        Assert.assertEquals(10_000L, verdict.offset());
+        Assert.assertNull(verdict.rule());
+        Assert.assertSame(EXACT, verdict.countStrategy(EXACT));
+    }
+
+    @Test
+    public void testEvaluate_degraded() {
+        PaginationVerdict verdict = this.policy.evaluate(102L, 100L);
+
+        Assert.assertEquals(PaginationDecision.DEGRADED, verdict.decision());
+        Assert.assertEquals(102L, verdict.pageNoAsLong());
+        Assert.assertEquals(CountMode.CAPPED, verdict.countStrategy(EXACT).mode());
+    }
+
+    @Test
+    public void testEvaluate_clampedToTheLastPageWithinTheLimit() {
+        PaginationVerdict verdict = this.policy.evaluate(5_000L, 100L);
+
+        Assert.assertEquals(PaginationDecision.CLAMPED, verdict.decision());
+        Assert.assertEquals(5_000L, verdict.requestedPageNo());
+        Assert.assertEquals(1_001L, verdict.pageNoAsLong());
+    }
+
+    @Test
+    public void testEvaluate_clampedAboveTheDegradeTierDegrades() {
+        PaginationVerdict verdict = this.policy.evaluate(5_000L, 100L);
+
+        Assert.assertEquals(PaginationDecision.CLAMPED, verdict.decision());
+        Assert.assertEquals(CountMode.CAPPED, verdict.countStrategy(EXACT).mode());
+    }
+
+    @Test
+    public void testEvaluate_clampedBelowEveryOtherTierKeepsTheCount() {
+        PaginationPolicy clampOnly = PaginationPolicy.builder().clampAbove(100_000L).build();
+
+        Assert.assertSame(EXACT, clampOnly.evaluate(5_000L, 100L).countStrategy(EXACT));
+    }
+
+    @Test
+    public void testEvaluate_clampedIntoARejectTierRejects() {
+        PaginationPolicy inverted = PaginationPolicy.builder().rejectAbove(1_000L).clampAbove(100_000L).build();
+
+        PaginationVerdict verdict = inverted.evaluate(5_000L, 100L);
+
+        Assert.assertEquals(PaginationDecision.REJECTED, verdict.decision());
+        Assert.assertEquals(1_000L, verdict.rule().maxOffset());
+    }
+
+    @Test
+    public void testEvaluate_highestExceededRuleApplies() {
+        PaginationVerdict verdict = this.policy.evaluate(20_000L, 100L);
+
+        Assert.assertEquals(PaginationDecision.REJECTED, verdict.decision());
+        Assert.assertEquals(1_000_000L, verdict.rule().maxOffset());
+    }
+
+    @Test(expected = PaginationRejectedException.class)
+    public void testEvaluate_rejected() {
+        this.policy.evaluate(20_000L, 100L).pageNoAsLong();
+    }
+
+    @Test
+    public void testEvaluate_saturatesTheOffset() {
+        PaginationVerdict verdict = this.policy.evaluate(Long.MAX_VALUE, 100L);
+
+        Assert.assertEquals(Long.MAX_VALUE, verdict.offset());
+        Assert.assertEquals(PaginationDecision.REJECTED, verdict.decision());
+    }
+
+    @Test
+    public void testBuild_withoutRulesIsUnlimited() {
+        Assert.assertSame(PaginationPolicy.unlimited(), PaginationPolicy.builder().build());
+        Assert.assertEquals(PaginationDecision.ALLOWED, PaginationPolicy.unlimited().evaluate(Long.MAX_VALUE, 100L).decision());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBuild_duplicateMaxOffset() {
+        PaginationPolicy.builder().clampAbove(100L).rejectAbove(100L);
+    }
+
+    @Test
+    public void testPagination_appliesTheInstancePolicy() {
+        Page page = new Page().policy(this.policy);
+        page.setPageSize(100L);
+        page.setPageNo(5_000L);
+
+        Assert.assertEquals(1_001L, page.pageNoAsLong());
+        Assert.assertEquals(100_000L, page.offsetAsLong());
+
+        page.setPageNo(2L);
+        Assert.assertEquals(PaginationDecision.ALLOWED, page.verdict().decision());
+        Assert.assertEquals(2L, page.pageNoAsLong());
+    }
+
+    @Test
+    public void testPagination_reEvaluatesAfterDirectFieldWrites() {
+        Page page = new Page().policy(this.policy);
+        page.setPageSize(100L);
+        Assert.assertEquals(PaginationDecision.ALLOWED, page.verdict().decision());
+
+        page.assign(20_000L);
+        Assert.assertEquals(PaginationDecision.REJECTED, page.verdict().decision());
+    }
+
+    @Test(expected = PaginationRejectedException.class)
+    public void testPagination_selectPageRejectsEarly() {
+        new Page().policy(this.policy).selectPage(20_000L, 100L);
+    }
+
+    @Test
+    public void testPagination_gettersOfARejectedPageDoNotThrow() {
+        Page page = new Page().policy(this.policy);
+        page.selectPageAsLong(20_000L, 100L);
+
+        Assert.assertEquals(Long.valueOf(20_000L), page.getPageNo());
+        Assert.assertEquals(1_999_900L, page.offsetAsLong());
+        try {
+            page.ensureAllowed();
+            Assert.fail("A rejected page must fail at the query boundary");
+        } catch (PaginationRejectedException expected) {
+            Assert.assertEquals(PaginationDecision.REJECTED, expected.verdict().decision());
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    private static class Page extends AbstractPagination {
+
+        private static final long serialVersionUID = 1L;
+
+        void assign(long pageNo) {
+            this.pageNo = pageNo;
+        }
+    }
+}
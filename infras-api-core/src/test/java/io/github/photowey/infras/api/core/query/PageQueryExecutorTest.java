@@ -0,0 +1,198 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.core.query;
+
+import io.github.photowey.infras.api.core.meta.count.CountMode;
+import io.github.photowey.infras.api.core.meta.count.CountStrategies;
+import io.github.photowey.infras.api.core.model.page.PageResult;
+import io.github.photowey.infras.api.core.model.page.struct.ListStruct;
+import io.github.photowey.infras.api.core.pagination.AbstractPagination;
+import io.github.photowey.infras.api.core.pagination.policy.PaginationPolicy;
+import io.github.photowey.infras.api.core.pagination.policy.PaginationRejectedException;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * {@code PageQueryExecutorTest}
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public class PageQueryExecutorTest {
+
+    private final ExecutorService pool = Executors.newFixedThreadPool(2);
+    private final PageQueryExecutor executor = PageQueryExecutor.of(this.pool, 5L, TimeUnit.SECONDS);
+
+    @After
+    public void shutdown() {
+        this.pool.shutdownNow();
+    }
+
+    // ----------------------------------------------------------------
+
+    @Test
+    public void testExecute_countAndPage() {
+        PageResult<Integer> page = this.executor.execute(pagination(2L, 2L), () -> 5L, () -> Arrays.asList(3, 4));
+
+        Assert.assertEquals(Arrays.asList(3, 4), page.getData().getList());
+        ListStruct<Integer> struct = page.getData();
+        Assert.assertEquals(Long.valueOf(5L), struct.getCount());
+        Assert.assertEquals(Long.valueOf(2L), struct.getPageNo());
+        Assert.assertEquals(Long.valueOf(2L), struct.getPageSize());
+    }
+
+    @Test
+    public void testExecute_exhaustedCountCancelsThePageQuery() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        PageResult<Integer> page = this.executor.execute(pagination(3L, 10L), () -> {
+            await(started);
+            return 20L;
+        }, () -> {
+            started.countDown();
+            try {
+                new CountDownLatch(1).await();
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return Arrays.asList(1);
+        });
+
+        Assert.assertTrue(page.getData().getList().isEmpty());
+        Assert.assertEquals(20L, page.getData().countAsLong());
+        Assert.assertTrue(interrupted.await(5L, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testExecute_countFailureIsRethrown() {
+        try {
+            this.executor.execute(pagination(1L, 10L), () -> {
+                throw new IllegalStateException("count failed");
+            }, () -> Arrays.asList(1));
+            Assert.fail("The count failure must be rethrown");
+        } catch (IllegalStateException expected) {
+            Assert.assertEquals("count failed", expected.getMessage());
+        }
+    }
+
+    @Test
+    public void testExecute_degradedPageUsesTheVerdictStrategy() {
+        AbstractPagination pagination = pagination(3L, 10L).policy(PaginationPolicy.builder()
+                .degradeAbove(10L, CountStrategies.none())
+                .build());
+        AtomicBoolean counted = new AtomicBoolean();
+
+        PageResult<Integer> page = this.executor.execute(pagination, () -> {
+            counted.set(true);
+            return 100L;
+        }, () -> rows(11));
+
+        Assert.assertFalse(counted.get());
+        Assert.assertEquals(10, page.getData().getList().size());
+        ListStruct<Integer> struct = page.getData();
+        Assert.assertEquals(CountMode.NONE, struct.getCountMode());
+        Assert.assertEquals(Boolean.TRUE, struct.getHasNext());
+        Assert.assertEquals(30L, page.getData().countAsLong());
+    }
+
+    @Test(expected = PaginationRejectedException.class)
+    public void testSubmit_rejectedPageStartsNoQuery() {
+        AbstractPagination pagination = pagination(3L, 10L).policy(PaginationPolicy.builder().rejectAbove(10L).build());
+
+        this.executor.submit(pagination, () -> {
+            throw new AssertionError("count must not run");
+        }, () -> {
+            throw new AssertionError("page must not run");
+        });
+    }
+
+    @Test
+    public void testSubmit_rejectedPageQueryCancelsTheCount() {
+        List<Runnable> accepted = new ArrayList<>();
+        Executor single = task -> {
+            if (!accepted.isEmpty()) {
+                throw new RejectedExecutionException("saturated");
+            }
+            accepted.add(task);
+        };
+        AtomicBoolean counted = new AtomicBoolean();
+
+        try {
+            PageQueryExecutor.of(single).submit(pagination(1L, 10L), () -> {
+                counted.set(true);
+                return 1L;
+            }, () -> Arrays.asList(1));
+            Assert.fail("The rejection must be rethrown");
+        } catch (RejectedExecutionException expected) {
+            Assert.assertEquals("saturated", expected.getMessage());
+        }
+
+        accepted.get(0).run();
+        Assert.assertFalse(counted.get());
+    }
+
+    @Test
+    public void testOfVirtualThreads_sharesTheExecutor() {
+        Assert.assertSame(PageQueryExecutor.ofVirtualThreads(this.pool).executor(), PageQueryExecutor.ofVirtualThreads(this.pool).executor());
+    }
+
+    // ----------------------------------------------------------------
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static List<Integer> rows(int size) {
+        List<Integer> rows = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            rows.add(i);
+        }
+
+        return rows;
+    }
+
+    private static AbstractPagination pagination(long pageNo, long pageSize) {
+        Page page = new Page();
+        page.setPageNo(pageNo);
+        page.setPageSize(pageSize);
+
+        return page;
+    }
+
+    private static class Page extends AbstractPagination {
+
+        private static final long serialVersionUID = 1L;
+    }
+}
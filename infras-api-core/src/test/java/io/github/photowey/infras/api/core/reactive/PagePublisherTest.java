@@ -0,0 +1,241 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.core.reactive;
+
+import io.github.photowey.infras.api.core.meta.Meta;
+import io.github.photowey.infras.api.core.model.page.PageResult;
+import io.github.photowey.infras.api.core.model.page.struct.StreamingListStruct;
+import org.junit.Assert;
+import org.junit.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * {@code PagePublisherTest}
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public class PagePublisherTest {
+
+    private static final Meta META = Meta.populateMeta(3L, 1L, 10L);
+
+    // ----------------------------------------------------------------
+
+    @Test
+    public void testRequest_emitsTheMetaThenTheItemsOnDemand() {
+        Recorder<Integer> recorder = new Recorder<>();
+        PagePublisher.of(PageResult.staticOf(Arrays.asList(1, 2, 3), META)).subscribe(recorder);
+
+        Assert.assertTrue(recorder.signals.isEmpty());
+
+        recorder.subscription.request(1L);
+        Assert.assertEquals(1, recorder.signals.size());
+        Assert.assertTrue(recorder.signals.get(0).determineIsMeta());
+        Assert.assertEquals(Long.valueOf(3L), recorder.signals.get(0).meta().getCount());
+
+        recorder.subscription.request(2L);
+        Assert.assertEquals(Arrays.asList(1, 2), recorder.items());
+        Assert.assertFalse(recorder.completed);
+
+        recorder.subscription.request(1L);
+        Assert.assertEquals(Arrays.asList(1, 2, 3), recorder.items());
+        Assert.assertTrue("An in-memory page completes with its last item", recorder.completed);
+    }
+
+    @Test
+    public void testRequest_lazySourceCompletesOnTheNextRequest() {
+        Recorder<Integer> recorder = new Recorder<>();
+        PagePublisher.of(META, Arrays.asList(1, 2).iterator()).subscribe(recorder);
+
+        recorder.subscription.request(3L);
+        Assert.assertEquals(Arrays.asList(1, 2), recorder.items());
+        Assert.assertFalse(recorder.completed);
+
+        recorder.subscription.request(1L);
+        Assert.assertTrue(recorder.completed);
+    }
+
+    @Test
+    public void testRequest_reentrantRequestsDoNotRecurse() {
+        Recorder<Integer> recorder = new Recorder<>();
+        recorder.onNext = signal -> recorder.subscription.request(1L);
+        PagePublisher.of(META, IntStream.range(0, 100_000).boxed().iterator()).subscribe(recorder);
+
+        recorder.subscription.request(1L);
+
+        Assert.assertEquals(100_000, recorder.items().size());
+        Assert.assertEquals(Integer.valueOf(99_999), recorder.items().get(99_999));
+        Assert.assertTrue(recorder.completed);
+    }
+
+    @Test
+    public void testRequest_nonPositiveDemandFails() {
+        Recorder<Integer> recorder = new Recorder<>();
+        AtomicBoolean closed = new AtomicBoolean();
+        Stream<Integer> stream = Stream.of(1, 2).onClose(() -> closed.set(true));
+        PagePublisher.of(StreamingListStruct.ofStream(stream, META)).subscribe(recorder);
+
+        recorder.subscription.request(0L);
+
+        Assert.assertTrue(recorder.error instanceof IllegalArgumentException);
+        Assert.assertTrue(closed.get());
+        Assert.assertTrue(recorder.signals.isEmpty());
+    }
+
+    @Test
+    public void testCancel_closesTheSourceAndStopsTheSignals() {
+        Recorder<Integer> recorder = new Recorder<>();
+        AtomicBoolean closed = new AtomicBoolean();
+        Stream<Integer> stream = Stream.of(1, 2, 3).onClose(() -> closed.set(true));
+        PagePublisher.of(StreamingListStruct.ofStream(stream, META)).subscribe(recorder);
+
+        recorder.subscription.request(2L);
+        recorder.subscription.cancel();
+        recorder.subscription.request(5L);
+
+        Assert.assertTrue(closed.get());
+        Assert.assertEquals(Arrays.asList(1), recorder.items());
+        Assert.assertFalse(recorder.completed);
+        Assert.assertNull(recorder.error);
+    }
+
+    @Test
+    public void testCancel_fromOnNextStopsAtOnce() {
+        Recorder<Integer> recorder = new Recorder<>();
+        recorder.onNext = signal -> {
+            if (!signal.determineIsMeta() && 2 == signal.item()) {
+                recorder.subscription.cancel();
+            }
+        };
+        PagePublisher.of(META, Arrays.asList(1, 2, 3, 4).iterator()).subscribe(recorder);
+
+        recorder.subscription.request(Long.MAX_VALUE);
+
+        Assert.assertEquals(Arrays.asList(1, 2), recorder.items());
+        Assert.assertFalse(recorder.completed);
+    }
+
+    @Test
+    public void testSource_failureIsSignalled() {
+        Recorder<Integer> recorder = new Recorder<>();
+        Iterator<Integer> failing = new Iterator<Integer>() {
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public Integer next() {
+                throw new IllegalStateException("fetch failed");
+            }
+        };
+        PagePublisher.of(META, failing).subscribe(recorder);
+
+        recorder.subscription.request(2L);
+
+        Assert.assertEquals("fetch failed", recorder.error.getMessage());
+        Assert.assertEquals(1, recorder.signals.size());
+    }
+
+    @Test
+    public void testExecutor_pullsOnTheExecutorAndSignalsRejection() {
+        List<Runnable> tasks = new ArrayList<>();
+        Recorder<Integer> queued = new Recorder<>();
+        PagePublisher.<Integer>of(META, Arrays.asList(1, 2).iterator()).executor(tasks::add).subscribe(queued);
+
+        queued.subscription.request(2L);
+        Assert.assertTrue(queued.signals.isEmpty());
+        tasks.get(0).run();
+        Assert.assertEquals(Arrays.asList(1), queued.items());
+
+        Recorder<Integer> rejected = new Recorder<>();
+        PagePublisher.<Integer>of(META, Arrays.asList(1, 2).iterator()).executor(task -> {
+            throw new RejectedExecutionException("saturated");
+        }).subscribe(rejected);
+
+        rejected.subscription.request(1L);
+        Assert.assertTrue(rejected.error instanceof IllegalStateException);
+    }
+
+    @Test
+    public void testSubscribe_secondSubscriberFails() {
+        PagePublisher<Integer> publisher = PagePublisher.of(META, Arrays.asList(1, 2).iterator());
+        publisher.subscribe(new Recorder<>());
+
+        Recorder<Integer> second = new Recorder<>();
+        publisher.subscribe(second);
+
+        Assert.assertNotNull(second.subscription);
+        Assert.assertTrue(second.error instanceof IllegalStateException);
+    }
+
+    // ----------------------------------------------------------------
+
+    private static class Recorder<T> implements Subscriber<PageSignal<T>> {
+
+        private final List<PageSignal<T>> signals = new ArrayList<>();
+
+        private Subscription subscription;
+        private Consumer<PageSignal<T>> onNext = signal -> {
+        };
+        private Throwable error;
+        private boolean completed;
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(PageSignal<T> signal) {
+            this.signals.add(signal);
+            this.onNext.accept(signal);
+        }
+
+        @Override
+        public void onError(Throwable error) {
+            this.error = error;
+        }
+
+        @Override
+        public void onComplete() {
+            this.completed = true;
+        }
+
+        private List<T> items() {
+            List<T> items = new ArrayList<>();
+            for (PageSignal<T> signal : this.signals) {
+                if (!signal.determineIsMeta()) {
+                    items.add(signal.item());
+                }
+            }
+
+            return items;
+        }
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.core.shard;
+
+import io.github.photowey.infras.api.core.meta.Meta;
+import io.github.photowey.infras.api.core.meta.count.CountMode;
+import io.github.photowey.infras.api.core.meta.count.CountStrategies;
+import io.github.photowey.infras.api.core.model.page.PageResult;
+import io.github.photowey.infras.api.core.model.page.struct.ListStruct;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * {@code ShardPageMergerTest}
+ * <p>
+ * The merged page must agree with a stable sort of all the shard rows, concatenated in shard order.
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public class ShardPageMergerTest {
+
+    /**
+     * Compares the rank only, so equal ranks expose the tie order.
+     */
+    private static final Comparator<int[]> BY_RANK = Comparator.comparingInt(row -> row[0]);
+
+    // ----------------------------------------------------------------
+
+    @Test
+    public void testMerge_matchesStableSortOfAllShards() {
+        Random random = new Random(20261018L);
+        for (int round = 0; round < 200; round++) {
+            int shardCount = 1 + random.nextInt(5);
+            long pageSize = 1 + random.nextInt(10);
+            long pageNo = 1 + random.nextInt(6);
+            ShardWindow window = ShardPageMerger.window(pageNo, pageSize);
+
+            List<int[]> all = new ArrayList<>();
+            List<PageResult<int[]>> shards = new ArrayList<>();
+            long total = 0L;
+            for (int shard = 0; shard < shardCount; shard++) {
+                int size = random.nextInt(40);
+                List<int[]> rows = new ArrayList<>();
+                for (int i = 0; i < size; i++) {
+                    rows.add(new int[]{random.nextInt(10), shard, i});
+                }
+                rows.sort(BY_RANK);
+                all.addAll(rows);
+                total += size;
+
+                List<int[]> fetched = rows.subList(0, (int) Math.min(rows.size(), window.limit()));
+                shards.add(PageResult.staticOf(new ArrayList<>(fetched), Meta.populateMeta((long) size, 1L, window.limit())));
+            }
+            all.sort(BY_RANK);
+
+            PageResult<int[]> page = ShardPageMerger.merge(shards, BY_RANK, window);
+
+            int from = (int) Math.min(window.offset(), all.size());
+            int to = (int) Math.min(window.limit(), all.size());
+            assertSameRows("round: " + round, all.subList(from, to), page.getData().getList());
+            Assert.assertEquals(total, page.getData().countAsLong());
+            Assert.assertEquals(Long.valueOf(pageNo), page.getData().getPageNo());
+        }
+    }
+
+    @Test
+    public void testMerge_stopsPullingOnceThePageIsFull() {
+        AtomicInteger pulled = new AtomicInteger();
+        AtomicBoolean closed = new AtomicBoolean();
+        Stream<Integer> stream = IntStream.range(0, 1_000).boxed().peek(row -> pulled.incrementAndGet()).onClose(() -> closed.set(true));
+        PageResult<Integer> lazy = PageResult.streamOf(stream, Meta.populateMeta(1_000L, 1L, 1_000L));
+        PageResult<Integer> small = PageResult.staticOf(Arrays.asList(0, 1, 2), Meta.populateMeta(3L, 1L, 10L));
+
+        PageResult<Integer> page = ShardPageMerger.merge(Arrays.asList(lazy, small), Comparator.naturalOrder(), 2L, 3L);
+
+        Assert.assertEquals(Arrays.asList(1, 2, 2), page.getData().getList());
+        Assert.assertTrue(pulled.get() < 10);
+        Assert.assertTrue(closed.get());
+        Assert.assertEquals(1_003L, page.getData().countAsLong());
+    }
+
+    @Test
+    public void testMerge_weakestCountModeWins() {
+        PageResult<Integer> exact = PageResult.staticOf(Arrays.asList(1, 3), Meta.populateMeta(2L, 1L, 10L));
+        PageResult<Integer> estimated = PageResult.staticOf(Arrays.asList(2),
+                CountStrategies.estimated().populateMeta(40L, 1L, 10L, 1L));
+
+        ListStruct<Integer> merged = ShardPageMerger.merge(Arrays.asList(exact, estimated), Comparator.naturalOrder(), 1L, 10L).getData();
+
+        Assert.assertEquals(Arrays.asList(1, 2, 3), merged.getList());
+        Assert.assertEquals(CountMode.ESTIMATED, merged.getCountMode());
+        Assert.assertEquals(42L, merged.countAsLong());
+    }
+
+    @Test
+    public void testMerge_uncountedShardKeepsOnlyTheRowsSeen() {
+        PageResult<Integer> exact = PageResult.staticOf(Arrays.asList(1, 3, 5), Meta.populateMeta(3L, 1L, 4L));
+        PageResult<Integer> uncounted = PageResult.staticOf(Arrays.asList(2, 4, 6),
+                CountStrategies.none().populateMeta(null, 1L, 4L, 3L));
+
+        ListStruct<Integer> merged = ShardPageMerger.merge(Arrays.asList(exact, uncounted), Comparator.naturalOrder(), 2L, 2L).getData();
+
+        Assert.assertEquals(Arrays.asList(3, 4), merged.getList());
+        Assert.assertEquals(CountMode.NONE, merged.getCountMode());
+        Assert.assertEquals(4L, merged.countAsLong());
+        Assert.assertEquals(Boolean.TRUE, merged.getHasNext());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMerge_shardWithoutData() {
+        ShardPageMerger.merge(Arrays.asList(PageResult.<Integer>create("500", "err")), Comparator.naturalOrder(), 1L, 10L);
+    }
+
+    @Test
+    public void testWindow() {
+        ShardWindow window = ShardPageMerger.window(3L, 10L);
+        Assert.assertEquals(20L, window.offset());
+        Assert.assertEquals(30L, window.limit());
+
+        Assert.assertEquals(Long.MAX_VALUE, ShardPageMerger.window(Long.MAX_VALUE, 10L).limit());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testWindow_invalidPageNo() {
+        ShardPageMerger.window(0L, 10L);
+    }
+
+    // ----------------------------------------------------------------
+
+    private static void assertSameRows(String message, List<int[]> expected, List<int[]> actual) {
+        Assert.assertEquals(message, expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            Assert.assertArrayEquals(message + ", row: " + i, expected.get(i), actual.get(i));
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.starter.cache;
+
+import io.github.photowey.infras.api.core.cache.PageResultCache;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@code InfrasApiCacheAutoConfiguration}
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnClass(PageResultCache.class)
+@ConditionalOnProperty(prefix = InfrasApiCacheProperties.PREFIX, name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(InfrasApiCacheProperties.class)
+public class InfrasApiCacheAutoConfiguration {
+
+    public static final String REFRESH_EXECUTOR_BEAN_NAME = "infrasApiCacheRefreshExecutor";
+
+    /**
+     * Bounded, so a slow count query cannot pile up refreshes;
+     * a rejected refresh keeps serving the stale count and is retried by the next hit.
+     */
+    @Bean(name = REFRESH_EXECUTOR_BEAN_NAME, destroyMethod = "shutdown")
+    @ConditionalOnMissingBean(name = REFRESH_EXECUTOR_BEAN_NAME)
+    public ExecutorService infrasApiCacheRefreshExecutor(InfrasApiCacheProperties properties) {
+        InfrasApiCacheProperties.Count count = properties.getCount();
+        int threads = Math.max(count.getRefreshThreads(), 1);
+
+        return new ThreadPoolExecutor(
+                threads,
+                threads,
+                60L,
+                TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(Math.max(count.getRefreshQueueCapacity(), 1)),
+                new RefreshThreadFactory()
+        );
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public PageResultCache pageResultCache(
+            InfrasApiCacheProperties properties,
+            @Qualifier(REFRESH_EXECUTOR_BEAN_NAME) ExecutorService refreshExecutor) {
+        InfrasApiCacheProperties.Page page = properties.getPage();
+        InfrasApiCacheProperties.Count count = properties.getCount();
+
+        return PageResultCache.builder()
+                .pageMaximumSize(page.getMaximumSize())
+                .pageExpireAfterWrite(page.getExpireAfterWrite().toNanos(), TimeUnit.NANOSECONDS)
+                .countMaximumSize(count.getMaximumSize())
+                .countExpireAfterWrite(count.getExpireAfterWrite().toNanos(), TimeUnit.NANOSECONDS)
+                .countRefreshAfterWrite(count.getRefreshAfterWrite().toNanos(), TimeUnit.NANOSECONDS)
+                .refreshExecutor(refreshExecutor)
+                .build();
+    }
+
+    // ----------------------------------------------------------------
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "org.springframework.boot.actuate.endpoint.annotation.Endpoint")
+    static class PageResultCacheEndpointConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public PageResultCacheEndpoint pageResultCacheEndpoint(PageResultCache pageResultCache) {
+            return new PageResultCacheEndpoint(pageResultCache);
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    private static class RefreshThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable task) {
+            Thread thread = new Thread(task, "infras-api-cache-refresh-" + this.sequence.incrementAndGet());
+            thread.setDaemon(true);
+
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.starter.cache;
+
+import io.github.photowey.infras.api.core.cache.PageCacheStats;
+import io.github.photowey.infras.api.core.cache.PageResultCache;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * {@code PageResultCacheEndpoint}
+ * <p>
+ * {@code /actuator/infrasapicache}: hit/miss/eviction statistics of the page and count caches,
+ * {@code DELETE} drops every cached entry.
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+@Endpoint(id = "infrasapicache")
+public class PageResultCacheEndpoint {
+
+    private final PageResultCache pageResultCache;
+
+    public PageResultCacheEndpoint(PageResultCache pageResultCache) {
+        this.pageResultCache = pageResultCache;
+    }
+
+    @ReadOperation
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>(4);
+        stats.put("page", this.populateStats(this.pageResultCache.pageSize(), this.pageResultCache.pageStats()));
+        stats.put("count", this.populateStats(this.pageResultCache.countSize(), this.pageResultCache.countStats()));
+
+        return stats;
+    }
+
+    @DeleteOperation
+    public void evictAll() {
+        this.pageResultCache.evictAll();
+    }
+
+    private Map<String, Object> populateStats(int size, PageCacheStats stats) {
+        Map<String, Object> view = new LinkedHashMap<>(16);
+        view.put("size", size);
+        view.put("hits", stats.hitCount());
+        view.put("misses", stats.missCount());
+        view.put("hitRate", stats.hitRate());
+        view.put("evictions", stats.evictionCount());
+        view.put("expirations", stats.expirationCount());
+        view.put("refreshes", stats.refreshCount());
+        view.put("loadFailures", stats.loadFailureCount());
+
+        return view;
+    }
+}
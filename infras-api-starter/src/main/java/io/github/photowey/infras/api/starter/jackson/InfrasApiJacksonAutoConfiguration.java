@@ -0,0 +1,43 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.starter.jackson;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.photowey.infras.api.core.jackson.InfrasApiModule;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * {@code InfrasApiJacksonAutoConfiguration}
+ * <p>
+ * Spring Boot registers every {@code Module} bean into the auto-configured {@link ObjectMapper}.
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnClass(ObjectMapper.class)
+public class InfrasApiJacksonAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public InfrasApiModule infrasApiModule() {
+        return new InfrasApiModule();
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.starter.metrics;
+
+import io.github.photowey.infras.api.core.metrics.HistogramPaginationMetricsRecorder;
+import io.github.photowey.infras.api.core.metrics.PaginationMetricsRecorder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * {@code InfrasApiMetricsAutoConfiguration}
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = InfrasApiMetricsAutoConfiguration.PREFIX, name = "enabled", havingValue = "true", matchIfMissing = true)
+public class InfrasApiMetricsAutoConfiguration {
+
+    public static final String PREFIX = "infras.api.metrics";
+
+    @Bean
+    @ConditionalOnMissingBean
+    public PaginationMetricsRecorder paginationMetricsRecorder() {
+        return new HistogramPaginationMetricsRecorder();
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public PaginationMetricsRegistration paginationMetricsRegistration(PaginationMetricsRecorder paginationMetricsRecorder) {
+        return new PaginationMetricsRegistration(paginationMetricsRecorder);
+    }
+
+    // ----------------------------------------------------------------
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "io.micrometer.core.instrument.binder.MeterBinder")
+    static class PaginationMetricsBinderConfiguration {
+
+        /**
+         * Picked up by Spring Boot's meter registry post-processor.
+         */
+        @Bean
+        @ConditionalOnMissingBean
+        public PaginationMetricsBinder paginationMetricsBinder(PaginationMetricsRecorder paginationMetricsRecorder) {
+            return new PaginationMetricsBinder(paginationMetricsRecorder);
+        }
+    }
+}
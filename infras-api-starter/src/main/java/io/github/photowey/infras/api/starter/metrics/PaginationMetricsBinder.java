@@ -0,0 +1,97 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.starter.metrics;
+
+import io.github.photowey.infras.api.core.metrics.HistogramPaginationMetricsRecorder;
+import io.github.photowey.infras.api.core.metrics.LongHistogram;
+import io.github.photowey.infras.api.core.metrics.PaginationMetricsRecorder;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * {@code PaginationMetricsBinder}
+ * <p>
+ * Exposes the {@link HistogramPaginationMetricsRecorder} histograms to Micrometer.
+ * For each of {@code infras.api.pagination.page.no}, {@code .page.size}, {@code .offset},
+ * {@code .list.size} and {@code .serialized.bytes}:
+ * <ul>
+ *     <li>{@code <name>.count} and {@code <name>.total}: function counters</li>
+ *     <li>{@code <name>.max}: gauge</li>
+ *     <li>{@code <name>.percentile}: gauges tagged {@code phi=0.5|0.9|0.99}, accurate within a factor of two</li>
+ * </ul>
+ * plus the {@code infras.api.pagination.requests.oversized} counter.
+ * A custom {@link PaginationMetricsRecorder} is expected to bind its own meters, nothing is bound for it.
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public class PaginationMetricsBinder implements MeterBinder {
+
+    public static final String PREFIX = "infras.api.pagination";
+
+    private static final double[] PERCENTILES = {0.5D, 0.9D, 0.99D};
+
+    private final PaginationMetricsRecorder recorder;
+
+    public PaginationMetricsBinder(PaginationMetricsRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (!(this.recorder instanceof HistogramPaginationMetricsRecorder)) {
+            return;
+        }
+
+        HistogramPaginationMetricsRecorder histograms = (HistogramPaginationMetricsRecorder) this.recorder;
+        bindHistogram(registry, PREFIX + ".page.no", "The requested page numbers", null, histograms.pageNo());
+        bindHistogram(registry, PREFIX + ".page.size", "The requested page sizes, before clamping", null, histograms.pageSize());
+        bindHistogram(registry, PREFIX + ".offset", "The offsets of the page queries", null, histograms.offset());
+        bindHistogram(registry, PREFIX + ".list.size", "The number of items per page", null, histograms.listSize());
+        bindHistogram(registry, PREFIX + ".serialized.bytes", "The written page sizes", "bytes", histograms.serializedBytes());
+
+        FunctionCounter.builder(PREFIX + ".requests.oversized", histograms, HistogramPaginationMetricsRecorder::oversizedRequests)
+                .description("The page requests asking for more than the threshold page size")
+                .register(registry);
+    }
+
+    // ----------------------------------------------------------------
+
+    private static void bindHistogram(MeterRegistry registry, String name, String description, String unit, LongHistogram histogram) {
+        FunctionCounter.builder(name + ".count", histogram, LongHistogram::count)
+                .description(description)
+                .register(registry);
+        FunctionCounter.builder(name + ".total", histogram, LongHistogram::sum)
+                .description(description)
+                .baseUnit(unit)
+                .register(registry);
+        Gauge.builder(name + ".max", histogram, LongHistogram::max)
+                .description(description)
+                .baseUnit(unit)
+                .register(registry);
+
+        for (double percentile : PERCENTILES) {
+            Gauge.builder(name + ".percentile", histogram, target -> target.percentile(percentile))
+                    .description(description)
+                    .baseUnit(unit)
+                    .tag("phi", String.valueOf(percentile))
+                    .register(registry);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.starter.pagination;
+
+import io.github.photowey.infras.api.core.meta.count.CountStrategies;
+import io.github.photowey.infras.api.core.pagination.policy.OffsetAction;
+import io.github.photowey.infras.api.core.pagination.policy.OffsetRule;
+import io.github.photowey.infras.api.core.pagination.policy.PaginationPolicy;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * {@code InfrasApiPaginationAutoConfiguration}
+ * <p>
+ * Installs the deep-offset {@link PaginationPolicy}, e.g.
+ * <pre>
+ * infras:
+ *   api:
+ *     pagination:
+ *       policy:
+ *         rules:
+ *           - max-offset: 10000
+ *             action: DEGRADE
+ *             count-cap: 10000
+ *           - max-offset: 100000
+ *             action: REJECT
+ * </pre>
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(InfrasApiPaginationProperties.class)
+public class InfrasApiPaginationAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public PaginationPolicy paginationPolicy(InfrasApiPaginationProperties properties) {
+        PaginationPolicy.PaginationPolicyBuilder builder = PaginationPolicy.builder();
+        for (InfrasApiPaginationProperties.Rule rule : properties.getPolicy().getRules()) {
+            builder.rule(this.populateRule(rule));
+        }
+
+        return builder.build();
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public PaginationPolicyRegistration paginationPolicyRegistration(PaginationPolicy paginationPolicy) {
+        return new PaginationPolicyRegistration(paginationPolicy);
+    }
+
+    // ----------------------------------------------------------------
+
+    private OffsetRule populateRule(InfrasApiPaginationProperties.Rule rule) {
+        OffsetAction action = rule.getAction();
+        if (null == action) {
+            throw new IllegalArgumentException("The offset action of the rule must not be null, max offset: " + rule.getMaxOffset());
+        }
+
+        switch (action) {
+            case CLAMP:
+                return OffsetRule.clamp(rule.getMaxOffset());
+            case DEGRADE:
+                return OffsetRule.degrade(
+                        rule.getMaxOffset(),
+                        rule.getCountCap() > 0 ? CountStrategies.capped(rule.getCountCap()) : CountStrategies.none()
+                );
+            default:
+                return OffsetRule.reject(rule.getMaxOffset());
+        }
+    }
+}
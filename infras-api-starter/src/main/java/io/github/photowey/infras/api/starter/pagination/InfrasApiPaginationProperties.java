@@ -0,0 +1,101 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.starter.pagination;
+
+import io.github.photowey.infras.api.core.pagination.policy.OffsetAction;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@code InfrasApiPaginationProperties}
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+@ConfigurationProperties(prefix = InfrasApiPaginationProperties.PREFIX)
+public class InfrasApiPaginationProperties {
+
+    public static final String PREFIX = "infras.api.pagination";
+
+    private Policy policy = new Policy();
+
+    // ----------------------------------------------------------------
+
+    public Policy getPolicy() {
+        return policy;
+    }
+
+    public void setPolicy(Policy policy) {
+        this.policy = policy;
+    }
+
+    // ----------------------------------------------------------------
+
+    public static class Policy {
+
+        /**
+         * No rules: any offset is allowed.
+         */
+        private List<Rule> rules = new ArrayList<>();
+
+        public List<Rule> getRules() {
+            return rules;
+        }
+
+        public void setRules(List<Rule> rules) {
+            this.rules = rules;
+        }
+    }
+
+    public static class Rule {
+
+        private long maxOffset;
+
+        private OffsetAction action = OffsetAction.REJECT;
+
+        /**
+         * The count cap of a {@link OffsetAction#DEGRADE degraded} page; {@code 0} skips the count query.
+         */
+        private long countCap = 0L;
+
+        public long getMaxOffset() {
+            return maxOffset;
+        }
+
+        public void setMaxOffset(long maxOffset) {
+            this.maxOffset = maxOffset;
+        }
+
+        public OffsetAction getAction() {
+            return action;
+        }
+
+        public void setAction(OffsetAction action) {
+            this.action = action;
+        }
+
+        public long getCountCap() {
+            return countCap;
+        }
+
+        public void setCountCap(long countCap) {
+            this.countCap = countCap;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.starter.pagination;
+
+import io.github.photowey.infras.api.core.pagination.policy.PaginationPolicies;
+import io.github.photowey.infras.api.core.pagination.policy.PaginationPolicy;
+
+/**
+ * {@code PaginationPolicyRegistration}
+ * <p>
+ * Installs the policy into {@link PaginationPolicies} for the lifetime of the application context.
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public class PaginationPolicyRegistration implements AutoCloseable {
+
+    private final PaginationPolicy policy;
+
+    public PaginationPolicyRegistration(PaginationPolicy policy) {
+        this.policy = PaginationPolicies.install(policy);
+    }
+
+    public PaginationPolicy policy() {
+        return policy;
+    }
+
+    /**
+     * Restores the unlimited policy, unless another policy has been installed since.
+     */
+    @Override
+    public void close() {
+        if (PaginationPolicies.policy() == this.policy) {
+            PaginationPolicies.reset();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.starter.reactive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.codec.CodecCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * {@code InfrasApiReactiveAutoConfiguration}
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@ConditionalOnClass({Publisher.class, CodecCustomizer.class, ObjectMapper.class})
+@ConditionalOnProperty(prefix = InfrasApiReactiveAutoConfiguration.PREFIX, name = "enabled", havingValue = "true", matchIfMissing = true)
+public class InfrasApiReactiveAutoConfiguration {
+
+    public static final String PREFIX = "infras.api.web.reactive";
+
+    @Bean
+    @ConditionalOnMissingBean
+    public PageSignalJsonEncoder pageSignalJsonEncoder(ObjectProvider<ObjectMapper> objectMapper) {
+        return new PageSignalJsonEncoder(objectMapper.getIfAvailable(ObjectMapper::new));
+    }
+
+    /**
+     * Custom codecs are consulted before the default Jackson encoder, which would collect the whole stream
+     * into a JSON array for {@code application/json}.
+     */
+    @Bean
+    public CodecCustomizer infrasApiPageSignalCodecCustomizer(PageSignalJsonEncoder pageSignalJsonEncoder) {
+        return configurer -> configurer.customCodecs().register(pageSignalJsonEncoder);
+    }
+}
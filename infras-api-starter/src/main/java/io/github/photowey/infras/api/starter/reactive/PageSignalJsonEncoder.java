@@ -0,0 +1,151 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.starter.reactive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.photowey.infras.api.core.jackson.PageResultEnvelopeWriter;
+import io.github.photowey.infras.api.core.meta.Meta;
+import io.github.photowey.infras.api.core.reactive.PagePublisher;
+import io.github.photowey.infras.api.core.reactive.PageSignal;
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.Encoder;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@code PageSignalJsonEncoder}
+ * <p>
+ * Encodes a stream of {@link PageSignal}s, e.g. a {@link PagePublisher}, as the regular {@code PageResult} JSON envelope,
+ * writing each item as soon as it is emitted instead of collecting the page first:
+ * <pre>
+ * &#64;GetMapping("/orders")
+ * public Publisher&lt;PageSignal&lt;Order&gt;&gt; orders(OrderQuery query) {
+ *     return PagePublisher.of(meta, pages).executor(exportExecutor);
+ * }
+ * </pre>
+ * Declare the handler return type as {@code Publisher<PageSignal<T>>} (or {@code Flux<PageSignal<T>>}),
+ * since WebFlux takes the element type from the first type argument of the return type.
+ * Streaming media types such as {@code application/x-ndjson} are left to the Jackson encoder,
+ * which writes one {@link PageSignal} per line.
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public class PageSignalJsonEncoder implements Encoder<PageSignal<?>> {
+
+    private static final List<MimeType> MIME_TYPES = Collections.unmodifiableList(Arrays.asList(
+            MimeTypeUtils.APPLICATION_JSON,
+            new MimeType("application", "*+json")
+    ));
+
+    private final PageResultEnvelopeWriter writer;
+
+    public PageSignalJsonEncoder(ObjectMapper mapper) {
+        this.writer = PageResultEnvelopeWriter.of(mapper);
+    }
+
+    // ----------------------------------------------------------------
+
+    @Override
+    public boolean canEncode(ResolvableType elementType, MimeType mimeType) {
+        if (!PageSignal.class.isAssignableFrom(elementType.toClass())) {
+            return false;
+        }
+        if (null == mimeType) {
+            return true;
+        }
+        for (MimeType candidate : MIME_TYPES) {
+            if (candidate.isCompatibleWith(mimeType)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @Override
+    public Flux<DataBuffer> encode(Publisher<? extends PageSignal<?>> inputStream, DataBufferFactory bufferFactory,
+                                   ResolvableType elementType, MimeType mimeType, Map<String, Object> hints) {
+        return Flux.defer(() -> {
+            Envelope envelope = new Envelope();
+            return Flux.from(inputStream)
+                    .map(signal -> bufferFactory.wrap(envelope.write(signal)))
+                    .concatWith(Mono.fromSupplier(() -> bufferFactory.wrap(envelope.close())));
+        });
+    }
+
+    @Override
+    public List<MimeType> getEncodableMimeTypes() {
+        return MIME_TYPES;
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * The envelope state of one response.
+     */
+    private final class Envelope {
+
+        private Meta meta;
+        private Map<String, Object> additional;
+        private boolean first = true;
+
+        byte[] write(PageSignal<?> signal) {
+            if (signal.determineIsMeta()) {
+                if (null != this.meta) {
+                    throw new IllegalStateException("The page signals must carry a single meta");
+                }
+
+                this.meta = signal.meta();
+                this.additional = signal.additional();
+                return PageSignalJsonEncoder.this.writer.writeHead(this.meta);
+            }
+            if (null == this.meta) {
+                throw new IllegalStateException("The page signals must start with the meta");
+            }
+
+            byte[] bytes = PageSignalJsonEncoder.this.writer.writeItem(signal.item(), this.first);
+            this.first = false;
+
+            return bytes;
+        }
+
+        byte[] close() {
+            if (null == this.meta) {
+                Meta empty = Meta.unmodifiableDefault();
+                byte[] head = PageSignalJsonEncoder.this.writer.writeHead(empty);
+                byte[] tail = PageSignalJsonEncoder.this.writer.writeTail(empty, Collections.emptyMap());
+                byte[] page = Arrays.copyOf(head, head.length + tail.length);
+                System.arraycopy(tail, 0, page, head.length, tail.length);
+
+                return page;
+            }
+
+            return PageSignalJsonEncoder.this.writer.writeTail(this.meta, this.additional);
+        }
+    }
+}
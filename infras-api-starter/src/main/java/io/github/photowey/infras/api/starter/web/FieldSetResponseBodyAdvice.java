@@ -0,0 +1,100 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.starter.web;
+
+import io.github.photowey.infras.api.core.jackson.FieldSet;
+import io.github.photowey.infras.api.core.jackson.FieldSetFilterProvider;
+import io.github.photowey.infras.api.core.model.page.PageResult;
+import io.github.photowey.infras.api.core.model.page.struct.ListStruct;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * {@code FieldSetResponseBodyAdvice}
+ * <p>
+ * Applies the sparse fieldset of the request, e.g. {@code ?fields=id,name,price}, to a {@link PageResult}
+ * or {@link ListStruct} response body: the body is wrapped in a {@link MappingJacksonValue}
+ * whose filters carry the {@link FieldSet} to the {@code InfrasApiModule} serializers.
+ * A malformed field set writes every field, and so does a converter whose {@code ObjectMapper} lacks the module.
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+@ControllerAdvice
+public class FieldSetResponseBodyAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String DEFAULT_PARAMETER = "fields";
+
+    private final String parameter;
+
+    public FieldSetResponseBodyAdvice() {
+        this(DEFAULT_PARAMETER);
+    }
+
+    public FieldSetResponseBodyAdvice(String parameter) {
+        this.parameter = parameter;
+    }
+
+    // ----------------------------------------------------------------
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return AbstractJackson2HttpMessageConverter.class.isAssignableFrom(converterType);
+    }
+
+    @Override
+    public Object beforeBodyWrite(
+        Object body,
+        MethodParameter returnType,
+        MediaType selectedContentType,
+        Class<? extends HttpMessageConverter<?>> selectedConverterType,
+        ServerHttpRequest request,
+        ServerHttpResponse response) {
+        Object value = body instanceof MappingJacksonValue ? ((MappingJacksonValue) body).getValue() : body;
+        if (!(value instanceof PageResult || value instanceof ListStruct) || !(request instanceof ServletServerHttpRequest)) {
+            return body;
+        }
+
+        FieldSet fields = this.determineFields(((ServletServerHttpRequest) request).getServletRequest().getParameter(this.parameter));
+        if (null == fields) {
+            return body;
+        }
+
+        MappingJacksonValue container = body instanceof MappingJacksonValue ? (MappingJacksonValue) body : new MappingJacksonValue(body);
+        container.setFilters(new FieldSetFilterProvider(fields, container.getFilters()));
+
+        return container;
+    }
+
+    // ----------------------------------------------------------------
+
+    private FieldSet determineFields(String value) {
+        try {
+            return FieldSet.parse(value);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.starter.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.photowey.infras.api.core.jackson.InfrasApiModule;
+import io.github.photowey.infras.api.starter.jackson.InfrasApiJacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * {@code InfrasApiFieldSetAutoConfiguration}
+ * <p>
+ * The sparse fieldsets are applied by the {@link InfrasApiModule} serializers, so the advice is only registered
+ * along with the module bean. Spring Boot adds that bean to its auto-configured {@link ObjectMapper} only:
+ * an application that defines its own mapper must register the module on it, or {@code ?fields=} is ignored.
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnClass({WebMvcConfigurer.class, ObjectMapper.class})
+@AutoConfigureAfter(InfrasApiJacksonAutoConfiguration.class)
+@ConditionalOnBean(InfrasApiModule.class)
+@ConditionalOnProperty(prefix = InfrasApiFieldSetAutoConfiguration.PREFIX, name = "enabled", havingValue = "true", matchIfMissing = true)
+public class InfrasApiFieldSetAutoConfiguration {
+
+    public static final String PREFIX = "infras.api.web.fields";
+
+    @Bean
+    @ConditionalOnMissingBean
+    public FieldSetResponseBodyAdvice fieldSetResponseBodyAdvice() {
+        return new FieldSetResponseBodyAdvice();
+    }
+}
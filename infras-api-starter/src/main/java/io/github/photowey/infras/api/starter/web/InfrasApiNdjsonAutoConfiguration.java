@@ -0,0 +1,64 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.starter.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * {@code InfrasApiNdjsonAutoConfiguration}
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnClass({WebMvcConfigurer.class, ObjectMapper.class})
+@ConditionalOnProperty(prefix = InfrasApiNdjsonAutoConfiguration.PREFIX, name = "enabled", havingValue = "true", matchIfMissing = true)
+public class InfrasApiNdjsonAutoConfiguration {
+
+    public static final String PREFIX = "infras.api.web.ndjson";
+
+    @Bean
+    @ConditionalOnMissingBean
+    public PageResultNdjsonHttpMessageConverter pageResultNdjsonHttpMessageConverter(ObjectProvider<ObjectMapper> objectMapper) {
+        return new PageResultNdjsonHttpMessageConverter(objectMapper.getIfAvailable(ObjectMapper::new));
+    }
+
+    /**
+     * Appended after the defaults, so {@code application/json} stays the default for a wildcard {@code Accept} header.
+     */
+    @Bean
+    public WebMvcConfigurer infrasApiNdjsonWebMvcConfigurer(PageResultNdjsonHttpMessageConverter pageResultNdjsonHttpMessageConverter) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+                converters.add(pageResultNdjsonHttpMessageConverter);
+            }
+        };
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.starter.web;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * {@code InfrasApiWebAutoConfiguration}
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnClass(WebMvcConfigurer.class)
+@ConditionalOnProperty(prefix = InfrasApiWebAutoConfiguration.PREFIX, name = "enabled", havingValue = "true", matchIfMissing = true)
+public class InfrasApiWebAutoConfiguration {
+
+    public static final String PREFIX = "infras.api.web.pagination";
+
+    @Bean
+    @ConditionalOnMissingBean
+    public PaginationArgumentResolver paginationArgumentResolver() {
+        return new PaginationArgumentResolver();
+    }
+
+    /**
+     * Custom resolvers run after the annotation-based ones and before the catch-all model attribute binding,
+     * which is the binding the resolver replaces.
+     */
+    @Bean
+    public WebMvcConfigurer infrasApiPaginationWebMvcConfigurer(PaginationArgumentResolver paginationArgumentResolver) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+                resolvers.add(paginationArgumentResolver);
+            }
+        };
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.starter.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.photowey.infras.api.core.jackson.PageResultNdjsonWriter;
+import io.github.photowey.infras.api.core.model.page.PageResult;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+
+import java.io.IOException;
+
+/**
+ * {@code PageResultNdjsonHttpMessageConverter}
+ * <p>
+ * Writes {@link PageResult} handler return values as {@code application/x-ndjson} with {@link PageResultNdjsonWriter},
+ * when the client asks for it with {@code Accept: application/x-ndjson}. Write-only.
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public class PageResultNdjsonHttpMessageConverter extends AbstractHttpMessageConverter<PageResult<?>> {
+
+    private final PageResultNdjsonWriter writer;
+
+    public PageResultNdjsonHttpMessageConverter(ObjectMapper mapper) {
+        this(PageResultNdjsonWriter.of(mapper));
+    }
+
+    public PageResultNdjsonHttpMessageConverter(PageResultNdjsonWriter writer) {
+        super(MediaType.APPLICATION_NDJSON);
+        this.writer = writer;
+    }
+
+    // ----------------------------------------------------------------
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return PageResult.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected PageResult<?> readInternal(Class<? extends PageResult<?>> clazz, HttpInputMessage inputMessage) throws IOException {
+        throw new UnsupportedOperationException("The ndjson page result converter is write-only");
+    }
+
+    @Override
+    protected void writeInternal(PageResult<?> page, HttpOutputMessage outputMessage) throws IOException {
+        this.writer.write(page, outputMessage.getBody());
+    }
+}
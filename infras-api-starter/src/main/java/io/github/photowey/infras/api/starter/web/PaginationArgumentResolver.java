@@ -0,0 +1,286 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.starter.web;
+
+import io.github.photowey.infras.api.common.constant.InfrasConstants;
+import io.github.photowey.infras.api.common.number.NullableLongs;
+import io.github.photowey.infras.api.core.pagination.AbstractPagination;
+import org.springframework.core.MethodParameter;
+import org.springframework.web.bind.ServletRequestBindingException;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.servlet.mvc.method.annotation.ServletModelAttributeMethodProcessor;
+
+import javax.servlet.http.HttpServletRequest;
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.io.UnsupportedEncodingException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.net.URLDecoder;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * {@code PaginationArgumentResolver}
+ * <p>
+ * Binds un-annotated {@link AbstractPagination} handler arguments without a {@code WebDataBinder}:
+ * {@code pageNo}/{@code pageSize} are parsed from the raw query string straight into primitives,
+ * clamped like {@link AbstractPagination#pageNoAsLong()}/{@link AbstractPagination#pageSizeAsLong()},
+ * and set through {@link AbstractPagination#selectPageAsLong(long, long)} on an instance
+ * created by a cached constructor handle.
+ * A page rejected by the {@code PaginationPolicy} fails as a bad request.
+ * <p>
+ * The fast path applies to classes whose only writable properties are the inherited
+ * {@code pageNo}/{@code pageSize}/{@code count}; {@code count} is a query result and is never bound from the request.
+ * Any other class (e.g. one with filter fields, or overriding the page setters) goes to the
+ * regular model attribute binding, so its behaviour is unchanged. The decision is made once per class.
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public class PaginationArgumentResolver implements HandlerMethodArgumentResolver {
+
+    public static final String PAGE_NO = "pageNo";
+    public static final String PAGE_SIZE = "pageSize";
+
+    private static final String FORM_CONTENT_TYPE = "application/x-www-form-urlencoded";
+
+    private static final Set<String> BINDABLE_PROPERTIES = new HashSet<>(Arrays.asList(PAGE_NO, PAGE_SIZE, "count"));
+
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(void.class);
+    private static final MethodType FACTORY_TYPE = MethodType.methodType(AbstractPagination.class);
+
+    private final ConcurrentMap<Class<?>, Binding> bindings = new ConcurrentHashMap<>();
+    private final HandlerMethodArgumentResolver fallback;
+
+    public PaginationArgumentResolver() {
+        this(new ServletModelAttributeMethodProcessor(true));
+    }
+
+    /**
+     * @param fallback resolves the arguments the fast path does not apply to
+     */
+    public PaginationArgumentResolver(HandlerMethodArgumentResolver fallback) {
+        if (null == fallback) {
+            throw new IllegalArgumentException("The fallback argument resolver must not be null");
+        }
+
+        this.fallback = fallback;
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * Annotated arguments ({@code @RequestBody}, {@code @ModelAttribute}, {@code @Valid}...) are left to Spring.
+     */
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return AbstractPagination.class.isAssignableFrom(parameter.getParameterType())
+                && !parameter.hasParameterAnnotations();
+    }
+
+    @Override
+    public Object resolveArgument(
+            MethodParameter parameter,
+            ModelAndViewContainer mavContainer,
+            NativeWebRequest webRequest,
+            WebDataBinderFactory binderFactory) throws Exception {
+        Binding binding = this.bindings.computeIfAbsent(parameter.getParameterType(), PaginationArgumentResolver::populateBinding);
+        HttpServletRequest request = webRequest.getNativeRequest(HttpServletRequest.class);
+        if (null == binding.factory || null == request) {
+            return this.fallback.resolveArgument(parameter, mavContainer, webRequest, binderFactory);
+        }
+
+        AbstractPagination pagination = binding.newInstance();
+
+        String query = request.getQueryString();
+        long pageNo = parseParameter(request, query, PAGE_NO);
+        long pageSize = parseParameter(request, query, PAGE_SIZE);
+
+        pagination.selectPageAsLong(
+                NullableLongs.isAbsent(pageNo) ? pagination.pageNoAsLong() : Math.max(pageNo, /*1L*/InfrasConstants.Pagination.THRESHOLD_PAGE_NO),
+                NullableLongs.isAbsent(pageSize) ? pagination.pageSizeAsLong() : Math.min(pageSize, /*100L*/InfrasConstants.Pagination.THRESHOLD_PAGE_SIZE)
+        );
+        if (!pagination.policy().determineIsUnlimited() && pagination.verdict().decision().determineIsRejected()) {
+            throw new ServletRequestBindingException("The page request exceeds the max offset: " + pagination.verdict());
+        }
+        pagination.recordRequest();
+
+        return pagination;
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * @return the parsed value, or {@link NullableLongs#ABSENT} if the parameter is missing or empty
+     */
+    static long parseParameter(HttpServletRequest request, String query, String name) throws ServletRequestBindingException {
+        String value = null != query ? findQueryValue(query, name) : null;
+        if (null == value && determineIsForm(request)) {
+            value = request.getParameter(name);
+        }
+        if (null == value || value.isEmpty()) {
+            return NullableLongs.ABSENT;
+        }
+
+        return parseLong(name, value);
+    }
+
+    /**
+     * @return the raw (still encoded) value of the first {@code name} parameter, or {@code null}
+     */
+    static String findQueryValue(String query, String name) {
+        int length = query.length();
+        int start = 0;
+        while (start < length) {
+            int end = query.indexOf('&', start);
+            if (end < 0) {
+                end = length;
+            }
+
+            int nameEnd = start + name.length();
+            if (nameEnd <= end && query.startsWith(name, start)) {
+                if (nameEnd == end) {
+                    return "";
+                }
+                if ('=' == query.charAt(nameEnd)) {
+                    return query.substring(nameEnd + 1, end);
+                }
+            }
+
+            start = end + 1;
+        }
+
+        return null;
+    }
+
+    static long parseLong(String name, String value) throws ServletRequestBindingException {
+        int length = value.length();
+        boolean negative = '-' == value.charAt(0);
+        int i = negative ? 1 : 0;
+        if (i == length) {
+            throw invalidParameter(name, value);
+        }
+
+        long result = 0;
+        for (; i < length; i++) {
+            int digit = value.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return parseEncodedLong(name, value);
+            }
+            // accumulates negatively, so Long.MIN_VALUE parses as well
+            if (result < (Long.MIN_VALUE + digit) / 10) {
+                throw invalidParameter(name, value);
+            }
+            result = result * 10 - digit;
+        }
+        if (!negative && Long.MIN_VALUE == result) {
+            throw invalidParameter(name, value);
+        }
+
+        return negative ? result : -result;
+    }
+
+    private static long parseEncodedLong(String name, String value) throws ServletRequestBindingException {
+        try {
+            String decoded = URLDecoder.decode(value, "UTF-8").trim();
+            if (decoded.isEmpty()) {
+                return NullableLongs.ABSENT;
+            }
+
+            return Long.parseLong(decoded);
+        } catch (IllegalArgumentException | UnsupportedEncodingException e) {
+            throw invalidParameter(name, value);
+        }
+    }
+
+    private static ServletRequestBindingException invalidParameter(String name, String value) {
+        return new ServletRequestBindingException("Invalid pagination parameter: " + name + "=" + value);
+    }
+
+    private static boolean determineIsForm(HttpServletRequest request) {
+        String contentType = request.getContentType();
+        return null != contentType && contentType.regionMatches(true, 0, FORM_CONTENT_TYPE, 0, FORM_CONTENT_TYPE.length());
+    }
+
+    // ----------------------------------------------------------------
+
+    private static Binding populateBinding(Class<?> type) {
+        if (Modifier.isAbstract(type.getModifiers()) || !determineIsBindable(type)) {
+            return Binding.FALLBACK;
+        }
+
+        try {
+            MethodHandle constructor = MethodHandles.publicLookup().findConstructor(type, CONSTRUCTOR_TYPE);
+            return new Binding(constructor.asType(FACTORY_TYPE));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return Binding.FALLBACK;
+        }
+    }
+
+    private static boolean determineIsBindable(Class<?> type) {
+        try {
+            for (PropertyDescriptor descriptor : Introspector.getBeanInfo(type).getPropertyDescriptors()) {
+                Method setter = descriptor.getWriteMethod();
+                if (null == setter) {
+                    continue;
+                }
+                if (!BINDABLE_PROPERTIES.contains(descriptor.getName()) || AbstractPagination.class != setter.getDeclaringClass()) {
+                    return false;
+                }
+            }
+
+            return true;
+        } catch (IntrospectionException e) {
+            return false;
+        }
+    }
+
+    /**
+     * The per-class binding decision; a {@code null} factory means the fallback binding.
+     */
+    private static final class Binding {
+
+        static final Binding FALLBACK = new Binding(null);
+
+        private final MethodHandle factory;
+
+        Binding(MethodHandle factory) {
+            this.factory = factory;
+        }
+
+        AbstractPagination newInstance() {
+            try {
+                return (AbstractPagination) this.factory.invokeExact();
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException("Instantiate the pagination failed", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,233 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.infras.api.starter.web;
+
+import io.github.photowey.infras.api.common.number.NullableLongs;
+import io.github.photowey.infras.api.core.pagination.AbstractPagination;
+import io.github.photowey.infras.api.core.pagination.policy.PaginationPolicy;
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.web.bind.ServletRequestBindingException;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+import javax.servlet.http.HttpServletRequest;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * {@code PaginationArgumentResolverTest}
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public class PaginationArgumentResolverTest {
+
+    private static final Object FALLBACK = new Object();
+
+    private final PaginationArgumentResolver resolver = new PaginationArgumentResolver(new HandlerMethodArgumentResolver() {
+        @Override
+        public boolean supportsParameter(MethodParameter parameter) {
+            return true;
+        }
+
+        @Override
+        public Object resolveArgument(
+                MethodParameter parameter,
+                ModelAndViewContainer mavContainer,
+                NativeWebRequest webRequest,
+                WebDataBinderFactory binderFactory) {
+            return FALLBACK;
+        }
+    });
+
+    // ----------------------------------------------------------------
+
+    @Test
+    public void testFindQueryValue() {
+        Assert.assertEquals("3", PaginationArgumentResolver.findQueryValue("a=1&pageNo=3&pageSize=", "pageNo"));
+        Assert.assertEquals("", PaginationArgumentResolver.findQueryValue("a=1&pageNo=3&pageSize=", "pageSize"));
+        Assert.assertEquals("5", PaginationArgumentResolver.findQueryValue("pageNoX=2&pageNo=5&pageNo=6", "pageNo"));
+        Assert.assertEquals("", PaginationArgumentResolver.findQueryValue("pageNo", "pageNo"));
+        Assert.assertNull(PaginationArgumentResolver.findQueryValue("page=1&No=2", "pageNo"));
+    }
+
+    @Test
+    public void testParseLong() throws ServletRequestBindingException {
+        Assert.assertEquals(42L, PaginationArgumentResolver.parseLong("pageNo", "42"));
+        Assert.assertEquals(-7L, PaginationArgumentResolver.parseLong("pageNo", "-7"));
+        Assert.assertEquals(Long.MAX_VALUE, PaginationArgumentResolver.parseLong("pageNo", String.valueOf(Long.MAX_VALUE)));
+        Assert.assertEquals(42L, PaginationArgumentResolver.parseLong("pageNo", "%2042"));
+        Assert.assertEquals(NullableLongs.ABSENT, PaginationArgumentResolver.parseLong("pageNo", "+"));
+    }
+
+    @Test
+    public void testParseLong_invalid() {
+        for (String value : new String[]{"-", "abc", "1.5", "9223372036854775808"}) {
+            try {
+                PaginationArgumentResolver.parseLong("pageNo", value);
+                Assert.fail("Must reject: " + value);
+            } catch (ServletRequestBindingException expected) {
+                Assert.assertTrue(expected.getMessage().endsWith("pageNo=" + value));
+            }
+        }
+    }
+
+    @Test
+    public void testParseParameter_queryThenForm() throws ServletRequestBindingException {
+        HttpServletRequest query = request("pageNo=4", null, Collections.singletonMap("pageNo", "9"));
+        HttpServletRequest form = request(null, "application/x-www-form-urlencoded;charset=UTF-8", Collections.singletonMap("pageNo", "9"));
+        HttpServletRequest json = request(null, "application/json", Collections.singletonMap("pageNo", "9"));
+
+        Assert.assertEquals(4L, PaginationArgumentResolver.parseParameter(query, query.getQueryString(), "pageNo"));
+        Assert.assertEquals(9L, PaginationArgumentResolver.parseParameter(form, null, "pageNo"));
+        Assert.assertEquals(NullableLongs.ABSENT, PaginationArgumentResolver.parseParameter(json, null, "pageNo"));
+    }
+
+    // ----------------------------------------------------------------
+
+    @Test
+    public void testSupportsParameter() {
+        Assert.assertTrue(this.resolver.supportsParameter(parameter("list", Page.class)));
+        Assert.assertFalse(this.resolver.supportsParameter(parameter("annotated", Page.class)));
+        Assert.assertFalse(this.resolver.supportsParameter(parameter("other", String.class)));
+    }
+
+    @Test
+    public void testResolveArgument_clampsAndKeepsTheDefaults() throws Exception {
+        Page page = (Page) this.resolve("list", Page.class, "pageSize=500&pageNo=0");
+        Assert.assertEquals(Long.valueOf(1L), page.getPageNo());
+        Assert.assertEquals(Long.valueOf(100L), page.getPageSize());
+
+        Page defaults = (Page) this.resolve("list", Page.class, null);
+        Assert.assertEquals(Long.valueOf(1L), defaults.getPageNo());
+        Assert.assertEquals(Long.valueOf(10L), defaults.getPageSize());
+    }
+
+    @Test
+    public void testResolveArgument_extraPropertiesFallBack() throws Exception {
+        Assert.assertSame(FALLBACK, this.resolve("filtered", FilteredPage.class, "pageNo=2"));
+    }
+
+    @Test(expected = ServletRequestBindingException.class)
+    public void testResolveArgument_rejectedPage() throws Exception {
+        this.resolve("limited", LimitedPage.class, "pageNo=20&pageSize=10");
+    }
+
+    // ----------------------------------------------------------------
+
+    private Object resolve(String handler, Class<?> type, String query) throws Exception {
+        HttpServletRequest request = request(query, null, Collections.<String, String>emptyMap());
+        NativeWebRequest webRequest = (NativeWebRequest) Proxy.newProxyInstance(
+                NativeWebRequest.class.getClassLoader(),
+                new Class<?>[]{NativeWebRequest.class},
+                (proxy, method, args) -> "getNativeRequest".equals(method.getName()) && HttpServletRequest.class == args[0] ? request : null);
+
+        return this.resolver.resolveArgument(parameter(handler, type), null, webRequest, null);
+    }
+
+    private static HttpServletRequest request(String query, String contentType, Map<String, String> parameters) {
+        return (HttpServletRequest) Proxy.newProxyInstance(
+                HttpServletRequest.class.getClassLoader(),
+                new Class<?>[]{HttpServletRequest.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getQueryString":
+                            return query;
+                        case "getContentType":
+                            return contentType;
+                        case "getParameter":
+                            return parameters.get((String) args[0]);
+                        default:
+                            return null;
+                    }
+                });
+    }
+
+    private static MethodParameter parameter(String handler, Class<?> type) {
+        try {
+            Method method = Handlers.class.getDeclaredMethod(handler, type);
+            return new MethodParameter(method, 0);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    @SuppressWarnings("unused")
+    private static class Handlers {
+
+        void list(Page page) {
+        }
+
+        void annotated(@Bound Page page) {
+        }
+
+        void other(String value) {
+        }
+
+        void filtered(FilteredPage page) {
+        }
+
+        void limited(LimitedPage page) {
+        }
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target(ElementType.PARAMETER)
+    private @interface Bound {
+    }
+
+    public static class Page extends AbstractPagination {
+
+        private static final long serialVersionUID = 1L;
+    }
+
+    public static class FilteredPage extends AbstractPagination {
+
+        private static final long serialVersionUID = 1L;
+
+        private String keyword;
+
+        public String getKeyword() {
+            return keyword;
+        }
+
+        public void setKeyword(String keyword) {
+            this.keyword = keyword;
+        }
+    }
+
+    public static class LimitedPage extends AbstractPagination {
+
+        private static final long serialVersionUID = 1L;
+
+        public LimitedPage() {
+            this.policy(PaginationPolicy.builder().rejectAbove(100L).build());
+        }
+    }
+}